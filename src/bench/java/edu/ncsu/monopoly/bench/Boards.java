@@ -0,0 +1,68 @@
+package edu.ncsu.monopoly.bench;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.Cell;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.PropertyCell;
+import edu.ncsu.monopoly.sim.BoardFactory;
+import edu.ncsu.monopoly.sim.HeadlessGUI;
+
+/**
+ * Fixtures shared by the benchmarks. Boards are named by their shipped {@link BoardDefinition} so they can be
+ * passed as JMH parameters.
+ */
+final class Boards {
+    /**
+     * Every shipped board, smallest first.
+     */
+    static final String SHIPPED = "SimpleGameBoard,GameBoard14,GameBoardFull";
+
+    private Boards() {
+    }
+
+    /**
+     * Factory for a shipped board.
+     *
+     * @param name name of the board
+     * @return factory laying out fresh boards of that definition
+     */
+    static BoardFactory factory(final String name) {
+        return BoardFactory.forDefinition(BoardDefinition.forName(name));
+    }
+
+    /**
+     * Started game on a fresh board with a headless GUI.
+     *
+     * @param name            name of the board
+     * @param numberOfPlayers seats at the table
+     * @return game ready for the first player to roll
+     */
+    static GameMaster newGame(final String name, final int numberOfPlayers) {
+        GameMaster master = new GameMaster();
+        master.setGameBoard(factory(name).newGameBoard());
+        master.setGUI(new HeadlessGUI(master));
+        master.setNumberOfPlayers(numberOfPlayers);
+        for (int i = 0; i < numberOfPlayers; i++) {
+            master.getPlayer(i).setName("Player " + (i + 1));
+        }
+        master.startGame();
+        return master;
+    }
+
+    /**
+     * Color group of the first property on a board.
+     *
+     * @param board board to search
+     * @return color group name
+     */
+    static String firstColorGroup(final GameBoard board) {
+        for (int i = 0; i < board.getCellNumber(); i++) {
+            Cell cell = board.getCell(i);
+            if (cell instanceof PropertyCell) {
+                return ((PropertyCell) cell).getColorGroup();
+            }
+        }
+        throw new IllegalArgumentException("Board has no properties");
+    }
+}
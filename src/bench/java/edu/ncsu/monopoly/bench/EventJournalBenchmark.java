@@ -0,0 +1,65 @@
+package edu.ncsu.monopoly.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.monopoly.EventJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of appending to an {@link EventJournal}. The journal is started over every {@link #MAX_RECORDS} records so
+ * the file stays a reasonable size; the restart is part of the measured cost, spread over those records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventJournalBenchmark {
+    static final int MAX_RECORDS = 1 << 22;
+
+    private File file;
+    private EventJournal journal;
+    private int value;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        file = File.createTempFile("journal", ".bin");
+        journal = new EventJournal(file);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        file.delete();
+    }
+
+    /**
+     * Append one record.
+     *
+     * @return records written
+     */
+    @Benchmark
+    public long record() throws IOException {
+        if (journal.getCount() == MAX_RECORDS) {
+            tearDown();
+            setUp();
+        }
+        value++;
+        journal.record(EventJournal.EVENT_MOVE, value & 7, -1, value, value >> 3);
+        return journal.getCount();
+    }
+}
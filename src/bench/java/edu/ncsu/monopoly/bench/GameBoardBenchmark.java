@@ -0,0 +1,78 @@
+package edu.ncsu.monopoly.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.monopoly.Card;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameBoardFull;
+import edu.ncsu.monopoly.PropertyCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link GameBoard} lookups and card draws. Only {@link GameBoardFull} ships with cards, so the draws run on that
+ * board alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    /**
+     * Every shipped board and the color group of its first property.
+     */
+    @State(Scope.Thread)
+    public static class AnyBoard {
+        @Param({"SimpleGameBoard", "GameBoard14", "GameBoardFull"})
+        public String board;
+
+        GameBoard gameBoard;
+        String colorGroup;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            gameBoard = Boards.factory(board).newGameBoard();
+            colorGroup = Boards.firstColorGroup(gameBoard);
+        }
+    }
+
+    /**
+     * A {@link GameBoardFull} with both decks.
+     */
+    @State(Scope.Thread)
+    public static class FullBoard {
+        GameBoard gameBoard;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            gameBoard = new GameBoardFull();
+        }
+    }
+
+    @Benchmark
+    public PropertyCell[] getPropertiesInMonopoly(final AnyBoard board) {
+        return board.gameBoard.getPropertiesInMonopoly(board.colorGroup);
+    }
+
+    @Benchmark
+    public Card drawCCCard(final FullBoard fullBoard) {
+        return fullBoard.gameBoard.drawCCCard();
+    }
+
+    @Benchmark
+    public Card drawChanceCard(final FullBoard fullBoard) {
+        return fullBoard.gameBoard.drawChanceCard();
+    }
+}
@@ -0,0 +1,176 @@
+package edu.ncsu.monopoly.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.Die;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.PropertyCell;
+import edu.ncsu.monopoly.sim.HeadlessGUI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Moves and complete turns on every shipped board, through {@link GameMaster} and through {@link GameState}.
+ * A turn follows the script of {@link edu.ncsu.monopoly.sim.SimulatedGame}: pay bail, roll, draw, buy the cell and
+ * one house per monopoly, end the turn. A new game is started whenever a player goes bankrupt or
+ * {@link #MAX_TURNS} is reached, so a measurement covers early and late game alike.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMasterBenchmark {
+    static final int MAX_TURNS = 1000;
+    static final int PLAYERS = 2;
+
+    /**
+     * Pre-rolled dice sums for {@link #movePlayer()}, so the benchmark does not measure the random generator.
+     */
+    private static final int[] ROLLS = new int[1024];
+
+    static {
+        Random random = new Random(42);
+        for (int i = 0; i < ROLLS.length; i++) {
+            ROLLS[i] = random.nextInt(6) + random.nextInt(6) + 2;
+        }
+    }
+
+    @Param({"SimpleGameBoard", "GameBoard14", "GameBoardFull"})
+    public String board;
+
+    private GameMaster master;
+    private HeadlessGUI gui;
+    private int turns;
+    private int roll;
+
+    private GameState state;
+    private int stateTurns;
+    private final Die first = new Die();
+    private final Die second = new Die();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        newGame();
+        state = new GameState(new CompiledBoard(Boards.factory(board).newGameBoard()), PLAYERS, 1500);
+        stateTurns = 0;
+    }
+
+    private void newGame() {
+        master = Boards.newGame(board, PLAYERS);
+        gui = (HeadlessGUI) master.getGUI();
+        turns = 0;
+    }
+
+    /**
+     * {@link GameMaster#movePlayer(Player, int)} including the GUI callbacks, without landing actions.
+     *
+     * @return new position of the player
+     */
+    @Benchmark
+    public int movePlayer() {
+        Player player = master.getPlayer(0);
+        master.movePlayer(player, ROLLS[roll++ & (ROLLS.length - 1)]);
+        return player.getPositionIndex();
+    }
+
+    /**
+     * One complete turn through the {@link GameMaster} buttons.
+     *
+     * @return seat to move next
+     */
+    @Benchmark
+    public int turn() {
+        Player player = master.getCurrentPlayer();
+        if (player.isInJail()) {
+            master.btnGetOutOfJailClicked();
+        }
+        if (!player.isBankrupt()) {
+            master.btnRollDiceClicked();
+            if (gui.isDrawCardButtonEnabled()) {
+                master.btnDrawCardClicked();
+            }
+            if (gui.isPurchasePropertyButtonEnabled()) {
+                master.btnPurchasePropertyClicked();
+            }
+            buyHouses(player);
+            master.btnEndTurnClicked();
+        }
+        if (player.isBankrupt() || ++turns == MAX_TURNS) {
+            newGame();
+        }
+        return master.getCurrentPlayerIndex();
+    }
+
+    private void buyHouses(final Player player) {
+        if (!player.canBuyHouse()) {
+            return;
+        }
+        GameBoard gameBoard = master.getGameBoard();
+        String[] monopolies = player.getMonopolies();
+        for (int i = 0; i < monopolies.length; i++) {
+            PropertyCell[] cells = gameBoard.getPropertiesInMonopoly(monopolies[i]);
+            if (player.getMoney() - cells.length * cells[0].getHousePrice() >= 200) {
+                player.purchaseHouse(monopolies[i], 1);
+            }
+        }
+    }
+
+    /**
+     * The same turn on a {@link GameState}.
+     *
+     * @return seat to move next
+     */
+    @Benchmark
+    public int stateTurn() {
+        int player = state.getTurn();
+        if (state.isInJail(player)) {
+            state.getOutOfJail(player);
+        }
+        if (!state.isBankrupt(player)) {
+            state.move(player, first.getRoll() + second.getRoll());
+            if (state.canDrawCard(player)) {
+                state.drawCard(player);
+            }
+            if (state.canPurchase(player)) {
+                state.purchase(player);
+            }
+            buyHouses(player);
+            state.playAction(player, first, second);
+        }
+        if (state.isBankrupt(player) || ++stateTurns == MAX_TURNS) {
+            state.reset();
+            stateTurns = 0;
+        } else {
+            state.switchTurn();
+        }
+        return state.getTurn();
+    }
+
+    private void buyHouses(final int player) {
+        CompiledBoard compiled = state.getBoard();
+        for (int i = 0; i < state.getMonopolyCount(player); i++) {
+            int group = state.getMonopoly(player, i);
+            int cost = compiled.getGroupSize(group) * compiled.getHousePrice(compiled.getGroupCell(group, 0));
+            if (state.getMoney(player) - cost >= 200) {
+                state.purchaseHouse(player, group, 1);
+            }
+        }
+    }
+}
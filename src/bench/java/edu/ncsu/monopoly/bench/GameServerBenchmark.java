@@ -0,0 +1,72 @@
+package edu.ncsu.monopoly.bench;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.monopoly.net.Execution;
+import edu.ncsu.monopoly.net.GameServer;
+import edu.ncsu.monopoly.net.LoadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time for {@link LoadGenerator} clients to play a round of concurrent two player games on a local
+ * {@link GameServer}, for each {@link Execution}. A game on a thread of its own blocks on every command of its
+ * players, so a pool of platform threads the size of the machine plays only that many games at once while the
+ * other players wait, where virtual threads play them all. {@link Execution#VIRTUAL_THREADS} needs the benchmark
+ * to run on Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameServerBenchmark {
+    static final int TURNS = 50;
+
+    @Param({"EVENT_LOOP", "PLATFORM_POOL", "VIRTUAL_THREADS"})
+    public String execution;
+
+    @Param({"100", "1000"})
+    public int games;
+
+    private GameServer server;
+    private Thread thread;
+    private InetSocketAddress address;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        InetAddress host = InetAddress.getLoopbackAddress();
+        server = new GameServer(new InetSocketAddress(host, 0), 42, Execution.valueOf(execution),
+                Runtime.getRuntime().availableProcessors());
+        address = new InetSocketAddress(host, server.getPort());
+        thread = new Thread(server, "game-server");
+        thread.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        server.close();
+        thread.join();
+    }
+
+    @Benchmark
+    public LoadGenerator.Result playGames() throws IOException {
+        LoadGenerator generator = new LoadGenerator(address, "GameBoardFull", 2, games * 2, 0, 1, TURNS);
+        return generator.run(TimeUnit.MINUTES.toMillis(10));
+    }
+}
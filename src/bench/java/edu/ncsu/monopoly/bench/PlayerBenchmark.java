@@ -0,0 +1,90 @@
+package edu.ncsu.monopoly.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.PropertyCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Player} operations on every shipped board. The owner holds every property of the first color group of the
+ * board, so rent, monopoly and house code take their monopoly paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    @Param({"SimpleGameBoard", "GameBoard14", "GameBoardFull"})
+    public String board;
+
+    private Player owner;
+    private Player payer;
+    private String colorGroup;
+    private PropertyCell[] monopoly;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GameMaster master = Boards.newGame(board, 2);
+        GameBoard gameBoard = master.getGameBoard();
+        owner = master.getPlayer(0);
+        payer = master.getPlayer(1);
+        colorGroup = Boards.firstColorGroup(gameBoard);
+        monopoly = gameBoard.getPropertiesInMonopoly(colorGroup);
+        for (int i = 0; i < monopoly.length; i++) {
+            monopoly[i].setAvailable(false);
+            owner.buyProperty(monopoly[i], 0);
+        }
+    }
+
+    /**
+     * Two payments per operation, one each way, so neither player runs out of money.
+     *
+     * @return money of the paying player
+     */
+    @Benchmark
+    public int payRentTo() {
+        payer.payRentTo(owner, 10);
+        owner.payRentTo(payer, 10);
+        return payer.getMoney();
+    }
+
+    @Benchmark
+    public String[] getMonopolies() {
+        return owner.getMonopolies();
+    }
+
+    /**
+     * One house on every property of the monopoly. Houses are torn down once the monopoly is fully built, and money
+     * topped up, so every call takes the building path.
+     *
+     * @return houses on the first property
+     */
+    @Benchmark
+    public int purchaseHouse() {
+        if (monopoly[0].getNumHouses() == Player.MAX_MONOPOLY_HOUSES) {
+            for (int i = 0; i < monopoly.length; i++) {
+                monopoly[i].setNumHouses(0);
+            }
+            owner.setMoney(1000000);
+        }
+        owner.purchaseHouse(colorGroup, 1);
+        return monopoly[0].getNumHouses();
+    }
+}
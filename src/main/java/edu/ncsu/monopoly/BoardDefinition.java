@@ -0,0 +1,517 @@
+package edu.ncsu.monopoly;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable layout of a board parsed from a definition file: every cell in board order, every card, the
+ * prices shared by all rail roads and utilities, and the bail. A definition is parsed once; {@link #newGameBoard()} then lays
+ * out a fresh {@link GameBoard} from its tables without parsing again, so any number of games can be started from
+ * one definition.
+ * <p>A definition file is read line by line. Blank lines and lines starting with <code>#</code> are skipped; a
+ * value holding spaces is written in double quotes. The lines are:</p>
+ * <pre>
+ * board NAME                                  name of the board, first line
+ * railroads PRICE RENT                        price and base rent of every rail road, 0 if not set
+ * utilities PRICE                             price of every utility, 0 if not set
+ * bail AMOUNT                                 bail, {@link GameBoard#DEFAULT_BAIL} if not set
+ * go | jail | free-parking | go-to-jail       cell with its usual name; the first cell must be go
+ * property NAME GROUP PRICE RENT HOUSE_PRICE  property cell of a color group
+ * railroad NAME                               rail road cell
+ * utility NAME                                utility cell
+ * chance NAME | community-chest NAME          card cell
+ * card DECK money LABEL AMOUNT                card paying AMOUNT, or charging it when negative
+ * card DECK jail                              card sending the player to jail
+ * card DECK move DESTINATION                  card moving the player to the cell named DESTINATION
+ * </pre>
+ * <code>DECK</code> is <code>chance</code> or <code>community-chest</code>. Cells are laid out in the order of
+ * their lines and cards are added to their deck in the order of theirs. The boards shipped with the game are
+ * definitions under <code>edu/ncsu/monopoly/boards</code> on the class path, see {@link #forName(String)}.
+ */
+public final class BoardDefinition {
+    /**
+     * Class path directory of the shipped definitions.
+     */
+    static final String RESOURCE_PATH = "/edu/ncsu/monopoly/boards/";
+
+    /**
+     * Extension of definition files.
+     */
+    public static final String EXTENSION = ".board";
+
+    private static final String FORMER_PACKAGE = "edu.ncsu.monopoly.";
+
+    private static final byte CELL_GO = 0;
+    private static final byte CELL_JAIL = 1;
+    private static final byte CELL_FREE_PARKING = 2;
+    private static final byte CELL_GO_TO_JAIL = 3;
+    private static final byte CELL_PROPERTY = 4;
+    private static final byte CELL_RAILROAD = 5;
+    private static final byte CELL_UTILITY = 6;
+    private static final byte CELL_CHANCE = 7;
+    private static final byte CELL_COMMUNITY_CHEST = 8;
+
+    private static final byte CARD_MONEY = 0;
+    private static final byte CARD_JAIL = 1;
+    private static final byte CARD_MOVE = 2;
+
+    /**
+     * Shipped definitions by name, and definition files by path and modification time.
+     */
+    private static final ConcurrentHashMap<String, BoardDefinition> SHIPPED =
+            new ConcurrentHashMap<String, BoardDefinition>();
+    private static final ConcurrentHashMap<String, BoardDefinition> FILES =
+            new ConcurrentHashMap<String, BoardDefinition>();
+
+    private final String name;
+    private final byte[] cellKinds;
+    private final String[] cellNames;
+    private final String[] colorGroups;
+    private final int[] prices;
+    private final int[] rents;
+    private final int[] housePrices;
+
+    /**
+     * Card type of every card, {@link Card#TYPE_CHANCE} or {@link Card#TYPE_CC}.
+     */
+    private final int[] cardTypes;
+    private final byte[] cardKinds;
+
+    /**
+     * Label of every money card and destination of every move card.
+     */
+    private final String[] cardTexts;
+    private final int[] cardAmounts;
+
+    private final int railRoadPrice;
+    private final int railRoadRent;
+    private final int utilityPrice;
+    private final int bail;
+
+    private BoardDefinition(final Parser parser) {
+        name = parser.name;
+        int cells = parser.cellKinds.size();
+        cellKinds = new byte[cells];
+        cellNames = parser.cellNames.toArray(new String[cells]);
+        colorGroups = parser.colorGroups.toArray(new String[cells]);
+        prices = new int[cells];
+        rents = new int[cells];
+        housePrices = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            cellKinds[i] = parser.cellKinds.get(i).byteValue();
+            prices[i] = parser.prices.get(i).intValue();
+            rents[i] = parser.rents.get(i).intValue();
+            housePrices[i] = parser.housePrices.get(i).intValue();
+        }
+        int cards = parser.cardKinds.size();
+        cardTypes = new int[cards];
+        cardKinds = new byte[cards];
+        cardTexts = parser.cardTexts.toArray(new String[cards]);
+        cardAmounts = new int[cards];
+        for (int i = 0; i < cards; i++) {
+            cardTypes[i] = parser.cardTypes.get(i).intValue();
+            cardKinds[i] = parser.cardKinds.get(i).byteValue();
+            cardAmounts[i] = parser.cardAmounts.get(i).intValue();
+        }
+        railRoadPrice = parser.railRoadPrice;
+        railRoadRent = parser.railRoadRent;
+        utilityPrice = parser.utilityPrice;
+        bail = parser.bail;
+    }
+
+    /**
+     * Shipped board, parsed on first use and shared from then on.
+     *
+     * @param name name of the board, e.g. <code>GameBoardFull</code>
+     * @return definition of the board
+     * @throws IllegalArgumentException if no board of that name is shipped
+     */
+    public static BoardDefinition forName(final String name) {
+        BoardDefinition definition = SHIPPED.get(name);
+        if (definition != null) {
+            return definition;
+        }
+        InputStream in = BoardDefinition.class.getResourceAsStream(RESOURCE_PATH + name + EXTENSION);
+        if (in == null) {
+            throw new IllegalArgumentException("No board named " + name);
+        }
+        try {
+            try {
+                definition = parse(new InputStreamReader(in, "UTF-8"));
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Shipped board " + name + " cannot be read", e);
+        }
+        if (!definition.getName().equals(name)) {
+            throw new IllegalStateException("Shipped board " + name + " is named " + definition.getName());
+        }
+        BoardDefinition previous = SHIPPED.putIfAbsent(name, definition);
+        return previous == null ? definition : previous;
+    }
+
+    /**
+     * Definition file, parsed again only when the file has been modified since it was last loaded.
+     *
+     * @param file definition file
+     * @return definition of the board
+     * @throws IOException if the file cannot be read or is not a valid definition
+     */
+    public static BoardDefinition load(final File file) throws IOException {
+        String key = file.getCanonicalPath() + '@' + file.lastModified() + '@' + file.length();
+        BoardDefinition definition = FILES.get(key);
+        if (definition != null) {
+            return definition;
+        }
+        InputStream in = new FileInputStream(file);
+        try {
+            definition = parse(new InputStreamReader(in, "UTF-8"));
+        } finally {
+            in.close();
+        }
+        BoardDefinition previous = FILES.putIfAbsent(key, definition);
+        return previous == null ? definition : previous;
+    }
+
+    /**
+     * Board named on the command line: a definition file if one exists at that path, a shipped board otherwise.
+     * Shipped boards may also be named by the class that used to build them, e.g.
+     * <code>edu.ncsu.monopoly.GameBoardFull</code>.
+     *
+     * @param nameOrPath path of a definition file or name of a shipped board
+     * @return definition of the board
+     * @throws IOException              if the file cannot be read or is not a valid definition
+     * @throws IllegalArgumentException if there is neither such a file nor such a shipped board
+     */
+    public static BoardDefinition find(final String nameOrPath) throws IOException {
+        File file = new File(nameOrPath);
+        if (file.isFile()) {
+            return load(file);
+        }
+        if (nameOrPath.startsWith(FORMER_PACKAGE)) {
+            return forName(nameOrPath.substring(FORMER_PACKAGE.length()));
+        }
+        return forName(nameOrPath);
+    }
+
+    /**
+     * Parse a definition, without caching it.
+     *
+     * @param text definition
+     * @return parsed definition
+     * @throws IOException if the definition is not valid
+     */
+    public static BoardDefinition parse(final String text) throws IOException {
+        return parse(new StringReader(text));
+    }
+
+    /**
+     * Parse a definition, without caching it.
+     *
+     * @param reader definition, read to its end and left open
+     * @return parsed definition
+     * @throws IOException if the definition cannot be read or is not valid
+     */
+    public static BoardDefinition parse(final Reader reader) throws IOException {
+        Parser parser = new Parser();
+        BufferedReader lines = new BufferedReader(reader);
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            parser.line++;
+            parser.parseLine(line);
+        }
+        parser.finish();
+        return new BoardDefinition(parser);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCellCount() {
+        return cellKinds.length;
+    }
+
+    /**
+     * Lay out a new board.
+     *
+     * @return board with fresh cells and cards no other game references
+     */
+    public GameBoard newGameBoard() {
+        return new GameBoard(this);
+    }
+
+    /**
+     * Add the cells and cards of this definition to a board without cells, and set its prices and bail.
+     *
+     * @param board board being constructed
+     */
+    void layOut(final GameBoard board) {
+        board.setRailRoadPrice(railRoadPrice);
+        board.setRailRoadRent(railRoadRent);
+        board.setUtilityPrice(utilityPrice);
+        board.setBail(bail);
+        for (int i = 0; i < cellKinds.length; i++) {
+            switch (cellKinds[i]) {
+                case CELL_GO:
+                    board.addCell(new GoCell());
+                    break;
+                case CELL_JAIL:
+                    board.addCell(new JailCell());
+                    break;
+                case CELL_FREE_PARKING:
+                    board.addCell(new FreeParkingCell());
+                    break;
+                case CELL_GO_TO_JAIL:
+                    board.addCell(new GoToJailCell());
+                    break;
+                case CELL_PROPERTY:
+                    PropertyCell property = new PropertyCell();
+                    property.setName(cellNames[i]);
+                    property.setColorGroup(colorGroups[i]);
+                    property.setPrice(prices[i]);
+                    property.setRent(rents[i]);
+                    property.setHousePrice(housePrices[i]);
+                    board.addCell(property);
+                    break;
+                case CELL_RAILROAD:
+                    RailRoadCell railRoad = new RailRoadCell();
+                    railRoad.setName(cellNames[i]);
+                    board.addCell(railRoad);
+                    break;
+                case CELL_UTILITY:
+                    UtilityCell utility = new UtilityCell();
+                    utility.setName(cellNames[i]);
+                    board.addCell(utility);
+                    break;
+                case CELL_CHANCE:
+                    board.addCell(new CardCell(Card.TYPE_CHANCE, cellNames[i]));
+                    break;
+                default:
+                    board.addCell(new CardCell(Card.TYPE_CC, cellNames[i]));
+            }
+        }
+        for (int i = 0; i < cardKinds.length; i++) {
+            switch (cardKinds[i]) {
+                case CARD_MONEY:
+                    board.addCard(new MoneyCard(cardTexts[i], cardAmounts[i], cardTypes[i]));
+                    break;
+                case CARD_JAIL:
+                    board.addCard(new JailCard(cardTypes[i]));
+                    break;
+                default:
+                    board.addCard(new MovePlayerCard(cardTexts[i], cardTypes[i]));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Tables of a definition as its lines are read.
+     */
+    private static final class Parser {
+        private int line;
+        private String name;
+        private final ArrayList<Byte> cellKinds = new ArrayList<Byte>();
+        private final ArrayList<String> cellNames = new ArrayList<String>();
+        private final ArrayList<String> colorGroups = new ArrayList<String>();
+        private final ArrayList<Integer> prices = new ArrayList<Integer>();
+        private final ArrayList<Integer> rents = new ArrayList<Integer>();
+        private final ArrayList<Integer> housePrices = new ArrayList<Integer>();
+        private final ArrayList<Integer> cardTypes = new ArrayList<Integer>();
+        private final ArrayList<Byte> cardKinds = new ArrayList<Byte>();
+        private final ArrayList<String> cardTexts = new ArrayList<String>();
+        private final ArrayList<Integer> cardAmounts = new ArrayList<Integer>();
+        private final ArrayList<Integer> destinationLines = new ArrayList<Integer>();
+        private int railRoadPrice;
+        private int railRoadRent;
+        private int utilityPrice;
+        private int bail = GameBoard.DEFAULT_BAIL;
+
+        private void parseLine(final String text) throws IOException {
+            String[] tokens = tokenize(text);
+            if (tokens.length == 0) {
+                return;
+            }
+            String keyword = tokens[0];
+            if (name == null && !keyword.equals("board")) {
+                throw error("the first line must be: board NAME");
+            }
+            if (keyword.equals("board")) {
+                expect(tokens, 2);
+                if (name != null) {
+                    throw error("board is named twice");
+                }
+                name = tokens[1];
+            } else if (keyword.equals("railroads")) {
+                expect(tokens, 3);
+                railRoadPrice = number(tokens[1]);
+                railRoadRent = number(tokens[2]);
+            } else if (keyword.equals("utilities")) {
+                expect(tokens, 2);
+                utilityPrice = number(tokens[1]);
+            } else if (keyword.equals("bail")) {
+                expect(tokens, 2);
+                bail = number(tokens[1]);
+            } else if (keyword.equals("go")) {
+                cell(tokens, 1, CELL_GO);
+            } else if (keyword.equals("jail")) {
+                cell(tokens, 1, CELL_JAIL);
+            } else if (keyword.equals("free-parking")) {
+                cell(tokens, 1, CELL_FREE_PARKING);
+            } else if (keyword.equals("go-to-jail")) {
+                cell(tokens, 1, CELL_GO_TO_JAIL);
+            } else if (keyword.equals("property")) {
+                cell(tokens, 6, CELL_PROPERTY);
+                colorGroups.set(colorGroups.size() - 1, tokens[2]);
+                prices.set(prices.size() - 1, Integer.valueOf(number(tokens[3])));
+                rents.set(rents.size() - 1, Integer.valueOf(number(tokens[4])));
+                housePrices.set(housePrices.size() - 1, Integer.valueOf(number(tokens[5])));
+            } else if (keyword.equals("railroad")) {
+                cell(tokens, 2, CELL_RAILROAD);
+            } else if (keyword.equals("utility")) {
+                cell(tokens, 2, CELL_UTILITY);
+            } else if (keyword.equals("chance")) {
+                cell(tokens, 2, CELL_CHANCE);
+            } else if (keyword.equals("community-chest")) {
+                cell(tokens, 2, CELL_COMMUNITY_CHEST);
+            } else if (keyword.equals("card")) {
+                card(tokens);
+            } else {
+                throw error("unknown line " + keyword);
+            }
+        }
+
+        private void cell(final String[] tokens, final int length, final byte kind) throws IOException {
+            expect(tokens, length);
+            if (cellKinds.isEmpty() && kind != CELL_GO) {
+                throw error("the first cell must be go");
+            }
+            cellKinds.add(Byte.valueOf(kind));
+            cellNames.add(length > 1 ? tokens[1] : null);
+            colorGroups.add(null);
+            prices.add(Integer.valueOf(0));
+            rents.add(Integer.valueOf(0));
+            housePrices.add(Integer.valueOf(0));
+        }
+
+        private void card(final String[] tokens) throws IOException {
+            if (tokens.length < 3) {
+                throw error("expected: card DECK KIND ...");
+            }
+            int type;
+            if (tokens[1].equals("chance")) {
+                type = Card.TYPE_CHANCE;
+            } else if (tokens[1].equals("community-chest")) {
+                type = Card.TYPE_CC;
+            } else {
+                throw error("unknown deck " + tokens[1]);
+            }
+            String kind = tokens[2];
+            if (kind.equals("money")) {
+                expect(tokens, 5);
+                addCard(type, CARD_MONEY, tokens[3], number(tokens[4]));
+            } else if (kind.equals("jail")) {
+                expect(tokens, 3);
+                addCard(type, CARD_JAIL, null, 0);
+            } else if (kind.equals("move")) {
+                expect(tokens, 4);
+                addCard(type, CARD_MOVE, tokens[3], 0);
+                destinationLines.add(Integer.valueOf(line));
+            } else {
+                throw error("unknown card " + kind);
+            }
+        }
+
+        private void addCard(final int type, final byte kind, final String text, final int amount) {
+            cardTypes.add(Integer.valueOf(type));
+            cardKinds.add(Byte.valueOf(kind));
+            cardTexts.add(text);
+            cardAmounts.add(Integer.valueOf(amount));
+        }
+
+        /**
+         * Check the definition as a whole once every line has been read.
+         */
+        private void finish() throws IOException {
+            if (name == null) {
+                throw new IOException("Empty board definition");
+            }
+            if (cellKinds.isEmpty()) {
+                throw new IOException("Board " + name + " has no cells");
+            }
+            HashSet<String> names = new HashSet<String>(cellNames);
+            int move = 0;
+            for (int i = 0; i < cardKinds.size(); i++) {
+                if (cardKinds.get(i).byteValue() == CARD_MOVE) {
+                    line = destinationLines.get(move++).intValue();
+                    if (!names.contains(cardTexts.get(i))) {
+                        throw error("no cell named " + cardTexts.get(i));
+                    }
+                }
+            }
+        }
+
+        private void expect(final String[] tokens, final int length) throws IOException {
+            if (tokens.length != length) {
+                throw error(tokens[0] + " takes " + (length - 1) + " values, not " + (tokens.length - 1));
+            }
+        }
+
+        private int number(final String token) throws IOException {
+            try {
+                return Integer.parseInt(token);
+            } catch (NumberFormatException e) {
+                throw error("not a number: " + token);
+            }
+        }
+
+        private IOException error(final String message) {
+            return new IOException((name == null ? "Board" : "Board " + name) + ", line " + line + ": " + message);
+        }
+
+        /**
+         * Split a line on spaces, keeping quoted values whole.
+         */
+        private String[] tokenize(final String text) throws IOException {
+            ArrayList<String> tokens = new ArrayList<String>();
+            int i = 0;
+            int length = text.length();
+            while (i < length) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '#' && tokens.isEmpty()) {
+                    break;
+                } else if (c == '"') {
+                    int end = text.indexOf('"', i + 1);
+                    if (end < 0) {
+                        throw error("unterminated quote");
+                    }
+                    tokens.add(text.substring(i + 1, end));
+                    i = end + 1;
+                } else {
+                    int start = i;
+                    while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                        i++;
+                    }
+                    tokens.add(text.substring(start, i));
+                }
+            }
+            return tokens.toArray(new String[tokens.size()]);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package edu.ncsu.monopoly;
+
+/**
+ * {@link Die} that rolls in bulk: rolls are generated a buffer at a time in a tight loop and handed out one by
+ * one. A buffered die rolls exactly the same sequence as an unbuffered die with the same seed, so the two can be
+ * swapped without changing the replay of a game.
+ */
+public class BufferedDie extends Die {
+	/**
+	 * Rolls generated at a time by {@link #BufferedDie()}.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private final byte[] rolls;
+	private int next;
+
+	public BufferedDie() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bufferSize rolls generated at a time
+	 */
+	public BufferedDie(int bufferSize) {
+		if(bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive");
+		}
+		rolls = new byte[bufferSize];
+		next = bufferSize;
+	}
+
+	public int getRoll() {
+		if(next == rolls.length) {
+			for(int i = 0; i < rolls.length; i++) {
+				rolls[i] = (byte) super.getRoll();
+			}
+			next = 0;
+		}
+		return rolls[next++];
+	}
+
+	/**
+	 * Restart the sequence of rolls, dropping the rolls left in the buffer.
+	 *
+	 * @param seed seed of the generator, the same seed always gives the same rolls
+	 */
+	public void setSeed(long seed) {
+		super.setSeed(seed);
+		next = rolls.length;
+	}
+}
@@ -7,10 +7,26 @@ public abstract class Card {
     public static int TYPE_CHANCE = 1;
     public static int TYPE_CC = 2;
 	protected int type;
+	private GameBoard gameBoard;
 
     public abstract String getLabel();
     public abstract void applyAction();
 	public int getCardType() {
 	    return type;
 	}
+
+	/**
+	 * Game this card is played in: the game of the board whose deck it was added to. Cards that are not
+	 * in a deck of a game fall back to the single GUI game {@link GameMaster#instance()}.
+	 *
+	 * @return game to apply the action of this card to
+	 */
+	GameMaster getGameMaster() {
+		GameMaster master = gameBoard == null ? null : gameBoard.getGameMaster();
+		return master != null ? master : GameMaster.instance();
+	}
+
+	void setGameBoard(GameBoard gameBoard) {
+		this.gameBoard = gameBoard;
+	}
 }
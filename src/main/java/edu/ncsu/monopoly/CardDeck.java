@@ -0,0 +1,233 @@
+package edu.ncsu.monopoly;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Deck of cards as a circular buffer. Drawing takes the card at the top and, since every drawn card goes back
+ * under the deck, only moves the top one position: O(1) whatever the size of the deck.
+ * <p>The array of cards is never modified once built; adding, shuffling and clearing replace it. A
+ * {@link Snapshot} therefore shares the array and is taken and restored in O(1).</p>
+ * <p>Every card is numbered in the order it was added, so the order of a deck can be described by
+ * {@link #getOrder()} independently of the card objects and applied to another deck built the same way.</p>
+ */
+public final class CardDeck {
+    private static final Card[] EMPTY = new Card[0];
+    private static final int[] NO_IDS = new int[0];
+
+    private Card[] cards = EMPTY;
+
+    /**
+     * Number of every card of {@link #cards}: its position in {@link #added}.
+     */
+    private int[] ids = NO_IDS;
+
+    /**
+     * Cards in the order they were added.
+     */
+    private Card[] added = EMPTY;
+
+    /**
+     * Index of the top card in {@link #cards}.
+     */
+    private int top;
+
+    /**
+     * Add a card under the deck.
+     *
+     * @param card card to add
+     */
+    public void add(final Card card) {
+        Card[] deck = new Card[cards.length + 1];
+        int[] deckIds = new int[cards.length + 1];
+        copyInDrawOrder(deck, deckIds);
+        deck[cards.length] = card;
+        deckIds[cards.length] = added.length;
+        added = Arrays.copyOf(added, added.length + 1);
+        added[added.length - 1] = card;
+        cards = deck;
+        ids = deckIds;
+        top = 0;
+    }
+
+    /**
+     * Take the top card and put it back under the deck.
+     *
+     * @return card drawn
+     * @throws IndexOutOfBoundsException if the deck is empty
+     */
+    public Card draw() {
+        if (cards.length == 0) {
+            throw new IndexOutOfBoundsException("No cards in the deck");
+        }
+        Card card = cards[top];
+        top = top + 1 == cards.length ? 0 : top + 1;
+        return card;
+    }
+
+    /**
+     * Card at a position in draw order, without drawing it.
+     *
+     * @param index 0 for the top card
+     * @return card at that position
+     */
+    public Card get(final int index) {
+        if (index < 0 || index >= cards.length) {
+            throw new IndexOutOfBoundsException("No card at " + index);
+        }
+        int i = top + index;
+        return cards[i < cards.length ? i : i - cards.length];
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    /**
+     * Remove every card.
+     */
+    public void clear() {
+        cards = EMPTY;
+        ids = NO_IDS;
+        added = EMPTY;
+        top = 0;
+    }
+
+    /**
+     * Put the deck in a random order. The same generator state always gives the same order, see
+     * {@link GameBoard#shuffleCards(long)}.
+     *
+     * @param random source of the order
+     */
+    public void shuffle(final Random random) {
+        Card[] deck = new Card[cards.length];
+        int[] deckIds = new int[cards.length];
+        copyInDrawOrder(deck, deckIds);
+        for (int i = deck.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Card card = deck[i];
+            deck[i] = deck[j];
+            deck[j] = card;
+            int id = deckIds[i];
+            deckIds[i] = deckIds[j];
+            deckIds[j] = id;
+        }
+        cards = deck;
+        ids = deckIds;
+        top = 0;
+    }
+
+    /**
+     * Cards in draw order.
+     *
+     * @return copy of the deck, top card first
+     */
+    public Card[] toArray() {
+        Card[] deck = new Card[cards.length];
+        copyInDrawOrder(deck, new int[cards.length]);
+        return deck;
+    }
+
+    /**
+     * Order of the deck by card number.
+     *
+     * @return number of every card, top card first: 0 for the first card added, 1 for the second and so on
+     */
+    public int[] getOrder() {
+        int[] order = new int[cards.length];
+        copyInDrawOrder(new Card[cards.length], order);
+        return order;
+    }
+
+    /**
+     * Put the cards in an order obtained with {@link #getOrder()}, possibly from another deck the same cards were
+     * added to in the same order.
+     *
+     * @param order number of every card, top card first
+     * @throws IllegalArgumentException if the order does not hold every card of this deck exactly once
+     */
+    public void setOrder(final int[] order) {
+        checkOrder(order);
+        Card[] deck = new Card[order.length];
+        for (int i = 0; i < order.length; i++) {
+            deck[i] = added[order[i]];
+        }
+        cards = deck;
+        ids = order.clone();
+        top = 0;
+    }
+
+    /**
+     * Check an order can be given to {@link #setOrder(int[])}, leaving the deck alone.
+     *
+     * @param order number of every card, top card first
+     * @throws IllegalArgumentException if the order does not hold every card of this deck exactly once
+     */
+    void checkOrder(final int[] order) {
+        if (order.length != added.length) {
+            throw new IllegalArgumentException("Order of " + order.length + " cards for a deck of " + added.length);
+        }
+        boolean[] seen = new boolean[order.length];
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] < 0 || order[i] >= added.length || seen[order[i]]) {
+                throw new IllegalArgumentException("Card " + order[i] + " missing or twice in the order");
+            }
+            seen[order[i]] = true;
+        }
+    }
+
+    /**
+     * Current order of the deck.
+     *
+     * @return snapshot sharing the cards of this deck
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(cards, ids, top);
+    }
+
+    /**
+     * Put the deck back in a previous order.
+     *
+     * @param snapshot order taken with {@link #snapshot()}
+     */
+    public void restore(final Snapshot snapshot) {
+        cards = snapshot.cards;
+        ids = snapshot.ids;
+        top = snapshot.top;
+    }
+
+    private void copyInDrawOrder(final Card[] deck, final int[] deckIds) {
+        System.arraycopy(cards, top, deck, 0, cards.length - top);
+        System.arraycopy(cards, 0, deck, cards.length - top, top);
+        System.arraycopy(ids, top, deckIds, 0, ids.length - top);
+        System.arraycopy(ids, 0, deckIds, ids.length - top, top);
+    }
+
+    /**
+     * Immutable order of a {@link CardDeck}.
+     */
+    public static final class Snapshot {
+        private final Card[] cards;
+        private final int[] ids;
+        private final int top;
+
+        private Snapshot(final Card[] cards, final int[] ids, final int top) {
+            this.cards = cards;
+            this.ids = ids;
+            this.top = top;
+        }
+
+        public int size() {
+            return cards.length;
+        }
+
+        /**
+         * Position of the top card in the order the deck had when it was last added to or shuffled.
+         *
+         * @return number of draws since then, modulo the deck size
+         */
+        public int getTop() {
+            return top;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package edu.ncsu.monopoly;
 
 public abstract class Cell {
+	private GameBoard gameBoard;
 	private String name;
+	private int version;
 	public String getName() {
 		return name;
 	}
@@ -12,10 +14,55 @@ public abstract class Cell {
 
 	public abstract void playAction();
 
+	/**
+	 * Game this cell is played in: the game of the board it was added to. Cells that are not on a board
+	 * of a game fall back to the single GUI game {@link GameMaster#instance()}.
+	 *
+	 * @return game to apply actions of this cell to
+	 */
+	GameMaster getGameMaster() {
+		GameMaster master = gameBoard == null ? null : gameBoard.getGameMaster();
+		return master != null ? master : GameMaster.instance();
+	}
+
+	/**
+	 * Board this cell was added to. Cells that are not on a board yet fall back to the board of
+	 * {@link #getGameMaster()}, as they do for their game.
+	 *
+	 * @return board of the cell, null if neither the cell nor the game has one
+	 */
+	GameBoard getGameBoard() {
+		return gameBoard != null ? gameBoard : getGameMaster().getGameBoard();
+	}
+
+	void setGameBoard(GameBoard gameBoard) {
+		this.gameBoard = gameBoard;
+	}
+
 	void setName(String name) {
 		this.name = name;
 	}
 
+	/**
+	 * Stamp of what the cell shows: it changes with the owner, the availability and the houses of the cell, so a
+	 * view of the cell need only be redrawn when the stamp differs from the one it was drawn at.
+	 *
+	 * @return version of the cell
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Bump {@link #getVersion()} and that of the board, after a change of what the cell shows.
+	 */
+	protected void changed() {
+		version++;
+		if(gameBoard != null) {
+			gameBoard.cellChanged();
+		}
+	}
+
 	public String toString() {
         return name;
     }
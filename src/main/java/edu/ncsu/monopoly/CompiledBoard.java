@@ -0,0 +1,407 @@
+package edu.ncsu.monopoly;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Immutable flat copy of a {@link GameBoard} for {@link GameState}. Every cell attribute the rules read is held in
+ * its own primitive table indexed by board position, rents in a table of every situation a cell can be owned in,
+ * and both card decks as tables in draw order.
+ * Compiling reads every cell and card of the board once; a compiled board can then be shared by any number of
+ * games on any number of threads.
+ */
+public final class CompiledBoard {
+    /**
+     * Cell without an action: Go, Jail, Free Parking.
+     */
+    public static final byte CELL_NONE = 0;
+    public static final byte CELL_PROPERTY = 1;
+    public static final byte CELL_RAILROAD = 2;
+    public static final byte CELL_UTILITY = 3;
+    public static final byte CELL_CHANCE = 4;
+    public static final byte CELL_COMMUNITY_CHEST = 5;
+    public static final byte CELL_GO_TO_JAIL = 6;
+
+    /**
+     * Deck indexes for {@link #getDeckSize(int)}, {@link #getCardKind(int, int)} and {@link #getCardValue(int, int)}.
+     */
+    public static final int DECK_CHANCE = 0;
+    public static final int DECK_COMMUNITY_CHEST = 1;
+
+    /**
+     * {@link MoneyCard}, the card value is the amount of money.
+     */
+    public static final byte CARD_MONEY = 0;
+
+    /**
+     * {@link JailCard}, the card has no value.
+     */
+    public static final byte CARD_JAIL = 1;
+
+    /**
+     * {@link MovePlayerCard}, the card value is the index of the destination cell.
+     */
+    public static final byte CARD_MOVE = 2;
+
+    private final int cellCount;
+    private final String[] names;
+    private final byte[] kinds;
+    private final int[] prices;
+    private final int[] rents;
+    private final int[] housePrices;
+
+    /**
+     * Color group index of every property cell, -1 for all other cells.
+     */
+    private final int[] groups;
+
+    private final String[] groupNames;
+
+    /**
+     * Property cells of every color group in board order.
+     */
+    private final int[][] groupCells;
+
+    private final int jailIndex;
+    private final int bail;
+    private final int railRoadRent;
+
+    /**
+     * Rail road and utility cells in board order.
+     */
+    private final int[] railRoadCells;
+    private final int[] utilityCells;
+
+    /**
+     * Rent of every cell in every situation it can be owned in, a row of {@link #rentColumns} entries per cell,
+     * see {@link #getRent(int, int)}.
+     */
+    private final int[] rentTable;
+    private final int rentColumns;
+
+    private final byte[][] cardKinds;
+    private final int[][] cardValues;
+
+    /**
+     * Compile the current state of a board: its cells, its rail road base rent and bail, and both
+     * decks in their current draw order.
+     *
+     * @param board board to compile, normally a freshly constructed one
+     * @throws IllegalArgumentException if the board holds a cell or card the compiled rules do not know
+     */
+    public CompiledBoard(final GameBoard board) {
+        cellCount = board.getCellNumber();
+        names = new String[cellCount];
+        kinds = new byte[cellCount];
+        prices = new int[cellCount];
+        rents = new int[cellCount];
+        housePrices = new int[cellCount];
+        groups = new int[cellCount];
+
+        HashMap<String, Integer> groupIndexes = new HashMap<String, Integer>();
+        ArrayList<String> groupNameList = new ArrayList<String>();
+        for (int i = 0; i < cellCount; i++) {
+            Cell cell = board.getCell(i);
+            names[i] = cell.getName();
+            prices[i] = cell.getPrice();
+            groups[i] = -1;
+            kinds[i] = kindOf(cell);
+            if (cell instanceof PropertyCell) {
+                PropertyCell property = (PropertyCell) cell;
+                rents[i] = property.getBaseRent();
+                housePrices[i] = property.getHousePrice();
+                Integer group = groupIndexes.get(property.getColorGroup());
+                if (group == null) {
+                    group = Integer.valueOf(groupNameList.size());
+                    groupIndexes.put(property.getColorGroup(), group);
+                    groupNameList.add(property.getColorGroup());
+                }
+                groups[i] = group.intValue();
+            }
+        }
+
+        groupNames = groupNameList.toArray(new String[groupNameList.size()]);
+        groupCells = new int[groupNames.length][];
+        for (int g = 0; g < groupNames.length; g++) {
+            groupCells[g] = new int[board.getPropertyNumberForColor(groupNames[g])];
+        }
+        int[] filled = new int[groupNames.length];
+        for (int i = 0; i < cellCount; i++) {
+            if (groups[i] >= 0) {
+                groupCells[groups[i]][filled[groups[i]]++] = i;
+            }
+        }
+
+        jailIndex = board.queryCellIndex("Jail");
+        bail = board.getBail();
+        railRoadRent = board.getRailRoadRent();
+
+        railRoadCells = cellsOfKind(CELL_RAILROAD);
+        utilityCells = cellsOfKind(CELL_UTILITY);
+        rentColumns = Math.max(Player.MAX_MONOPOLY_HOUSES + 2, Math.max(railRoadCells.length, utilityCells.length));
+        rentTable = new int[cellCount * rentColumns];
+        for (int i = 0; i < cellCount; i++) {
+            if (kinds[i] == CELL_PROPERTY) {
+                int[] row = ((PropertyCell) board.getCell(i)).getRents();
+                System.arraycopy(row, 0, rentTable, i * rentColumns, row.length);
+            } else if (kinds[i] == CELL_RAILROAD) {
+                for (int owned = 1; owned <= railRoadCells.length; owned++) {
+                    rentTable[i * rentColumns + owned - 1] = RailRoadCell.getRent(railRoadRent, owned);
+                }
+            } else if (kinds[i] == CELL_UTILITY) {
+                for (int owned = 1; owned <= utilityCells.length; owned++) {
+                    rentTable[i * rentColumns + owned - 1] = UtilityCell.getMultiplier(owned);
+                }
+            }
+        }
+
+        cardKinds = new byte[2][];
+        cardValues = new int[2][];
+        compileDeck(board, DECK_CHANCE, board.getDeck(Card.TYPE_CHANCE).toArray());
+        compileDeck(board, DECK_COMMUNITY_CHEST, board.getDeck(Card.TYPE_CC).toArray());
+    }
+
+    private int[] cellsOfKind(final byte kind) {
+        int count = 0;
+        for (int i = 0; i < cellCount; i++) {
+            if (kinds[i] == kind) {
+                count++;
+            }
+        }
+        int[] cells = new int[count];
+        count = 0;
+        for (int i = 0; i < cellCount; i++) {
+            if (kinds[i] == kind) {
+                cells[count++] = i;
+            }
+        }
+        return cells;
+    }
+
+    private static byte kindOf(final Cell cell) {
+        if (cell instanceof PropertyCell) {
+            return CELL_PROPERTY;
+        } else if (cell instanceof RailRoadCell) {
+            return CELL_RAILROAD;
+        } else if (cell instanceof UtilityCell) {
+            return CELL_UTILITY;
+        } else if (cell instanceof CardCell) {
+            return ((CardCell) cell).getType() == Card.TYPE_CC ? CELL_COMMUNITY_CHEST : CELL_CHANCE;
+        } else if (cell instanceof GoToJailCell) {
+            return CELL_GO_TO_JAIL;
+        } else if (cell instanceof GoCell || cell instanceof JailCell || cell instanceof FreeParkingCell) {
+            return CELL_NONE;
+        }
+        throw new IllegalArgumentException("Cannot compile cell " + cell.getName() + " of " + cell.getClass());
+    }
+
+    private void compileDeck(final GameBoard board, final int deck, final Card[] cards) {
+        cardKinds[deck] = new byte[cards.length];
+        cardValues[deck] = new int[cards.length];
+        for (int i = 0; i < cards.length; i++) {
+            Card card = cards[i];
+            if (card instanceof MoneyCard) {
+                cardKinds[deck][i] = CARD_MONEY;
+                cardValues[deck][i] = ((MoneyCard) card).getAmount();
+            } else if (card instanceof JailCard) {
+                cardKinds[deck][i] = CARD_JAIL;
+            } else if (card instanceof MovePlayerCard) {
+                cardKinds[deck][i] = CARD_MOVE;
+                cardValues[deck][i] = board.queryCellIndex(((MovePlayerCard) card).getDestination());
+            } else {
+                throw new IllegalArgumentException("Cannot compile card " + card.getLabel() + " of " + card.getClass());
+            }
+        }
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public String getName(final int cell) {
+        return names[cell];
+    }
+
+    /**
+     * What landing on a cell does.
+     *
+     * @param cell board index
+     * @return one of the <code>CELL_</code> constants
+     */
+    public byte getKind(final int cell) {
+        return kinds[cell];
+    }
+
+    public int getPrice(final int cell) {
+        return prices[cell];
+    }
+
+    /**
+     * Rent of a property without monopoly or houses.
+     *
+     * @param cell board index
+     * @return base rent, 0 for cells that are not properties
+     */
+    public int getRent(final int cell) {
+        return rents[cell];
+    }
+
+    /**
+     * Rent of a cell from its rent table. The column of a property is {@link #getPropertyColumn(int, boolean)};
+     * the column of a rail road is the number of rail roads its owner holds less one; the column of a utility is the
+     * number of utilities its owner holds less one, and the entry the multiplier of the dice roll.
+     *
+     * @param cell   board index
+     * @param column situation of the cell, less than {@link #getRentColumns()}
+     * @return rent, or utility multiplier; 0 for cells without rent
+     */
+    public int getRent(final int cell, final int column) {
+        return rentTable[cell * rentColumns + column];
+    }
+
+    public int getRentColumns() {
+        return rentColumns;
+    }
+
+    /**
+     * Column of the rent table of a property, see {@link PropertyCell#getRent()}.
+     *
+     * @param houses   houses on the property
+     * @param monopoly does the owner hold every property of the color group?
+     * @return column for {@link #getRent(int, int)}
+     */
+    public static int getPropertyColumn(final int houses, final boolean monopoly) {
+        if (houses > 0) {
+            return houses + 1;
+        }
+        return monopoly ? 1 : 0;
+    }
+
+    public int getRailRoadCount() {
+        return railRoadCells.length;
+    }
+
+    /**
+     * Rail road of the board.
+     *
+     * @param i ordinal of the rail road, in board order
+     * @return board index of the rail road
+     */
+    public int getRailRoadCell(final int i) {
+        return railRoadCells[i];
+    }
+
+    public int getUtilityCount() {
+        return utilityCells.length;
+    }
+
+    /**
+     * Utility of the board.
+     *
+     * @param i ordinal of the utility, in board order
+     * @return board index of the utility
+     */
+    public int getUtilityCell(final int i) {
+        return utilityCells[i];
+    }
+
+    public int getHousePrice(final int cell) {
+        return housePrices[cell];
+    }
+
+    /**
+     * Color group of a property.
+     *
+     * @param cell board index
+     * @return index of the color group, -1 for cells that are not properties
+     */
+    public int getGroup(final int cell) {
+        return groups[cell];
+    }
+
+    public int getGroupCount() {
+        return groupNames.length;
+    }
+
+    public String getGroupName(final int group) {
+        return groupNames[group];
+    }
+
+    /**
+     * Color group of a name.
+     *
+     * @param colorGroup name of the color group, as in {@link PropertyCell#getColorGroup()}
+     * @return index of the color group, -1 if the board has no such group
+     */
+    public int findGroup(final String colorGroup) {
+        for (int group = 0; group < groupNames.length; group++) {
+            if (groupNames[group].equals(colorGroup)) {
+                return group;
+            }
+        }
+        return -1;
+    }
+
+    public int getGroupSize(final int group) {
+        return groupCells[group].length;
+    }
+
+    /**
+     * Property of a color group.
+     *
+     * @param group color group index
+     * @param i     ordinal of the property within the group, in board order
+     * @return board index of the property
+     */
+    public int getGroupCell(final int group, final int i) {
+        return groupCells[group][i];
+    }
+
+    /**
+     * Cell players are sent to by {@link GoToJailCell} and {@link JailCard}.
+     *
+     * @return board index of the "Jail" cell, -1 if the board has none
+     */
+    public int getJailIndex() {
+        return jailIndex;
+    }
+
+    public int getBail() {
+        return bail;
+    }
+
+    /**
+     * Rent of a rail road for an owner of a single rail road, doubled for every further one.
+     *
+     * @return rail road base rent
+     */
+    public int getRailRoadRent() {
+        return railRoadRent;
+    }
+
+    public int getDeckSize(final int deck) {
+        return cardKinds[deck].length;
+    }
+
+    /**
+     * Kind of a card.
+     *
+     * @param deck {@link #DECK_CHANCE} or {@link #DECK_COMMUNITY_CHEST}
+     * @param card position of the card in the initial draw order
+     * @return one of the <code>CARD_</code> constants
+     */
+    public byte getCardKind(final int deck, final int card) {
+        return cardKinds[deck][card];
+    }
+
+    /**
+     * Amount of a money card or destination of a move card.
+     *
+     * @param deck {@link #DECK_CHANCE} or {@link #DECK_COMMUNITY_CHEST}
+     * @param card position of the card in the initial draw order
+     * @return card value, see the <code>CARD_</code> constants
+     */
+    public int getCardValue(final int deck, final int card) {
+        return cardValues[deck][card];
+    }
+}
@@ -1,7 +1,34 @@
 package edu.ncsu.monopoly;
 
+/**
+ * Six sided die rolled with its own {@link SplitMix64} generator, so dice of different games never contend on a
+ * shared generator and a seeded die always rolls the same sequence.
+ */
 public class Die {
+	private final SplitMix64 random;
+
+	public Die() {
+		this(new SplitMix64());
+	}
+
+	public Die(long seed) {
+		this(new SplitMix64(seed));
+	}
+
+	private Die(SplitMix64 random) {
+		this.random = random;
+	}
+
 	public int getRoll() {
-		return (int)(Math.random() * 6) + 1;
+		return random.nextInt(6) + 1;
+	}
+
+	/**
+	 * Restart the sequence of rolls.
+	 *
+	 * @param seed seed of the generator, the same seed always gives the same rolls
+	 */
+	public void setSeed(long seed) {
+		random.setSeed(seed);
 	}
 }
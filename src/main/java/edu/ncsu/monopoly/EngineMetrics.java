@@ -0,0 +1,267 @@
+package edu.ncsu.monopoly;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * What {@link GameMaster} and {@link Player} did, counted across every game the metrics are attached to with
+ * {@link GameMaster#setMetrics(EngineMetrics)}: turns, rolls, rent payments by cell type, purchases, houses,
+ * trades and bankruptcies, and how long every phase of a turn took. One instance is meant to be shared by all the
+ * games of a process, on any number of threads; every counter and histogram is striped so that the games do not
+ * contend on it.
+ * <p>{@link #writePrometheus(Appendable)} writes the metrics in the Prometheus text exposition format, and
+ * {@link #export(File)} writes them to a file, for instance for the textfile collector of the node exporter.</p>
+ */
+public final class EngineMetrics {
+    /**
+     * Cell types of {@link #rent(int, int)}.
+     */
+    public static final int RENT_PROPERTY = 0;
+    public static final int RENT_RAILROAD = 1;
+    public static final int RENT_UTILITY = 2;
+
+    /**
+     * Turn phases of {@link #phase(int, long)}, one per button of the GUI.
+     */
+    public static final int PHASE_ROLL = 0;
+    public static final int PHASE_DRAW_CARD = 1;
+    public static final int PHASE_PURCHASE = 2;
+    public static final int PHASE_BUY_HOUSE = 3;
+    public static final int PHASE_TRADE = 4;
+    public static final int PHASE_BAIL = 5;
+    public static final int PHASE_END_TURN = 6;
+
+    private static final String[] CELL_TYPES = {"property", "railroad", "utility"};
+    private static final String[] PHASES = {"roll", "draw_card", "purchase", "buy_house", "trade", "bail",
+            "end_turn"};
+
+    private final StripedCounter turns = new StripedCounter();
+    private final StripedCounter rolls = new StripedCounter();
+    private final StripedCounter[] rentPayments = newCounters(CELL_TYPES.length);
+    private final StripedCounter[] rentAmounts = newCounters(CELL_TYPES.length);
+    private final StripedCounter purchases = new StripedCounter();
+    private final StripedCounter houses = new StripedCounter();
+    private final StripedCounter trades = new StripedCounter();
+    private final StripedCounter bankruptcies = new StripedCounter();
+    private final LatencyHistogram[] phases = new LatencyHistogram[PHASES.length];
+
+    public EngineMetrics() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    private static StripedCounter[] newCounters(final int n) {
+        StripedCounter[] counters = new StripedCounter[n];
+        for (int i = 0; i < n; i++) {
+            counters[i] = new StripedCounter();
+        }
+        return counters;
+    }
+
+    void turn() {
+        turns.increment();
+    }
+
+    void roll() {
+        rolls.increment();
+    }
+
+    /**
+     * Count a rent payment.
+     *
+     * @param cellType one of the <code>RENT_</code> constants
+     * @param amount   rent due
+     */
+    void rent(final int cellType, final int amount) {
+        rentPayments[cellType].increment();
+        rentAmounts[cellType].add(amount);
+    }
+
+    void purchase() {
+        purchases.increment();
+    }
+
+    void house(final int count) {
+        houses.add(count);
+    }
+
+    void trade() {
+        trades.increment();
+    }
+
+    void bankruptcy() {
+        bankruptcies.increment();
+    }
+
+    /**
+     * Record the end of a turn phase.
+     *
+     * @param phase one of the <code>PHASE_</code> constants
+     * @param start {@link System#nanoTime()} at the start of the phase
+     */
+    void phase(final int phase, final long start) {
+        phases[phase].record(System.nanoTime() - start);
+    }
+
+    public long getTurns() {
+        return turns.get();
+    }
+
+    public long getRolls() {
+        return rolls.get();
+    }
+
+    /**
+     * Rent payments on a type of cell.
+     *
+     * @param cellType one of the <code>RENT_</code> constants
+     * @return number of payments
+     */
+    public long getRentPayments(final int cellType) {
+        return rentPayments[cellType].get();
+    }
+
+    /**
+     * Rent due on a type of cell, whether or not the payer could pay all of it.
+     *
+     * @param cellType one of the <code>RENT_</code> constants
+     * @return sum of the rents
+     */
+    public long getRentAmount(final int cellType) {
+        return rentAmounts[cellType].get();
+    }
+
+    public long getPurchases() {
+        return purchases.get();
+    }
+
+    /**
+     * Houses built, one per house on every property of a monopoly.
+     *
+     * @return number of houses
+     */
+    public long getHouses() {
+        return houses.get();
+    }
+
+    public long getTrades() {
+        return trades.get();
+    }
+
+    public long getBankruptcies() {
+        return bankruptcies.get();
+    }
+
+    /**
+     * Durations of a turn phase, from the click of its button until the engine is done with it, dialogs included.
+     *
+     * @param phase one of the <code>PHASE_</code> constants
+     * @return histogram of the phase
+     */
+    public LatencyHistogram getPhase(final int phase) {
+        return phases[phase];
+    }
+
+    /**
+     * Write every metric in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void writePrometheus(final Appendable out) throws IOException {
+        counter(out, "monopoly_turns_total", "Player turns started.", turns.get());
+        counter(out, "monopoly_rolls_total", "Dice rolls of players.", rolls.get());
+        header(out, "monopoly_rent_payments_total", "Rent payments by type of cell.", "counter");
+        for (int i = 0; i < CELL_TYPES.length; i++) {
+            sample(out, "monopoly_rent_payments_total", "cell_type", CELL_TYPES[i], rentPayments[i].get());
+        }
+        header(out, "monopoly_rent_due_total", "Rent due by type of cell.", "counter");
+        for (int i = 0; i < CELL_TYPES.length; i++) {
+            sample(out, "monopoly_rent_due_total", "cell_type", CELL_TYPES[i], rentAmounts[i].get());
+        }
+        counter(out, "monopoly_purchases_total", "Cells bought from the bank.", purchases.get());
+        counter(out, "monopoly_houses_total", "Houses built.", houses.get());
+        counter(out, "monopoly_trades_total", "Trades completed.", trades.get());
+        counter(out, "monopoly_bankruptcies_total", "Players gone bankrupt.", bankruptcies.get());
+
+        header(out, "monopoly_turn_phase_seconds", "Time the engine took for a phase of a turn.", "histogram");
+        for (int i = 0; i < PHASES.length; i++) {
+            LatencyHistogram histogram = phases[i];
+            String labels = "phase=\"" + PHASES[i] + "\",le=\"";
+            long cumulative = 0;
+            for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+                cumulative += histogram.getCount(bucket);
+                out.append("monopoly_turn_phase_seconds_bucket{").append(labels)
+                        .append(String.valueOf(LatencyHistogram.getUpperBound(bucket) / 1e9)).append("\"} ")
+                        .append(String.valueOf(cumulative)).append('\n');
+            }
+            cumulative += histogram.getCount(LatencyHistogram.BUCKETS);
+            out.append("monopoly_turn_phase_seconds_bucket{").append(labels).append("+Inf\"} ")
+                    .append(String.valueOf(cumulative)).append('\n');
+            out.append("monopoly_turn_phase_seconds_sum{phase=\"").append(PHASES[i]).append("\"} ")
+                    .append(String.valueOf(histogram.getSum() / 1e9)).append('\n');
+            out.append("monopoly_turn_phase_seconds_count{phase=\"").append(PHASES[i]).append("\"} ")
+                    .append(String.valueOf(cumulative)).append('\n');
+        }
+    }
+
+    /**
+     * Metrics in the Prometheus text exposition format.
+     *
+     * @return text of {@link #writePrometheus(Appendable)}
+     */
+    public String toPrometheusText() {
+        StringBuilder buf = new StringBuilder();
+        try {
+            writePrometheus(buf);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Write the metrics to a file in the Prometheus text format. The text goes to a temporary file next to it that
+     * then replaces the file, so a scraper never reads half a file.
+     *
+     * @param file file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void export(final File file) throws IOException {
+        File temporary = new File(file.getPath() + ".tmp");
+        Writer out = new OutputStreamWriter(new FileOutputStream(temporary), "UTF-8");
+        try {
+            writePrometheus(out);
+        } finally {
+            out.close();
+        }
+        if (!temporary.renameTo(file)) {
+            file.delete();
+            if (!temporary.renameTo(file)) {
+                throw new IOException("Cannot replace " + file);
+            }
+        }
+    }
+
+    private static void counter(final Appendable out, final String name, final String help, final long value)
+            throws IOException {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(String.valueOf(value)).append('\n');
+    }
+
+    private static void header(final Appendable out, final String name, final String help, final String type)
+            throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(final Appendable out, final String name, final String label, final String value,
+                               final long count) throws IOException {
+        out.append(name).append('{').append(label).append("=\"").append(value).append("\"} ")
+                .append(String.valueOf(count)).append('\n');
+    }
+}
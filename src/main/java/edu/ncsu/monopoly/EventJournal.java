@@ -0,0 +1,227 @@
+package edu.ncsu.monopoly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * Append-only binary journal of the events of a game, written through a memory mapped file. Attach one to a game
+ * with {@link GameMaster#setJournal(EventJournal)} and read it back with {@link EventJournalReader}.
+ * <p>The file starts with a {@link #HEADER_SIZE} byte header followed by {@link #RECORD_SIZE} byte records:</p>
+ * <table summary="Record layout">
+ * <tr><th>Offset</th><th>Type</th><th>Field</th></tr>
+ * <tr><td>0</td><td>byte</td><td>event, one of the <code>EVENT_</code> constants</td></tr>
+ * <tr><td>1</td><td>byte</td><td>player the event is about, -1 for none</td></tr>
+ * <tr><td>2</td><td>byte</td><td>other player involved, -1 for none or the bank</td></tr>
+ * <tr><td>3</td><td>byte</td><td>unused, 0</td></tr>
+ * <tr><td>4</td><td>int</td><td>turn, the number of {@link #EVENT_TURN} events up to this one</td></tr>
+ * <tr><td>8</td><td>int</td><td>first value, see the <code>EVENT_</code> constants</td></tr>
+ * <tr><td>12</td><td>int</td><td>second value</td></tr>
+ * </table>
+ * <p>Writing a record is a handful of stores into mapped memory; the operating system writes the pages out on its
+ * own, so a crash of the process loses nothing. {@link #flush()} forces the records written so far to disk, which
+ * makes them survive a crash of the machine as well. The event byte of a record is written last: a record whose
+ * event is 0 was never completely written and ends the journal.</p>
+ * <p>Not thread safe: a journal belongs to one game.</p>
+ */
+public final class EventJournal {
+    static final int MAGIC = 0x4d4a4e4c;
+    static final short VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 16;
+
+    /**
+     * Records mapped at a time; the file grows by this many records whenever the mapped ones are used up.
+     */
+    static final int REGION_RECORDS = 1 << 16;
+
+    // header offsets
+    static final int HEADER_MAGIC = 0;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_RECORD_SIZE = 6;
+    static final int HEADER_FLUSHED = 8;
+
+    /**
+     * Dice rolled by {@link GameMaster#btnRollDiceClicked()}: first die, second die.
+     */
+    public static final byte EVENT_ROLL = 1;
+
+    /**
+     * Player moved by {@link GameMaster#movePlayer(Player, int)}: number of cells moved, board index reached. The
+     * player collected the Go bonus if the move wrapped around the board.
+     */
+    public static final byte EVENT_MOVE = 2;
+
+    /**
+     * Card drawn by {@link GameMaster#btnDrawCardClicked()}: card type, money the card paid the player (negative if
+     * the player paid, 0 if the card moves the player, which is journaled as its own event).
+     */
+    public static final byte EVENT_CARD = 3;
+
+    /**
+     * Rent paid by {@link Player#payRentTo(Player, int)} to the other player: rent due, board index the player is on.
+     */
+    public static final byte EVENT_RENT = 4;
+
+    /**
+     * Cell bought by {@link Player#purchase()}: board index, price.
+     */
+    public static final byte EVENT_PURCHASE = 5;
+
+    /**
+     * Houses bought on one property by {@link Player#purchaseHouse(String, int)}: board index, houses added.
+     */
+    public static final byte EVENT_HOUSE = 6;
+
+    /**
+     * Cell bought from the other player by {@link GameMaster#completeTrade(TradeDeal)}: board index, amount paid.
+     */
+    public static final byte EVENT_TRADE = 7;
+
+    /**
+     * Player sent to jail by {@link GameMaster#sendToJail(Player)}: board index left, board index of the jail.
+     */
+    public static final byte EVENT_JAIL = 8;
+
+    /**
+     * Bail paid by {@link Player#getOutOfJail()}: bail, 0.
+     */
+    public static final byte EVENT_BAIL = 9;
+
+    /**
+     * Turn passed to the player by {@link GameMaster#switchTurn()}: 0, 0.
+     */
+    public static final byte EVENT_TURN = 10;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer region;
+
+    /**
+     * Regions filled since the last {@link #flush()}, other than {@link #region}.
+     */
+    private final ArrayList<MappedByteBuffer> unflushed = new ArrayList<MappedByteBuffer>();
+
+    /**
+     * Index of the first record of {@link #region}.
+     */
+    private long regionStart;
+
+    private long count;
+    private long flushed;
+    private int turn;
+
+    /**
+     * Create a journal, replacing any existing file.
+     *
+     * @param path file to write
+     * @throws IOException if the file cannot be created
+     */
+    public EventJournal(final File path) throws IOException {
+        file = new RandomAccessFile(path, "rw");
+        file.setLength(0);
+        channel = file.getChannel();
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(HEADER_MAGIC, MAGIC);
+        header.putShort(HEADER_VERSION, VERSION);
+        header.putShort(HEADER_RECORD_SIZE, (short) RECORD_SIZE);
+        header.putLong(HEADER_FLUSHED, 0);
+        mapRegion(0);
+    }
+
+    private void mapRegion(final long start) throws IOException {
+        if (region != null) {
+            unflushed.add(region);
+        }
+        region = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + start * RECORD_SIZE,
+                (long) REGION_RECORDS * RECORD_SIZE);
+        regionStart = start;
+    }
+
+    /**
+     * Append a record.
+     *
+     * @param event  one of the <code>EVENT_</code> constants
+     * @param player seat of the player the event is about, -1 for none
+     * @param other  seat of the other player involved, -1 for none
+     * @param first  first value of the event
+     * @param second second value of the event
+     * @throws IllegalStateException if the file cannot grow
+     */
+    public void record(final byte event, final int player, final int other, final int first, final int second) {
+        if (count - regionStart == REGION_RECORDS) {
+            try {
+                mapRegion(count);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot extend journal", e);
+            }
+        }
+        if (event == EVENT_TURN) {
+            turn++;
+        }
+        int offset = (int) (count - regionStart) * RECORD_SIZE;
+        region.put(offset + 1, (byte) player);
+        region.put(offset + 2, (byte) other);
+        region.putInt(offset + 4, turn);
+        region.putInt(offset + 8, first);
+        region.putInt(offset + 12, second);
+        region.put(offset, event);
+        count++;
+    }
+
+    /**
+     * Force every record written so far to disk.
+     */
+    public void flush() {
+        for (int i = 0; i < unflushed.size(); i++) {
+            unflushed.get(i).force();
+        }
+        unflushed.clear();
+        region.force();
+        flushed = count;
+        header.putLong(HEADER_FLUSHED, flushed);
+        header.force();
+    }
+
+    /**
+     * Flush and cut the file down to the records written.
+     *
+     * @throws IOException if the file cannot be truncated or closed
+     */
+    public void close() throws IOException {
+        flush();
+        channel.truncate(HEADER_SIZE + count * RECORD_SIZE);
+        file.close();
+    }
+
+    /**
+     * Records written.
+     *
+     * @return number of records appended so far
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Records guaranteed to be on disk.
+     *
+     * @return number of records written before the last {@link #flush()}
+     */
+    public long getFlushedCount() {
+        return flushed;
+    }
+
+    /**
+     * Current turn.
+     *
+     * @return number of {@link #EVENT_TURN} records written
+     */
+    public int getTurn() {
+        return turn;
+    }
+}
@@ -0,0 +1,167 @@
+package edu.ncsu.monopoly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Cursor over the records of an {@link EventJournal} file. The cursor does not allocate per record: {@link #next()}
+ * moves it and the getters read the fields of the current record.
+ * <p>A journal left behind by a crashed process is read up to its last complete record.</p>
+ */
+public final class EventJournalReader {
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long count;
+    private final long flushed;
+
+    private MappedByteBuffer region;
+    private long regionStart = -1;
+
+    /**
+     * Index of the current record, -1 before the first call to {@link #next()}.
+     */
+    private long index = -1;
+    private int offset;
+
+    /**
+     * Open a journal.
+     *
+     * @param path file written by an {@link EventJournal}
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public EventJournalReader(final File path) throws IOException {
+        file = new RandomAccessFile(path, "r");
+        channel = file.getChannel();
+        if (channel.size() < EventJournal.HEADER_SIZE) {
+            file.close();
+            throw new IOException(path + " is not an event journal");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, EventJournal.HEADER_SIZE);
+        if (header.getInt(EventJournal.HEADER_MAGIC) != EventJournal.MAGIC
+                || header.getShort(EventJournal.HEADER_RECORD_SIZE) != EventJournal.RECORD_SIZE) {
+            file.close();
+            throw new IOException(path + " is not an event journal");
+        }
+        if (header.getShort(EventJournal.HEADER_VERSION) > EventJournal.VERSION) {
+            file.close();
+            throw new IOException(path + " is journal version " + header.getShort(EventJournal.HEADER_VERSION));
+        }
+        flushed = header.getLong(EventJournal.HEADER_FLUSHED);
+
+        // records written but not flushed are valid as long as they are complete
+        long capacity = (channel.size() - EventJournal.HEADER_SIZE) / EventJournal.RECORD_SIZE;
+        long complete = Math.min(flushed, capacity);
+        while (complete < capacity && eventAt(complete) != 0) {
+            complete++;
+        }
+        count = complete;
+    }
+
+    private byte eventAt(final long record) throws IOException {
+        map(record);
+        return region.get((int) (record - regionStart) * EventJournal.RECORD_SIZE);
+    }
+
+    private void map(final long record) throws IOException {
+        long start = record - record % EventJournal.REGION_RECORDS;
+        if (start != regionStart) {
+            long size = Math.min(EventJournal.REGION_RECORDS,
+                    (channel.size() - EventJournal.HEADER_SIZE) / EventJournal.RECORD_SIZE - start);
+            region = channel.map(FileChannel.MapMode.READ_ONLY,
+                    EventJournal.HEADER_SIZE + start * EventJournal.RECORD_SIZE, size * EventJournal.RECORD_SIZE);
+            regionStart = start;
+        }
+    }
+
+    /**
+     * Complete records in the journal.
+     *
+     * @return number of records that can be read
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Records the writer had flushed, and that would have survived a crash of the machine.
+     *
+     * @return number of records flushed
+     */
+    public long getFlushedCount() {
+        return flushed;
+    }
+
+    /**
+     * Move to the next record.
+     *
+     * @return false if there are no more records
+     * @throws IOException if the file cannot be read
+     */
+    public boolean next() throws IOException {
+        if (index + 1 >= count) {
+            return false;
+        }
+        seek(index + 1);
+        return true;
+    }
+
+    /**
+     * Move to a record.
+     *
+     * @param record index of the record, 0 for the first one
+     * @throws IOException if the file cannot be read
+     */
+    public void seek(final long record) throws IOException {
+        if (record < 0 || record >= count) {
+            throw new IndexOutOfBoundsException("No record " + record + " in a journal of " + count);
+        }
+        map(record);
+        index = record;
+        offset = (int) (record - regionStart) * EventJournal.RECORD_SIZE;
+    }
+
+    /**
+     * Index of the current record.
+     *
+     * @return record index, -1 before the first call to {@link #next()}
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Event of the current record.
+     *
+     * @return one of the <code>EVENT_</code> constants of {@link EventJournal}
+     */
+    public byte getEvent() {
+        return region.get(offset);
+    }
+
+    public int getPlayer() {
+        return region.get(offset + 1);
+    }
+
+    public int getOther() {
+        return region.get(offset + 2);
+    }
+
+    public int getTurn() {
+        return region.getInt(offset + 4);
+    }
+
+    public int getFirst() {
+        return region.getInt(offset + 8);
+    }
+
+    public int getSecond() {
+        return region.getInt(offset + 12);
+    }
+
+    public void close() throws IOException {
+        file.close();
+    }
+}
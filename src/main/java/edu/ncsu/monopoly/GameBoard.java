@@ -1,23 +1,53 @@
 package edu.ncsu.monopoly;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.Random;
 
 public class GameBoard {
 
+	/**
+	 * Bail on a board that does not set its own, see {@link #setBail(int)}.
+	 */
+	public static final int DEFAULT_BAIL = 50;
+
 	private ArrayList cells = new ArrayList();
-    private ArrayList chanceCards = new ArrayList();
+	//index of every cell on the board, and of the first cell added under each name.
+	private IdentityHashMap<Cell, Integer> cellIndexes = new IdentityHashMap<Cell, Integer>();
+	private HashMap<String, Integer> cellIndexesByName = new HashMap<String, Integer>();
+    private CardDeck chanceCards = new CardDeck();
 	//the key of colorGroups is the name of the color group.
 	private Hashtable colorGroups = new Hashtable();
-	private ArrayList communityChestCards = new ArrayList();
+	private CardDeck communityChestCards = new CardDeck();
 	private GameMaster gameMaster;
+	private BoardDefinition definition;
+	//prices shared by every rail road and every utility of this board.
+	private int railRoadPrice;
+	private int railRoadRent;
+	private int utilityPrice;
+	private int bail = DEFAULT_BAIL;
+	//changes of the cells of this board, see getVersion().
+	private int version;
 	
 	public GameBoard() {
 		Cell go = new GoCell();
 		addCell(go);
 	}
 
+	/**
+	 * Board laid out by a definition, see {@link BoardDefinition#newGameBoard()}.
+	 *
+	 * @param definition cells and cards of the board, starting with Go
+	 */
+	protected GameBoard(BoardDefinition definition) {
+		this.definition = definition;
+		definition.layOut(this);
+	}
+
     public void addCard(Card card) {
+        card.setGameBoard(this);
         if(card.getCardType() == Card.TYPE_CC) {
             communityChestCards.add(card);
         } else {
@@ -26,6 +56,8 @@ public class GameBoard {
     }
 	
 	public void addCell(Cell go) {
+		go.setGameBoard(this);
+		indexCell(go);
 		cells.add(go);
 	}
 	
@@ -33,23 +65,87 @@ public class GameBoard {
 		String colorGroup = cell.getColorGroup();
 		int propertyNumber = getPropertyNumberForColor(colorGroup);
 		colorGroups.put(colorGroup, new Integer(propertyNumber + 1));
+		cell.setGameBoard(this);
+		indexCell(cell);
         cells.add(cell);
 	}
 
     public Card drawCCCard() {
-        Card card = (Card)communityChestCards.get(0);
-        communityChestCards.remove(0);
-        addCard(card);
-        return card;
+        return communityChestCards.draw();
     }
 
     public Card drawChanceCard() {
-        Card card = (Card)chanceCards.get(0);
-        chanceCards.remove(0);
-        addCard(card);
-        return card;
+        return chanceCards.draw();
     }
 
+	/**
+	 * Definition this board was laid out from.
+	 *
+	 * @return definition of the board, null for a board built cell by cell
+	 */
+	public BoardDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Game this board is played in, set by {@link GameMaster#setGameBoard(GameBoard)}.
+	 *
+	 * @return owning game, null until the board is handed to a game
+	 */
+	public GameMaster getGameMaster() {
+		return gameMaster;
+	}
+
+	/**
+	 * Deck of one card type.
+	 *
+	 * @param cardType {@link Card#TYPE_CC} or {@link Card#TYPE_CHANCE}
+	 * @return the deck cards of that type are drawn from
+	 */
+	public CardDeck getDeck(int cardType) {
+		return cardType == Card.TYPE_CC ? communityChestCards : chanceCards;
+	}
+
+	/**
+	 * Money a player pays to get out of jail on this board.
+	 *
+	 * @return bail, {@link #DEFAULT_BAIL} unless set
+	 */
+	public int getBail() {
+		return bail;
+	}
+
+	/**
+	 * Stamp of the cells of the board, bumped with the {@link Cell#getVersion()} of any of them. While it stays the
+	 * same no cell needs to be redrawn.
+	 *
+	 * @return version of the board
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	void cellChanged() {
+		version++;
+	}
+
+	public int getRailRoadPrice() {
+		return railRoadPrice;
+	}
+
+	/**
+	 * Rent of a rail road whose owner has no other rail road; it doubles with every other one owned.
+	 *
+	 * @return base rent of every rail road of this board
+	 */
+	public int getRailRoadRent() {
+		return railRoadRent;
+	}
+
+	public int getUtilityPrice() {
+		return utilityPrice;
+	}
+
 	public Cell getCell(int newIndex) {
 		return (Cell)cells.get(newIndex);
 	}
@@ -90,26 +186,69 @@ public class GameBoard {
 	}
 
 	public Cell queryCell(String string) {
-		for(int i = 0; i < cells.size(); i++){
-			Cell temp = (Cell)cells.get(i); 
-			if(temp.getName().equals(string)) {
-				return temp;
-			}
-		}
-		return null;
+		int index = queryCellIndex(string);
+		return index < 0 ? null : getCell(index);
 	}
 	
 	public int queryCellIndex(String string){
-		for(int i = 0; i < cells.size(); i++){
-			Cell temp = (Cell)cells.get(i); 
-			if(temp.getName().equals(string)) {
-				return i;
-			}
+		Integer index = cellIndexesByName.get(string);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/**
+	 * Position of a cell on this board.
+	 *
+	 * @param cell cell to look up by identity
+	 * @return index of the cell, -1 if it is not on this board
+	 */
+	public int queryCellIndex(Cell cell) {
+		Integer index = cellIndexes.get(cell);
+		return index == null ? -1 : index.intValue();
+	}
+
+	private void indexCell(Cell cell) {
+		Integer index = Integer.valueOf(cells.size());
+		if(!cellIndexes.containsKey(cell)) {
+			cellIndexes.put(cell, index);
+		}
+		if(!cellIndexesByName.containsKey(cell.getName())) {
+			cellIndexesByName.put(cell.getName(), index);
 		}
-		return -1;
 	}
 
     public void removeCards() {
         communityChestCards.clear();
     }
+
+	/**
+	 * Shuffle the chance deck, then the community chest deck, with one generator. The same seed always gives
+	 * the same order for decks built the same way.
+	 *
+	 * @param seed seed of the shuffle
+	 */
+	public void shuffleCards(long seed) {
+		Random random = new Random(seed);
+		chanceCards.shuffle(random);
+		communityChestCards.shuffle(random);
+	}
+
+	public void setBail(int bail) {
+		this.bail = bail;
+	}
+
+	public void setRailRoadPrice(int railRoadPrice) {
+		this.railRoadPrice = railRoadPrice;
+	}
+
+	public void setRailRoadRent(int railRoadRent) {
+		this.railRoadRent = railRoadRent;
+	}
+
+	public void setUtilityPrice(int utilityPrice) {
+		this.utilityPrice = utilityPrice;
+	}
+
+	void setGameMaster(GameMaster gameMaster) {
+		this.gameMaster = gameMaster;
+	}
 }
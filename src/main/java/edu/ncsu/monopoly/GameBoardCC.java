@@ -1,35 +1,19 @@
-package edu.ncsu.monopoly;
-
-public class GameBoardCC extends GameBoard {
-
-	public GameBoardCC() {
-		super();
-		PropertyCell blue1 = new PropertyCell();
-		PropertyCell blue2 = new PropertyCell();
-		CardCell cc1 = new CardCell(Card.TYPE_CC, "Community Chest 1");
-		JailCell jail = new JailCell();
-		CardCell chance1 = new CardCell(Card.TYPE_CHANCE, "Chance 1");
-		
-		blue1.setName("Blue 1");
-		blue2.setName("Blue 2");
-		
-		blue1.setColorGroup("blue");
-		blue2.setColorGroup("blue");
-		
-		blue1.setPrice(100);
-		blue2.setPrice(100);
-		
-		blue1.setRent(10);
-		blue2.setRent(10);
-		
-		blue1.setHousePrice(50);
-		blue2.setHousePrice(50);
-		
-		addCell(cc1);
-		addCell(blue1);
-		addCell(jail);
-		addCell(blue2);
-		addCell(chance1);
-	}
-
-}
\ No newline at end of file
+package edu.ncsu.monopoly;
+
+/**
+ * Board laid out by the shipped definition <code>boards/GameBoardCC.board</code>, see {@link BoardDefinition}.
+ */
+public class GameBoardCC extends GameBoard {
+	public GameBoardCC() {
+		super(BoardDefinition.forName("GameBoardCC"));
+	}
+
+	/**
+	 * Board of the <code>GameBoardCC</code> kind laid out by another definition.
+	 *
+	 * @param definition cells and cards of the board
+	 */
+	protected GameBoardCC(BoardDefinition definition) {
+		super(definition);
+	}
+}
@@ -1,18 +1,10 @@
 package edu.ncsu.monopoly;
 
-
+/**
+ * Board laid out by the shipped definition <code>boards/GameBoardCCJail.board</code>, see {@link BoardDefinition}.
+ */
 public class GameBoardCCJail extends GameBoardCC {
-    
-    public GameBoardCCJail() {
-		super();
-        
-        Card ccCard1 = new JailCard(Card.TYPE_CC);
-        Card chanceCard1 = new JailCard(Card.TYPE_CHANCE);
-		
-		
-		
-		addCard(ccCard1);
-		
-		
-    }
+	public GameBoardCCJail() {
+		super(BoardDefinition.forName("GameBoardCCJail"));
+	}
 }
@@ -1,16 +1,10 @@
 package edu.ncsu.monopoly;
 
-
+/**
+ * Board laid out by the shipped definition <code>boards/GameBoardCCLoseMoney.board</code>, see {@link BoardDefinition}.
+ */
 public class GameBoardCCLoseMoney extends GameBoardCC {
-    public GameBoardCCLoseMoney() {
-		super();
-        
-        Card ccCard1 = new MoneyCard("Pay $20", -20, Card.TYPE_CC);
-        Card chanceCard1 = new MoneyCard("Pay $30", -30, Card.TYPE_CHANCE);
-		
-		
-		addCard(ccCard1);
-		
-		
-    }
+	public GameBoardCCLoseMoney() {
+		super(BoardDefinition.forName("GameBoardCCLoseMoney"));
+	}
 }
@@ -1,15 +1,10 @@
-
 package edu.ncsu.monopoly;
 
+/**
+ * Board laid out by the shipped definition <code>boards/GameBoardFreeParking.board</code>, see {@link BoardDefinition}.
+ */
 public class GameBoardFreeParking extends GameBoard {
 	public GameBoardFreeParking() {
-		super();
-		JailCell jail = new JailCell();
-		FreeParkingCell freeParking = new FreeParkingCell();
-		GoToJailCell goToJail = new GoToJailCell();
-		addCell(jail);
-		addCell(freeParking);
-		addCell(goToJail);
-
+		super(BoardDefinition.forName("GameBoardFreeParking"));
 	}
 }
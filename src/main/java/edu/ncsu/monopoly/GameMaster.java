@@ -7,10 +7,18 @@ import java.util.Iterator;
 public class GameMaster {
 
 	private static GameMaster gameMaster;
-	static final public int MAX_PLAYER = 8;	
+	static final public int MAX_PLAYER = 8;
+	/**
+	 * Streams derived from the seed of a game with {@link SplitMix64#stream(long, long)}, see {@link #setSeed(long)}.
+	 */
+	static final public int SEED_STREAM_FIRST_DIE = 0;
+	static final public int SEED_STREAM_SECOND_DIE = 1;
+	static final public int SEED_STREAM_CARDS = 2;
 	private Die[] dice;
 	private GameBoard gameBoard;
 	private MonopolyGUI gui;
+	private EventJournal journal;
+	private EngineMetrics metrics;
 	private int initAmountOfMoney;
 	private ArrayList players = new ArrayList();
 	private int turn = 0;
@@ -30,28 +38,37 @@ public class GameMaster {
 	}
 
     public void btnBuyHouseClicked() {
+        long start = phaseStart();
         gui.showBuyHouseDialog(getCurrentPlayer());
+        phaseEnd(EngineMetrics.PHASE_BUY_HOUSE, start);
     }
 
     public Card btnDrawCardClicked() {
+        long start = phaseStart();
         gui.setDrawCardEnabled(false);
         CardCell cell = (CardCell)getCurrentPlayer().getPosition();
         Card card = null;
         if(cell.getType() == Card.TYPE_CC) {
             card = getGameBoard().drawCCCard();
-            card.applyAction();
         } else {
             card = getGameBoard().drawChanceCard();
-            card.applyAction();
         }
+        if(journal != null) {
+            int amount = card instanceof MoneyCard ? ((MoneyCard)card).getAmount() : 0;
+            journal(EventJournal.EVENT_CARD, getCurrentPlayer(), null, cell.getType(), amount);
+        }
+        card.applyAction();
         gui.setEndTurnEnabled(true);
+        phaseEnd(EngineMetrics.PHASE_DRAW_CARD, start);
         return card;
     }
 
     public void btnEndTurnClicked() {
+		long start = phaseStart();
 		setAllButtonEnabled(false);
 		getCurrentPlayer().getPosition().playAction();
 		if(getCurrentPlayer().isBankrupt()) {
+			if(metrics != null) metrics.bankruptcy();
 			setAllButtonsDisabled();
 			updateGUI();
 		}
@@ -59,11 +76,14 @@ public class GameMaster {
 			switchTurn();
 			updateGUI();
 		}
+		phaseEnd(EngineMetrics.PHASE_END_TURN, start);
     }
 
     public void btnGetOutOfJailClicked() {
+		long start = phaseStart();
 		getCurrentPlayer().getOutOfJail();
 		if(getCurrentPlayer().isBankrupt()) {
+			if(metrics != null) metrics.bankruptcy();
 			setAllButtonsDisabled();
 		}
 		else {
@@ -71,6 +91,7 @@ public class GameMaster {
 			gui.setBuyHouseEnabled(getCurrentPlayer().canBuyHouse());
 			gui.setGetOutOfJailEnabled(getCurrentPlayer().isInJail());
 		}
+		phaseEnd(EngineMetrics.PHASE_BAIL, start);
     }
 
 	private void setAllButtonsDisabled() {
@@ -84,16 +105,21 @@ public class GameMaster {
 	}
 
     public void btnPurchasePropertyClicked() {
+        long start = phaseStart();
         Player player = getCurrentPlayer();
 		player.purchase();
 		gui.setPurchasePropertyEnabled(false);
 		updateGUI();
+		phaseEnd(EngineMetrics.PHASE_PURCHASE, start);
     }
     
     public void btnRollDiceClicked() {
+		long start = phaseStart();
 		int[] rolls = rollDice();
 		if((rolls[0]+rolls[1]) > 0) {
+			if(metrics != null) metrics.roll();
 			Player player = getCurrentPlayer();
+			journal(EventJournal.EVENT_ROLL, player, null, rolls[0], rolls[1]);
 			gui.setRollDiceEnabled(false);
 			StringBuffer msg = new StringBuffer();
 			msg.append(player.getName())
@@ -105,9 +131,11 @@ public class GameMaster {
 			movePlayer(player, rolls[0] + rolls[1]);
 			gui.setBuyHouseEnabled(false);
 		}
+		phaseEnd(EngineMetrics.PHASE_ROLL, start);
     }
 
     public void btnTradeClicked() {
+        long start = phaseStart();
         TradeDialog dialog = gui.openTradeDialog();
         TradeDeal deal = dialog.getTradeDeal();
         if(deal != null) {
@@ -117,13 +145,19 @@ public class GameMaster {
                 updateGUI();
             }
         }
+        phaseEnd(EngineMetrics.PHASE_TRADE, start);
     }
 
     public void completeTrade(TradeDeal deal) {
         Player seller = getPlayer(deal.getPlayerIndex());
         IOwnable property = (IOwnable) gameBoard.queryCell(deal.getPropertyName());
+        if(journal != null) {
+            journal(EventJournal.EVENT_TRADE, getCurrentPlayer(), seller,
+                    gameBoard.queryCellIndex(deal.getPropertyName()), deal.getAmount());
+        }
         seller.sellProperty(property, deal.getAmount());
         getCurrentPlayer().buyProperty(property, deal.getAmount());
+        if(metrics != null) metrics.trade();
     }
 
     public Card drawCCCard() {
@@ -167,8 +201,18 @@ public class GameMaster {
 		return (Player)players.get(index);
 	}
 	
+	/**
+	 * Seat of a player in this game, read from the id the player was given when seated.
+	 *
+	 * @param player player to look up
+	 * @return index of the player, -1 if the player is not seated in this game
+	 */
 	public int getPlayerIndex(Player player) {
-		return players.indexOf(player);
+		int id = player.getId();
+		if(id >= 0 && id < players.size() && players.get(id) == player) {
+			return id;
+		}
+		return -1;
 	}
 
     public ArrayList getSellerList() {
@@ -184,6 +228,15 @@ public class GameMaster {
 		return turn;
 	}
 
+	/**
+	 * Hand the turn to a player without any of the GUI updates of {@link #switchTurn()}, see {@link GameSnapshot}.
+	 *
+	 * @param turn index of the current player
+	 */
+	void setTurn(int turn) {
+		this.turn = turn;
+	}
+
 	public int getUtilDiceRoll() {
 		return this.utilDiceRoll;
 	}
@@ -194,13 +247,13 @@ public class GameMaster {
 	}
 	
 	public void movePlayer(Player player, int diceValue) {
-		Cell currentPosition = player.getPosition();
-		int positionIndex = gameBoard.queryCellIndex(currentPosition.getName());
+		int positionIndex = player.getPositionIndex();
 		int newIndex = (positionIndex+diceValue)%gameBoard.getCellNumber();
 		if(newIndex <= positionIndex || diceValue > gameBoard.getCellNumber()) {
 			player.setMoney(player.getMoney() + 200);
 		}
-		player.setPosition(gameBoard.getCell(newIndex));
+		player.setPositionIndex(newIndex);
+		journal(EventJournal.EVENT_MOVE, player, null, diceValue, newIndex);
 		gui.movePlayer(getPlayerIndex(player), positionIndex, newIndex);
 		playerMoved(player);
 		updateGUI();
@@ -228,7 +281,7 @@ public class GameMaster {
 	public void reset() {
 		for(int i = 0; i < getNumberOfPlayers(); i++){
 			Player player = (Player)players.get(i);
-			player.setPosition(gameBoard.getCell(0));
+			player.setPositionIndex(0);
 		}
 		if(gameBoard != null) gameBoard.removeCards();
 		turn = 0;
@@ -247,10 +300,11 @@ public class GameMaster {
 	}
 	
 	public void sendToJail(Player player) {
-	    int oldPosition = gameBoard.queryCellIndex(getCurrentPlayer().getPosition().getName());
-		player.setPosition(gameBoard.queryCell("Jail"));
-		player.setInJail(true);
+	    int oldPosition = player.getPositionIndex();
 		int jailIndex = gameBoard.queryCellIndex("Jail");
+		journal(EventJournal.EVENT_JAIL, player, null, oldPosition, jailIndex);
+		player.setPositionIndex(jailIndex);
+		player.setInJail(true);
 		gui.movePlayer(
 		        getPlayerIndex(player),
 		        oldPosition,
@@ -267,8 +321,92 @@ public class GameMaster {
         gui.setGetOutOfJailEnabled(enabled);
 	}
 
+	/**
+	 * Replace the dice of this game, e.g. with {@link BufferedDie}s.
+	 *
+	 * @param first first die of the pair
+	 * @param second second die of the pair
+	 */
+	public void setDice(Die first, Die second) {
+		dice = new Die[]{first, second};
+	}
+
+	/**
+	 * Make the game reproducible: seed both dice and shuffle both decks of the board from one seed. A game
+	 * seeded and played the same way again rolls the same dice and draws the same cards. Call after
+	 * {@link #setGameBoard(GameBoard)} and {@link #setDice(Die, Die)}.
+	 *
+	 * @param seed seed of the game
+	 */
+	public void setSeed(long seed) {
+		dice[0].setSeed(SplitMix64.stream(seed, SEED_STREAM_FIRST_DIE));
+		dice[1].setSeed(SplitMix64.stream(seed, SEED_STREAM_SECOND_DIE));
+		if(gameBoard != null) gameBoard.shuffleCards(SplitMix64.stream(seed, SEED_STREAM_CARDS));
+	}
+
+	/**
+	 * Journal every event of this game from now on.
+	 *
+	 * @param journal journal to append to, null to stop journaling
+	 */
+	public void setJournal(EventJournal journal) {
+		this.journal = journal;
+	}
+
+	public EventJournal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * Count what this game does from now on, see {@link EngineMetrics}.
+	 *
+	 * @param metrics metrics to add to, usually shared by every game of the process; null to stop counting
+	 */
+	public void setMetrics(EngineMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public EngineMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Start timing a phase of the turn.
+	 *
+	 * @return start of the phase for {@link #phaseEnd(int, long)}, 0 when nothing is counted
+	 */
+	private long phaseStart() {
+		return metrics == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Count the time a phase of the turn took, if metrics are counted.
+	 *
+	 * @param phase one of the <code>PHASE_</code> constants of {@link EngineMetrics}
+	 * @param start what {@link #phaseStart()} returned
+	 */
+	private void phaseEnd(int phase, long start) {
+		if(metrics != null) metrics.phase(phase, start);
+	}
+
+	/**
+	 * Append an event to the journal, if there is one.
+	 *
+	 * @param event one of the <code>EVENT_</code> constants of {@link EventJournal}
+	 * @param player player the event is about
+	 * @param other other player involved, null for none or the bank
+	 * @param first first value of the event
+	 * @param second second value of the event
+	 */
+	void journal(byte event, Player player, Player other, int first, int second) {
+		if(journal != null) {
+			journal.record(event, player.getId(), other == null ? -1 : other.getId(), first, second);
+		}
+	}
+
 	public void setGameBoard(GameBoard board) {
 		this.gameBoard = board;
+		if(board != null) board.setGameMaster(this);
 	}
 	
 	public void setGUI(MonopolyGUI gui) {
@@ -282,7 +420,8 @@ public class GameMaster {
 	public void setNumberOfPlayers(int number) {
 		players.clear();
 		for(int i =0;i<number;i++) {
-			Player player = new Player();
+			Player player = new Player(this);
+			player.setId(i);
 			player.setMoney(initAmountOfMoney);
 			players.add(player);
 		}
@@ -293,13 +432,37 @@ public class GameMaster {
 	}
 	
 	public void startGame() {
+		if(metrics != null) metrics.turn();
 		gui.startGame();
 		gui.enablePlayerTurn(0);
         gui.setTradeEnabled(0, true);
 	}
 
+	/**
+	 * Hand the turn to the current player again after the game has been restored from a
+	 * {@link GameSnapshot} or a {@link GameSave}: every button of the other players is disabled and the current
+	 * player starts the turn as after {@link #switchTurn()}.
+	 */
+	public void resumeGame() {
+		for(int i = 0; i < getNumberOfPlayers(); i++) {
+			gui.setTradeEnabled(i, false);
+		}
+		setAllButtonEnabled(false);
+		if(!getCurrentPlayer().isInJail()) {
+			gui.enablePlayerTurn(turn);
+			gui.setBuyHouseEnabled(getCurrentPlayer().canBuyHouse());
+			gui.setTradeEnabled(turn, true);
+		}
+		else {
+			gui.setGetOutOfJailEnabled(true);
+		}
+		updateGUI();
+	}
+
 	public void switchTurn() {
 		turn = (turn + 1) % getNumberOfPlayers();
+		if(metrics != null) metrics.turn();
+		journal(EventJournal.EVENT_TURN, getCurrentPlayer(), null, 0, 0);
 		if(!getCurrentPlayer().isInJail()) {
 			gui.enablePlayerTurn(turn);
 			gui.setBuyHouseEnabled(getCurrentPlayer().canBuyHouse());
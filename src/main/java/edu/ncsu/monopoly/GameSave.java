@@ -0,0 +1,276 @@
+package edu.ncsu.monopoly;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Saves a game in progress to a compact binary form and loads it back, for the GUI as well as for games played
+ * without one. What is saved is the state of a {@link GameSnapshot}, preceded by a header naming the board it was
+ * taken on:
+ * <pre>
+ * int     MAGIC
+ * short   VERSION
+ * UTF     board name, see {@link #getBoardName(GameBoard)}
+ * short   cells
+ * byte    players
+ * byte    turn
+ * per player:
+ *   bool    has a name, then UTF name if it has
+ *   int     money
+ *   short   position
+ *   bool    in jail
+ *   short   owned cells, then short board index of each
+ *   byte    monopolies, then UTF color group of each
+ * byte[]  availability of the cells, one bit per cell, lowest bit first
+ * byte[]  houses of every cell
+ * per deck, chance first:
+ *   short   cards, then short card number of each, see {@link CardDeck#getOrder()}
+ * </pre>
+ * All numbers are big endian as written by {@link DataOutputStream}. Like the snapshot, a save does not include the
+ * dice. A save of a later {@link #VERSION} is refused rather than guessed at.
+ */
+public final class GameSave {
+    /**
+     * First bytes of every save, "MSAV".
+     */
+    public static final int MAGIC = 0x4d534156;
+
+    /**
+     * Version of the format written.
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAX_INDEX = 0xffff;
+
+    private GameSave() {
+    }
+
+    /**
+     * Name a board is saved under.
+     *
+     * @param board board of the game
+     * @return name of the {@link BoardDefinition} of the board, class name of a board built cell by cell
+     */
+    public static String getBoardName(final GameBoard board) {
+        BoardDefinition definition = board.getDefinition();
+        return definition != null ? definition.getName() : board.getClass().getName();
+    }
+
+    /**
+     * Save a game to memory.
+     *
+     * @param master game to save
+     * @return saved game
+     */
+    public static byte[] toBytes(final GameMaster master) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try {
+            write(master, bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Save a game to a file, replacing the file.
+     *
+     * @param master game to save
+     * @param file   file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(final GameMaster master, final File file) throws IOException {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            write(master, out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Write a game to a stream.
+     *
+     * @param master game to save
+     * @param out    stream to write to, left open
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(final GameMaster master, final OutputStream out) throws IOException {
+        GameBoard board = master.getGameBoard();
+        GameSnapshot snapshot = GameSnapshot.capture(master);
+        int cells = snapshot.getCellCount();
+        if (cells > MAX_INDEX) {
+            throw new IllegalArgumentException("Cannot save a board of " + cells + " cells");
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeUTF(getBoardName(board));
+        data.writeShort(cells);
+        data.writeByte(snapshot.getNumberOfPlayers());
+        data.writeByte(snapshot.getTurn());
+
+        for (int p = 0; p < snapshot.getNumberOfPlayers(); p++) {
+            String name = snapshot.getName(p);
+            data.writeBoolean(name != null);
+            if (name != null) {
+                data.writeUTF(name);
+            }
+            data.writeInt(snapshot.getMoney(p));
+            data.writeShort(snapshot.getPosition(p));
+            data.writeBoolean(snapshot.isInJail(p));
+            writeIndexes(data, snapshot.getOwned(p));
+            String[] monopolies = snapshot.getMonopolies(p);
+            data.writeByte(monopolies.length);
+            for (int i = 0; i < monopolies.length; i++) {
+                data.writeUTF(monopolies[i]);
+            }
+        }
+
+        for (int i = 0; i < cells; i += 8) {
+            int bits = 0;
+            for (int bit = 0; bit < 8 && i + bit < cells; bit++) {
+                if (snapshot.isAvailable(i + bit)) {
+                    bits |= 1 << bit;
+                }
+            }
+            data.writeByte(bits);
+        }
+        for (int i = 0; i < cells; i++) {
+            data.writeByte(snapshot.getHouses(i));
+        }
+        writeIndexes(data, snapshot.getDeckOrder(CompiledBoard.DECK_CHANCE));
+        writeIndexes(data, snapshot.getDeckOrder(CompiledBoard.DECK_COMMUNITY_CHEST));
+        data.flush();
+    }
+
+    /**
+     * Load a game saved in memory.
+     *
+     * @param save   saved game
+     * @param master game to restore, on a board of the kind saved
+     * @throws IOException if the save is not a game on the board of the game
+     */
+    public static void load(final byte[] save, final GameMaster master) throws IOException {
+        read(new ByteArrayInputStream(save), master.getGameBoard()).restore(master);
+    }
+
+    /**
+     * Load a game saved in a file.
+     *
+     * @param file   saved game
+     * @param master game to restore, on a board of the kind saved
+     * @throws IOException if the file cannot be read or is not a game on the board of the game
+     */
+    public static void load(final File file, final GameMaster master) throws IOException {
+        InputStream in = new BufferedInputStream(new FileInputStream(file));
+        try {
+            read(in, master.getGameBoard()).restore(master);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Read a saved game without restoring it, e.g. to check its number of players first.
+     *
+     * @param in    stream to read from, left open after the save
+     * @param board board the game is to be restored on
+     * @return state of the saved game
+     * @throws IOException if the stream cannot be read or is not a game on the board
+     */
+    public static GameSnapshot read(final InputStream in, final GameBoard board) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a saved game");
+        }
+        int version = data.readUnsignedShort();
+        if (version > VERSION) {
+            throw new IOException("Saved game of version " + version + ", only up to " + VERSION + " can be read");
+        }
+        String boardName = data.readUTF();
+        int cells = data.readUnsignedShort();
+        if (!boardName.equals(getBoardName(board)) || cells != board.getCellNumber()) {
+            throw new IOException("Saved game on " + boardName + " of " + cells + " cells cannot be loaded on "
+                    + getBoardName(board) + " of " + board.getCellNumber() + " cells");
+        }
+        int players = data.readUnsignedByte();
+        int turn = data.readUnsignedByte();
+        if (players == 0 || players > GameMaster.MAX_PLAYER || turn >= players) {
+            throw new IOException("Saved game of " + players + " players in the turn of player " + turn);
+        }
+
+        String[] names = new String[players];
+        int[] money = new int[players];
+        int[] positions = new int[players];
+        boolean[] inJail = new boolean[players];
+        int[][] owned = new int[players][];
+        String[][] monopolies = new String[players][];
+        for (int p = 0; p < players; p++) {
+            names[p] = data.readBoolean() ? data.readUTF() : null;
+            money[p] = data.readInt();
+            positions[p] = checkIndex(data.readUnsignedShort(), cells);
+            inJail[p] = data.readBoolean();
+            owned[p] = readIndexes(data, cells);
+            monopolies[p] = new String[data.readUnsignedByte()];
+            for (int i = 0; i < monopolies[p].length; i++) {
+                monopolies[p][i] = data.readUTF();
+            }
+        }
+
+        boolean[] available = new boolean[cells];
+        for (int i = 0; i < cells; i += 8) {
+            int bits = data.readUnsignedByte();
+            for (int bit = 0; bit < 8 && i + bit < cells; bit++) {
+                available[i + bit] = (bits & 1 << bit) != 0;
+            }
+        }
+        int[] houses = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            houses[i] = data.readUnsignedByte();
+        }
+        int[][] decks = new int[2][];
+        decks[CompiledBoard.DECK_CHANCE] = readIndexes(data, Integer.MAX_VALUE);
+        decks[CompiledBoard.DECK_COMMUNITY_CHEST] = readIndexes(data, Integer.MAX_VALUE);
+        GameSnapshot snapshot = new GameSnapshot(turn, names, money, positions, inJail, owned, monopolies, available,
+                houses, decks);
+        try {
+            snapshot.check(board);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Saved game does not fit the board: " + e.getMessage(), e);
+        }
+        return snapshot;
+    }
+
+    private static void writeIndexes(final DataOutputStream data, final int[] indexes) throws IOException {
+        data.writeShort(indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            data.writeShort(indexes[i]);
+        }
+    }
+
+    private static int[] readIndexes(final DataInputStream data, final int bound) throws IOException {
+        int[] indexes = new int[data.readUnsignedShort()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = checkIndex(data.readUnsignedShort(), bound);
+        }
+        return indexes;
+    }
+
+    private static int checkIndex(final int index, final int bound) throws IOException {
+        if (index >= bound) {
+            throw new IOException("Index " + index + " out of a board of " + bound + " cells");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,309 @@
+package edu.ncsu.monopoly;
+
+import java.util.Arrays;
+
+/**
+ * Immutable copy of everything that changes while a game is played: the current player, every player's money,
+ * position, jail status and holdings, every cell's availability and houses, and the order of both decks. Cells
+ * and cards are referred to by position, so a snapshot of one game can be restored into another game on a board
+ * of the same kind, and two snapshots are equal exactly when the games are in the same state.
+ * <p>The dice are not part of the snapshot: a restored game rolls on from the state of its own dice.</p>
+ */
+public final class GameSnapshot {
+    private final int turn;
+    private final String[] names;
+    private final int[] money;
+    private final int[] positions;
+    private final boolean[] inJail;
+
+    /**
+     * Board indexes of the cells every player owns, in the order of {@link Player#getAllProperties()}.
+     */
+    private final int[][] owned;
+
+    /**
+     * Monopolies of every player, in the order of {@link Player#getMonopolies()}.
+     */
+    private final String[][] monopolies;
+
+    /**
+     * Availability of every cell, always true for cells that cannot be owned.
+     */
+    private final boolean[] available;
+    private final int[] houses;
+
+    /**
+     * Order of the chance and community chest decks, see {@link CardDeck#getOrder()}, indexed by
+     * {@link CompiledBoard#DECK_CHANCE} and {@link CompiledBoard#DECK_COMMUNITY_CHEST}.
+     */
+    private final int[][] decks;
+
+    GameSnapshot(final int turn, final String[] names, final int[] money, final int[] positions,
+                 final boolean[] inJail, final int[][] owned, final String[][] monopolies, final boolean[] available,
+                 final int[] houses, final int[][] decks) {
+        this.turn = turn;
+        this.names = names;
+        this.money = money;
+        this.positions = positions;
+        this.inJail = inJail;
+        this.owned = owned;
+        this.monopolies = monopolies;
+        this.available = available;
+        this.houses = houses;
+        this.decks = decks;
+    }
+
+    /**
+     * Copy the state of a game.
+     *
+     * @param master game to copy, with a board
+     * @return snapshot of the game as it is now
+     */
+    public static GameSnapshot capture(final GameMaster master) {
+        GameBoard board = master.getGameBoard();
+        int players = master.getNumberOfPlayers();
+        String[] names = new String[players];
+        int[] money = new int[players];
+        int[] positions = new int[players];
+        boolean[] inJail = new boolean[players];
+        int[][] owned = new int[players][];
+        String[][] monopolies = new String[players][];
+        for (int p = 0; p < players; p++) {
+            Player player = master.getPlayer(p);
+            names[p] = player.getName();
+            money[p] = player.getMoney();
+            positions[p] = player.getPositionIndex();
+            inJail[p] = player.isInJail();
+            IOwnable[] cells = player.getAllProperties();
+            owned[p] = new int[cells.length];
+            for (int i = 0; i < cells.length; i++) {
+                owned[p][i] = board.queryCellIndex((Cell) cells[i]);
+            }
+            monopolies[p] = player.getMonopolies();
+        }
+
+        int cellCount = board.getCellNumber();
+        boolean[] available = new boolean[cellCount];
+        int[] houses = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            Cell cell = board.getCell(i);
+            available[i] = !(cell instanceof OwnedCell) || ((OwnedCell) cell).isAvailable();
+            if (cell instanceof PropertyCell) {
+                houses[i] = ((PropertyCell) cell).getNumHouses();
+            }
+        }
+
+        int[][] decks = new int[2][];
+        decks[CompiledBoard.DECK_CHANCE] = board.getDeck(Card.TYPE_CHANCE).getOrder();
+        decks[CompiledBoard.DECK_COMMUNITY_CHEST] = board.getDeck(Card.TYPE_CC).getOrder();
+        return new GameSnapshot(master.getCurrentPlayerIndex(), names, money, positions, inJail, owned, monopolies,
+                available, houses, decks);
+    }
+
+    /**
+     * Put a game in the state of this snapshot. The game gets the number of players of the snapshot, keeping its
+     * existing players if it already has as many.
+     *
+     * @param master game to restore, on a board of the same kind as the one captured
+     * @throws IllegalArgumentException if the board of the game does not match the snapshot, the game being left
+     *                                  as it was
+     */
+    public void restore(final GameMaster master) {
+        GameBoard board = master.getGameBoard();
+        check(board);
+        if (master.getNumberOfPlayers() != names.length) {
+            master.setNumberOfPlayers(names.length);
+        }
+        for (int i = 0; i < available.length; i++) {
+            Cell cell = board.getCell(i);
+            if (cell instanceof OwnedCell) {
+                ((OwnedCell) cell).setOwner(null);
+                ((OwnedCell) cell).setAvailable(available[i]);
+            }
+            if (cell instanceof PropertyCell) {
+                ((PropertyCell) cell).setNumHouses(houses[i]);
+            }
+        }
+        for (int p = 0; p < names.length; p++) {
+            IOwnable[] cells = new IOwnable[owned[p].length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = (IOwnable) board.getCell(owned[p][i]);
+            }
+            Player player = master.getPlayer(p);
+            if (names[p] != null) {
+                player.setName(names[p]);
+            }
+            player.restore(money[p], positions[p], inJail[p], cells, monopolies[p]);
+        }
+        board.getDeck(Card.TYPE_CHANCE).setOrder(decks[CompiledBoard.DECK_CHANCE]);
+        board.getDeck(Card.TYPE_CC).setOrder(decks[CompiledBoard.DECK_COMMUNITY_CHEST]);
+        master.setTurn(turn);
+    }
+
+    /**
+     * Check the snapshot can be restored on a board: same number of cells, owned cells that can be owned and
+     * decks holding the cards of the board.
+     *
+     * @param board board of the game to restore
+     * @throws IllegalArgumentException if the board does not match the snapshot
+     */
+    void check(final GameBoard board) {
+        int cells = board.getCellNumber();
+        if (cells != available.length) {
+            throw new IllegalArgumentException("Snapshot of " + available.length + " cells for a board of " + cells);
+        }
+        for (int p = 0; p < names.length; p++) {
+            if (positions[p] >= cells) {
+                throw new IllegalArgumentException("Player " + p + " on cell " + positions[p]);
+            }
+            for (int i = 0; i < owned[p].length; i++) {
+                if (owned[p][i] >= cells || !(board.getCell(owned[p][i]) instanceof IOwnable)) {
+                    throw new IllegalArgumentException("Cell " + owned[p][i] + " cannot be owned");
+                }
+            }
+        }
+        board.getDeck(Card.TYPE_CHANCE).checkOrder(decks[CompiledBoard.DECK_CHANCE]);
+        board.getDeck(Card.TYPE_CC).checkOrder(decks[CompiledBoard.DECK_COMMUNITY_CHEST]);
+    }
+
+    /**
+     * Index of the player whose turn it is.
+     *
+     * @return current player
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getNumberOfPlayers() {
+        return names.length;
+    }
+
+    public int getCellCount() {
+        return available.length;
+    }
+
+    public String getName(final int player) {
+        return names[player];
+    }
+
+    public int getMoney(final int player) {
+        return money[player];
+    }
+
+    public int getPosition(final int player) {
+        return positions[player];
+    }
+
+    public boolean isInJail(final int player) {
+        return inJail[player];
+    }
+
+    /**
+     * Cells a player owns.
+     *
+     * @param player index of the player
+     * @return copy of the board indexes, in the order of {@link Player#getAllProperties()}
+     */
+    public int[] getOwned(final int player) {
+        return owned[player].clone();
+    }
+
+    /**
+     * Monopolies of a player.
+     *
+     * @param player index of the player
+     * @return copy of the color groups, in the order of {@link Player#getMonopolies()}
+     */
+    public String[] getMonopolies(final int player) {
+        return monopolies[player].clone();
+    }
+
+    public boolean isAvailable(final int cell) {
+        return available[cell];
+    }
+
+    public int getHouses(final int cell) {
+        return houses[cell];
+    }
+
+    /**
+     * Order of a deck.
+     *
+     * @param deck {@link CompiledBoard#DECK_CHANCE} or {@link CompiledBoard#DECK_COMMUNITY_CHEST}
+     * @return copy of the card numbers, top card first, see {@link CardDeck#getOrder()}
+     */
+    public int[] getDeckOrder(final int deck) {
+        return decks[deck].clone();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof GameSnapshot)) {
+            return false;
+        }
+        GameSnapshot other = (GameSnapshot) o;
+        return turn == other.turn && Arrays.equals(money, other.money) && Arrays.equals(positions, other.positions)
+                && Arrays.equals(inJail, other.inJail) && Arrays.equals(names, other.names)
+                && Arrays.deepEquals(owned, other.owned) && Arrays.deepEquals(monopolies, other.monopolies)
+                && Arrays.equals(available, other.available) && Arrays.equals(houses, other.houses)
+                && Arrays.deepEquals(decks, other.decks);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = turn;
+        hash = 31 * hash + Arrays.hashCode(money);
+        hash = 31 * hash + Arrays.hashCode(positions);
+        hash = 31 * hash + Arrays.deepHashCode(owned);
+        hash = 31 * hash + Arrays.hashCode(houses);
+        return 31 * hash + Arrays.deepHashCode(decks);
+    }
+
+    /**
+     * First difference with another snapshot, for reporting games that went apart.
+     *
+     * @param other snapshot to compare with
+     * @return description of the first difference, null if the snapshots are equal
+     */
+    public String describeDifference(final GameSnapshot other) {
+        if (turn != other.turn) {
+            return "turn " + turn + " != " + other.turn;
+        }
+        if (names.length != other.names.length) {
+            return "players " + names.length + " != " + other.names.length;
+        }
+        for (int p = 0; p < names.length; p++) {
+            if (money[p] != other.money[p]) {
+                return "money of player " + p + " " + money[p] + " != " + other.money[p];
+            }
+            if (positions[p] != other.positions[p]) {
+                return "position of player " + p + " " + positions[p] + " != " + other.positions[p];
+            }
+            if (inJail[p] != other.inJail[p]) {
+                return "jail of player " + p + " " + inJail[p] + " != " + other.inJail[p];
+            }
+            if (!Arrays.equals(owned[p], other.owned[p])) {
+                return "cells of player " + p + " " + Arrays.toString(owned[p]) + " != "
+                        + Arrays.toString(other.owned[p]);
+            }
+            if (!Arrays.equals(monopolies[p], other.monopolies[p])) {
+                return "monopolies of player " + p + " " + Arrays.toString(monopolies[p]) + " != "
+                        + Arrays.toString(other.monopolies[p]);
+            }
+            if (names[p] == null ? other.names[p] != null : !names[p].equals(other.names[p])) {
+                return "name of player " + p + " " + names[p] + " != " + other.names[p];
+            }
+        }
+        if (!Arrays.equals(available, other.available)) {
+            return "available cells " + Arrays.toString(available) + " != " + Arrays.toString(other.available);
+        }
+        if (!Arrays.equals(houses, other.houses)) {
+            return "houses " + Arrays.toString(houses) + " != " + Arrays.toString(other.houses);
+        }
+        if (!Arrays.deepEquals(decks, other.decks)) {
+            return "decks " + Arrays.deepToString(decks) + " != " + Arrays.deepToString(other.decks);
+        }
+        return null;
+    }
+}
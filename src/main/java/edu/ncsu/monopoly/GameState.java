@@ -0,0 +1,567 @@
+package edu.ncsu.monopoly;
+
+import java.util.Random;
+
+/**
+ * <p>Complete state of one game as primitive arrays over a {@link CompiledBoard}, for simulations that play far more
+ * games than {@link GameMaster} with its object graph of cells and players can. Players are seat numbers and cells
+ * are board indexes; the state of a game is:</p>
+ * <ul>
+ *  <li>per player: position, money and jail flag</li>
+ *  <li>per cell: owner and number of houses</li>
+ *  <li>the order and next card of both decks, and whose turn it is</li>
+ * </ul>
+ * <p>The operations follow the rules of {@link GameMaster}, {@link Player} and the cells and cards one for one, so a
+ * game driven through both with the same dice ends the same way. The only difference is the order in which a player
+ * collecting the properties of a bankrupt player gains monopolies: here it is board order.</p>
+ * <p>A state allocates nothing after construction and is reused for the next game with {@link #reset()}. Not thread
+ * safe; every thread plays its own state.</p>
+ */
+public final class GameState implements GameView {
+    /**
+     * Owner of a cell the bank still holds.
+     */
+    public static final int BANK = -1;
+
+    private final CompiledBoard board;
+    private final int numberOfPlayers;
+    private final int initialMoney;
+    private final int groupCount;
+
+    private final int[] positions;
+    private final int[] money;
+    private final boolean[] inJail;
+    private final int[] railroads;
+    private final int[] utilities;
+
+    /**
+     * Properties owned per player and color group, at <code>player * groupCount + group</code>.
+     */
+    private final int[] groupsOwned;
+
+    /**
+     * Color groups every player owns all properties of, in the order they were completed, starting at
+     * <code>player * groupCount</code>, see {@link Player#getMonopolies()}.
+     */
+    private final int[] monopolies;
+    private final int[] monopolyCounts;
+
+    private final int[] owners;
+    private final int[] houses;
+
+    /**
+     * Rent every cell charges now, looked up in the rent table of the board whenever the owner, the houses or the
+     * holdings of the owner change; for a utility the multiplier of the dice roll.
+     */
+    private final int[] rents;
+
+    /**
+     * Order of each deck as positions in the draw order of the compiled board.
+     */
+    private final int[][] deckOrders = new int[2][];
+
+    /**
+     * Index into {@link #deckOrders} of the next card of each deck.
+     */
+    private final int[] nextCards = new int[2];
+
+    private final int[] shuffleBuffer;
+    private final Random shuffleRandom = new Random();
+
+    private int turn;
+
+    /**
+     * Constructor. The game is ready to play, see {@link #reset()}.
+     *
+     * @param board           board to play on
+     * @param numberOfPlayers seats at the table
+     * @param initialMoney    money every player starts with
+     */
+    public GameState(final CompiledBoard board, final int numberOfPlayers, final int initialMoney) {
+        if (numberOfPlayers < 1) {
+            throw new IllegalArgumentException("A game needs at least one player");
+        }
+        this.board = board;
+        this.numberOfPlayers = numberOfPlayers;
+        this.initialMoney = initialMoney;
+        this.groupCount = board.getGroupCount();
+        positions = new int[numberOfPlayers];
+        money = new int[numberOfPlayers];
+        inJail = new boolean[numberOfPlayers];
+        railroads = new int[numberOfPlayers];
+        utilities = new int[numberOfPlayers];
+        groupsOwned = new int[numberOfPlayers * groupCount];
+        monopolies = new int[numberOfPlayers * groupCount];
+        monopolyCounts = new int[numberOfPlayers];
+        owners = new int[board.getCellCount()];
+        houses = new int[board.getCellCount()];
+        rents = new int[board.getCellCount()];
+        deckOrders[CompiledBoard.DECK_CHANCE] = new int[board.getDeckSize(CompiledBoard.DECK_CHANCE)];
+        deckOrders[CompiledBoard.DECK_COMMUNITY_CHEST] = new int[board.getDeckSize(CompiledBoard.DECK_COMMUNITY_CHEST)];
+        shuffleBuffer = new int[Math.max(deckOrders[0].length, deckOrders[1].length)];
+        reset();
+    }
+
+    /**
+     * Start a new game: every player on Go with the initial money, every cell with the bank, both decks in the
+     * order of the compiled board and the first player to move.
+     */
+    public void reset() {
+        for (int p = 0; p < numberOfPlayers; p++) {
+            positions[p] = 0;
+            money[p] = initialMoney;
+            inJail[p] = false;
+            railroads[p] = 0;
+            utilities[p] = 0;
+            monopolyCounts[p] = 0;
+        }
+        for (int i = 0; i < groupsOwned.length; i++) {
+            groupsOwned[i] = 0;
+        }
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = BANK;
+            houses[i] = 0;
+            rents[i] = 0;
+        }
+        for (int deck = 0; deck < deckOrders.length; deck++) {
+            for (int i = 0; i < deckOrders[deck].length; i++) {
+                deckOrders[deck][i] = i;
+            }
+            nextCards[deck] = 0;
+        }
+        turn = 0;
+    }
+
+    /**
+     * Shuffle both decks, giving the same order as {@link GameBoard#shuffleCards(long)} on the board this state
+     * was compiled from when both decks have drawn as many cards.
+     *
+     * @param seed seed of the shuffle
+     */
+    public void shuffleCards(final long seed) {
+        shuffleRandom.setSeed(seed);
+        shuffle(CompiledBoard.DECK_CHANCE);
+        shuffle(CompiledBoard.DECK_COMMUNITY_CHEST);
+    }
+
+    /**
+     * Same steps as {@link CardDeck#shuffle(Random)}: take the deck in draw order, then swap from the bottom up.
+     */
+    private void shuffle(final int deck) {
+        int[] order = deckOrders[deck];
+        int next = nextCards[deck];
+        System.arraycopy(order, next, shuffleBuffer, 0, order.length - next);
+        System.arraycopy(order, 0, shuffleBuffer, order.length - next, next);
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = shuffleRandom.nextInt(i + 1);
+            int card = shuffleBuffer[i];
+            shuffleBuffer[i] = shuffleBuffer[j];
+            shuffleBuffer[j] = card;
+        }
+        System.arraycopy(shuffleBuffer, 0, order, 0, order.length);
+        nextCards[deck] = 0;
+    }
+
+    public CompiledBoard getBoard() {
+        return board;
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getPosition(final int player) {
+        return positions[player];
+    }
+
+    public int getMoney(final int player) {
+        return money[player];
+    }
+
+    public boolean isInJail(final int player) {
+        return inJail[player];
+    }
+
+    public boolean isBankrupt(final int player) {
+        return money[player] <= 0;
+    }
+
+    /**
+     * Owner of a cell.
+     *
+     * @param cell board index
+     * @return seat of the owner, {@link #BANK} if nobody owns the cell
+     */
+    public int getOwner(final int cell) {
+        return owners[cell];
+    }
+
+    public int getHouses(final int cell) {
+        return houses[cell];
+    }
+
+    /**
+     * Pass the turn to the next seat, see {@link GameMaster#switchTurn()}.
+     */
+    public void switchTurn() {
+        turn = (turn + 1) % numberOfPlayers;
+    }
+
+    /**
+     * Move a player forward, collecting 200 for passing Go, see {@link GameMaster#movePlayer(Player, int)}.
+     *
+     * @param player    seat to move
+     * @param diceValue number of cells to move
+     */
+    public void move(final int player, final int diceValue) {
+        int position = positions[player];
+        int cellCount = board.getCellCount();
+        int newIndex = (position + diceValue) % cellCount;
+        if (newIndex <= position || diceValue > cellCount) {
+            money[player] += 200;
+        }
+        positions[player] = newIndex;
+    }
+
+    /**
+     * Is the player on a card cell, see {@link GameMaster#playerMoved(Player)}?
+     *
+     * @param player seat to check
+     * @return True if the player has to draw a card
+     */
+    public boolean canDrawCard(final int player) {
+        byte kind = board.getKind(positions[player]);
+        return kind == CompiledBoard.CELL_CHANCE || kind == CompiledBoard.CELL_COMMUNITY_CHEST;
+    }
+
+    /**
+     * Draw the next card of the deck of the card cell the player is on and apply it, see
+     * {@link GameMaster#btnDrawCardClicked()}.
+     *
+     * @param player seat drawing the card
+     * @return kind of the card drawn, one of the <code>CARD_</code> constants of {@link CompiledBoard}
+     */
+    public byte drawCard(final int player) {
+        int deck = board.getKind(positions[player]) == CompiledBoard.CELL_COMMUNITY_CHEST
+                ? CompiledBoard.DECK_COMMUNITY_CHEST
+                : CompiledBoard.DECK_CHANCE;
+        int size = board.getDeckSize(deck);
+        if (size == 0) {
+            throw new IllegalStateException("No cards left to draw");
+        }
+        int next = nextCards[deck];
+        nextCards[deck] = next + 1 == size ? 0 : next + 1;
+        int card = deckOrders[deck][next];
+        byte kind = board.getCardKind(deck, card);
+        int value = board.getCardValue(deck, card);
+        if (kind == CompiledBoard.CARD_MONEY) {
+            money[player] += value;
+        } else if (kind == CompiledBoard.CARD_JAIL) {
+            sendToJail(player);
+        } else {
+            int position = positions[player];
+            move(player, position > value ? board.getCellCount() + value - position : value - position);
+        }
+        return kind;
+    }
+
+    /**
+     * Is the player on a cell the bank sells at a price they can afford, see {@link GameMaster#playerMoved(Player)}?
+     *
+     * @param player seat to check
+     * @return True if the purchase button would be enabled
+     */
+    public boolean canPurchase(final int player) {
+        int cell = positions[player];
+        int price = board.getPrice(cell);
+        return isOwnable(cell) && owners[cell] == BANK && price <= money[player] && price > 0;
+    }
+
+    /**
+     * Buy the cell the player is on if the bank still holds it, see {@link Player#purchase()}.
+     *
+     * @param player seat buying
+     */
+    public void purchase(final int player) {
+        int cell = positions[player];
+        if (!isOwnable(cell) || owners[cell] != BANK) {
+            return;
+        }
+        changeOwner(cell, player);
+        money[player] -= board.getPrice(cell);
+    }
+
+    /**
+     * Apply the action of the cell the player ends the turn on: pay rent or go to jail, see
+     * {@link GameMaster#btnEndTurnClicked()}.
+     *
+     * @param player seat ending the turn
+     * @param first  die rolled for a utility bill
+     * @param second die rolled for a utility bill
+     */
+    public void playAction(final int player, final Die first, final Die second) {
+        int cell = positions[player];
+        byte kind = board.getKind(cell);
+        if (kind == CompiledBoard.CELL_GO_TO_JAIL) {
+            sendToJail(player);
+            return;
+        }
+        int owner = owners[cell];
+        if (!isOwnable(cell) || owner == BANK || owner == player) {
+            return;
+        }
+        if (kind == CompiledBoard.CELL_UTILITY) {
+            payRent(player, owner, rents[cell] * (first.getRoll() + second.getRoll()));
+        } else {
+            payRent(player, owner, rents[cell]);
+        }
+    }
+
+    /**
+     * Rent due on a cell, see {@link PropertyCell#getRent()} and {@link RailRoadCell#getRent()}. Rents are kept
+     * up to date as cells change hands and houses are bought, so this is a single array load.
+     *
+     * @param cell board index
+     * @return rent the owner charges, for a utility the multiplier of the dice roll; 0 while the bank holds it
+     */
+    public int getRent(final int cell) {
+        return rents[cell];
+    }
+
+    /**
+     * Pay bail, see {@link Player#getOutOfJail()}.
+     *
+     * @param player seat leaving jail
+     */
+    public void getOutOfJail(final int player) {
+        money[player] -= board.getBail();
+        if (isBankrupt(player)) {
+            money[player] = 0;
+            exchangeProperty(player, BANK);
+        }
+        inJail[player] = false;
+    }
+
+    /**
+     * Send a player to jail, see {@link GameMaster#sendToJail(Player)}.
+     *
+     * @param player seat going to jail
+     */
+    public void sendToJail(final int player) {
+        if (board.getJailIndex() < 0) {
+            throw new IllegalStateException("Board has no Jail");
+        }
+        positions[player] = board.getJailIndex();
+        inJail[player] = true;
+    }
+
+    /**
+     * Does a player own every property of a color group?
+     *
+     * @param player seat to check
+     * @param group  color group index
+     * @return True if the player holds the monopoly
+     */
+    public boolean isMonopoly(final int player, final int group) {
+        return groupsOwned[player * groupCount + group] == board.getGroupSize(group);
+    }
+
+    public boolean canBuyHouse(final int player) {
+        return monopolyCounts[player] > 0;
+    }
+
+    public int getMonopolyCount(final int player) {
+        return monopolyCounts[player];
+    }
+
+    /**
+     * Monopoly of a player, in the order of {@link Player#getMonopolies()}.
+     *
+     * @param player seat to look up
+     * @param i      ordinal of the monopoly, less than {@link #getMonopolyCount(int)}
+     * @return color group index
+     */
+    public int getMonopoly(final int player, final int i) {
+        return monopolies[player * groupCount + i];
+    }
+
+    /**
+     * Add houses to every property of a monopoly the player can afford, see
+     * {@link Player#purchaseHouse(String, int)}.
+     *
+     * @param player seat buying
+     * @param group  color group index
+     * @param count  houses to add to each property
+     */
+    public void purchaseHouse(final int player, final int group, final int count) {
+        int size = board.getGroupSize(group);
+        if (money[player] < size * board.getHousePrice(board.getGroupCell(group, 0)) * count) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            int cell = board.getGroupCell(group, i);
+            int newNumber = houses[cell] + count;
+            if (newNumber > Player.MAX_MONOPOLY_HOUSES) {
+                continue;
+            }
+            houses[cell] = newNumber;
+            updateRent(cell);
+            money[player] -= board.getHousePrice(cell) * count;
+        }
+    }
+
+    /**
+     * Sell a cell from one player to another, see {@link GameMaster#completeTrade(TradeDeal)}. Houses stay on the
+     * cell.
+     *
+     * @param buyer  seat paying
+     * @param seller seat owning the cell
+     * @param cell   board index
+     * @param amount price agreed
+     */
+    public void trade(final int buyer, final int seller, final int cell, final int amount) {
+        changeOwner(cell, buyer);
+        money[seller] += amount;
+        money[buyer] -= amount;
+    }
+
+    /**
+     * Money plus purchase price of every owned cell and house.
+     *
+     * @param player seat to value
+     * @return net worth of the player
+     */
+    public int getNetWorth(final int player) {
+        int worth = money[player];
+        for (int cell = 0; cell < owners.length; cell++) {
+            if (owners[cell] == player) {
+                worth += board.getPrice(cell) + houses[cell] * board.getHousePrice(cell);
+            }
+        }
+        return worth;
+    }
+
+    /**
+     * Bankrupt player pays all it has, see {@link Player#payRentTo(Player, int)}.
+     */
+    private void payRent(final int payer, final int owner, final int rent) {
+        if (money[payer] < rent) {
+            money[owner] += money[payer];
+        } else {
+            money[owner] += rent;
+        }
+        money[payer] -= rent;
+        if (isBankrupt(payer)) {
+            money[payer] = 0;
+            exchangeProperty(payer, owner);
+        }
+    }
+
+    /**
+     * Hand the properties, not rail roads or utilities, of a player to another player or back to the bank without
+     * houses, see {@link Player#exchangeProperty(Player)}.
+     */
+    private void exchangeProperty(final int from, final int to) {
+        for (int cell = 0; cell < owners.length; cell++) {
+            if (owners[cell] == from && board.getKind(cell) == CompiledBoard.CELL_PROPERTY) {
+                changeOwner(cell, to);
+                if (to == BANK) {
+                    houses[cell] = 0;
+                    updateRent(cell);
+                }
+            }
+        }
+    }
+
+    private boolean isOwnable(final int cell) {
+        byte kind = board.getKind(cell);
+        return kind == CompiledBoard.CELL_PROPERTY || kind == CompiledBoard.CELL_RAILROAD
+                || kind == CompiledBoard.CELL_UTILITY;
+    }
+
+    private void changeOwner(final int cell, final int to) {
+        int from = owners[cell];
+        owners[cell] = to;
+        byte kind = board.getKind(cell);
+        if (kind == CompiledBoard.CELL_RAILROAD) {
+            count(railroads, from, to);
+            for (int i = 0; i < board.getRailRoadCount(); i++) {
+                updateRent(board.getRailRoadCell(i));
+            }
+        } else if (kind == CompiledBoard.CELL_UTILITY) {
+            count(utilities, from, to);
+            for (int i = 0; i < board.getUtilityCount(); i++) {
+                updateRent(board.getUtilityCell(i));
+            }
+        } else {
+            int group = board.getGroup(cell);
+            if (from != BANK) {
+                groupsOwned[from * groupCount + group]--;
+                updateMonopoly(from, group);
+            }
+            if (to != BANK) {
+                groupsOwned[to * groupCount + group]++;
+                updateMonopoly(to, group);
+            }
+            for (int i = 0; i < board.getGroupSize(group); i++) {
+                updateRent(board.getGroupCell(group, i));
+            }
+        }
+    }
+
+    /**
+     * Look the rent of a cell up again after its owner, its houses or the holdings of its owner changed.
+     */
+    private void updateRent(final int cell) {
+        int owner = owners[cell];
+        if (owner == BANK) {
+            rents[cell] = 0;
+            return;
+        }
+        byte kind = board.getKind(cell);
+        if (kind == CompiledBoard.CELL_RAILROAD) {
+            rents[cell] = board.getRent(cell, railroads[owner] - 1);
+        } else if (kind == CompiledBoard.CELL_UTILITY) {
+            rents[cell] = board.getRent(cell, utilities[owner] - 1);
+        } else {
+            rents[cell] = board.getRent(cell,
+                    CompiledBoard.getPropertyColumn(houses[cell], isMonopoly(owner, board.getGroup(cell))));
+        }
+    }
+
+    private static void count(final int[] counts, final int from, final int to) {
+        if (from != BANK) {
+            counts[from]--;
+        }
+        if (to != BANK) {
+            counts[to]++;
+        }
+    }
+
+    /**
+     * Add or remove a color group from the monopolies of a player after its count changed.
+     */
+    private void updateMonopoly(final int player, final int group) {
+        int start = player * groupCount;
+        int count = monopolyCounts[player];
+        int found = -1;
+        for (int i = 0; i < count; i++) {
+            if (monopolies[start + i] == group) {
+                found = i;
+            }
+        }
+        if (isMonopoly(player, group)) {
+            if (found < 0) {
+                monopolies[start + count] = group;
+                monopolyCounts[player]++;
+            }
+        } else if (found >= 0) {
+            System.arraycopy(monopolies, start + found + 1, monopolies, start + found, count - found - 1);
+            monopolyCounts[player]--;
+        }
+    }
+}
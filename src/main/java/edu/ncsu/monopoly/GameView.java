@@ -0,0 +1,70 @@
+package edu.ncsu.monopoly;
+
+/**
+ * Read-only view of a game for code that decides the moves of a player, such as the bots of the simulator. As in
+ * {@link GameState}, players are seat numbers and cells are board indexes of {@link #getBoard()}, so reading a game
+ * allocates nothing whichever engine plays it.
+ */
+public interface GameView {
+
+    /**
+     * Layout of the board: prices, rents and color groups.
+     *
+     * @return board of the game
+     */
+    CompiledBoard getBoard();
+
+    int getNumberOfPlayers();
+
+    /**
+     * Seat of the current player.
+     *
+     * @return seat whose turn it is
+     */
+    int getTurn();
+
+    /**
+     * Cell a player stands on.
+     *
+     * @param player seat to look up
+     * @return board index
+     */
+    int getPosition(int player);
+
+    int getMoney(int player);
+
+    boolean isInJail(int player);
+
+    /**
+     * Owner of a cell.
+     *
+     * @param cell board index
+     * @return seat of the owner, {@link GameState#BANK} if nobody owns the cell
+     */
+    int getOwner(int cell);
+
+    /**
+     * Houses on a cell.
+     *
+     * @param cell board index
+     * @return number of houses, 0 for cells that are not properties
+     */
+    int getHouses(int cell);
+
+    /**
+     * Does a player own every property of a color group?
+     *
+     * @param player seat to check
+     * @param group  color group index
+     * @return True if the player holds the monopoly
+     */
+    boolean isMonopoly(int player, int group);
+
+    /**
+     * Money plus purchase price of every owned cell and house.
+     *
+     * @param player seat to value
+     * @return net worth of the player
+     */
+    int getNetWorth(int player);
+}
@@ -7,9 +7,8 @@ public class GoToJailCell extends Cell {
 	}
 
 	public void playAction() {
-		Player currentPlayer = GameMaster.instance().getCurrentPlayer();
-		JailCell jail = (JailCell)(GameMaster.instance().getGameBoard().queryCell("Jail"));
-		GameMaster.instance().sendToJail(currentPlayer);
+		Player currentPlayer = getGameMaster().getCurrentPlayer();
+		getGameMaster().sendToJail(currentPlayer);
 	}
 
 	
@@ -7,9 +7,8 @@ public class JailCard extends Card {
     }
 
     public void applyAction() {
-        Player currentPlayer = GameMaster.instance().getCurrentPlayer();
-		JailCell jail = (JailCell)(GameMaster.instance().getGameBoard().queryCell("Jail"));
-		GameMaster.instance().sendToJail(currentPlayer);
+        Player currentPlayer = getGameMaster().getCurrentPlayer();
+		getGameMaster().sendToJail(currentPlayer);
     }
 
     public String getLabel() {
@@ -1,8 +1,14 @@
 package edu.ncsu.monopoly;
 
 public class JailCell extends Cell {
-	public static int BAIL = 50;
-	
+	/**
+	 * Bail of a board that does not set its own.
+	 *
+	 * @deprecated each board has its own, use {@link GameBoard#getBail()} and {@link GameBoard#setBail(int)}
+	 */
+	@Deprecated
+	public static final int BAIL = GameBoard.DEFAULT_BAIL;
+
 	public JailCell() {
 		setName("Jail");
 	}
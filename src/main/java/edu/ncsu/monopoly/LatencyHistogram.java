@@ -0,0 +1,115 @@
+package edu.ncsu.monopoly;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations shared by games on many threads, striped like a {@link StripedCounter}. Bucket
+ * <code>i</code> counts durations up to <code>2^(i + 7)</code> nanoseconds, from 128 ns to about 8.6 s, and one more
+ * bucket counts longer ones.
+ */
+public final class LatencyHistogram {
+    /**
+     * Buckets with an upper bound.
+     */
+    public static final int BUCKETS = 27;
+
+    /**
+     * Exponent of the upper bound of the first bucket.
+     */
+    private static final int FIRST_SHIFT = 7;
+
+    /**
+     * Longs per stripe: the buckets, the overflow bucket and the sum, padded to whole cache lines.
+     */
+    private static final int ROW = (BUCKETS + 2 + StripedCounter.PAD - 1) / StripedCounter.PAD * StripedCounter.PAD;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    /**
+     * Constructor for a histogram with as many stripes as a {@link StripedCounter}.
+     */
+    public LatencyHistogram() {
+        this(StripedCounter.defaultStripes());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stripes stripes to spread the threads over, rounded up to a power of two
+     */
+    public LatencyHistogram(final int stripes) {
+        int size = StripedCounter.powerOfTwo(stripes);
+        cells = new AtomicLongArray(size * ROW);
+        mask = size - 1;
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos duration in nanoseconds, negative ones count as 0
+     */
+    public void record(final long nanos) {
+        int row = StripedCounter.stripe(mask) * ROW;
+        cells.getAndIncrement(row + bucket(nanos));
+        cells.getAndAdd(row + BUCKETS + 1, Math.max(0, nanos));
+    }
+
+    static int bucket(final long nanos) {
+        if (nanos <= 1L << FIRST_SHIFT) {
+            return 0;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(nanos - 1);
+        return Math.min(shift - FIRST_SHIFT, BUCKETS);
+    }
+
+    /**
+     * Upper bound of a bucket.
+     *
+     * @param bucket bucket index, less than {@link #BUCKETS}
+     * @return longest duration counted by the bucket, in nanoseconds
+     */
+    public static long getUpperBound(final int bucket) {
+        return 1L << (bucket + FIRST_SHIFT);
+    }
+
+    /**
+     * Durations recorded in a bucket.
+     *
+     * @param bucket bucket index, {@link #BUCKETS} for the durations longer than every bound
+     * @return count of the bucket alone, not cumulative
+     */
+    public long getCount(final int bucket) {
+        return sum(bucket);
+    }
+
+    /**
+     * Durations recorded.
+     *
+     * @return count of every bucket
+     */
+    public long getCount() {
+        long count = 0;
+        for (int bucket = 0; bucket <= BUCKETS; bucket++) {
+            count += sum(bucket);
+        }
+        return count;
+    }
+
+    /**
+     * Total of the durations recorded.
+     *
+     * @return sum in nanoseconds
+     */
+    public long getSum() {
+        return sum(BUCKETS + 1);
+    }
+
+    private long sum(final int column) {
+        long sum = 0;
+        for (int row = 0; row < cells.length(); row += ROW) {
+            sum += cells.get(row + column);
+        }
+        return sum;
+    }
+}
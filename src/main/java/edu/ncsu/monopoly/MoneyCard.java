@@ -12,7 +12,7 @@ public class MoneyCard extends Card {
     }
 
     public void applyAction() {
-        Player currentPlayer = GameMaster.instance().getCurrentPlayer();
+        Player currentPlayer = getGameMaster().getCurrentPlayer();
 		currentPlayer.setMoney(currentPlayer.getMoney() + amount);
     }
 
@@ -20,4 +20,8 @@ public class MoneyCard extends Card {
     public String getLabel() {
         return label;
     }
+
+    public int getAmount() {
+        return amount;
+    }
 }
@@ -10,19 +10,16 @@ public class MovePlayerCard extends Card {
     }
 
     public void applyAction() {
-        Player currentPlayer = GameMaster.instance().getCurrentPlayer();
-        Cell currentPosition = currentPlayer.getPosition();
-        int diceValue = getDiceValue(currentPosition);
-        System.out.println(diceValue);
-        GameMaster.instance().movePlayer(currentPlayer, diceValue);
+        Player currentPlayer = getGameMaster().getCurrentPlayer();
+        int diceValue = getDiceValue(currentPlayer.getPositionIndex());
+        getGameMaster().movePlayer(currentPlayer, diceValue);
     }
 
-	private int getDiceValue(Cell currentPosition) {
-		int newCell = GameMaster.instance().getGameBoard().queryCellIndex(destination);
-        int currentCell = GameMaster.instance().getGameBoard().queryCellIndex(currentPosition.getName());
+	private int getDiceValue(int currentCell) {
+		int newCell = getGameMaster().getGameBoard().queryCellIndex(destination);
         int diceValue = 0;
         if(currentCell > newCell) {
-            diceValue = (GameMaster.instance().getGameBoard().getCellNumber() + 
+            diceValue = (getGameMaster().getGameBoard().getCellNumber() + 
                     (newCell - currentCell));
         }
         else if(currentCell <= newCell) {
@@ -39,4 +36,8 @@ public class MovePlayerCard extends Card {
         return "Go to " + destination;
     }
 
+    String getDestination() {
+        return destination;
+    }
+
 }
@@ -5,6 +5,13 @@ public abstract class OwnedCell extends Cell implements IOwnable{
 	private boolean available = true;
 	protected Player owner;
 
+	/**
+	 * Rent due on the cell, or the multiplier of the dice roll for a utility, 0 while nobody owns it. Kept up to date
+	 * by {@link #updateRent()} as the owner, the houses and the holdings of the owner change, so paying rent reads
+	 * a field instead of working the rent out.
+	 */
+	private int rentDue;
+
 	public OwnedCell() {
 		super();
 	}
@@ -14,7 +21,10 @@ public abstract class OwnedCell extends Cell implements IOwnable{
 	}
 
 	public void setAvailable(boolean available) {
-		this.available = available;
+		if(available != this.available) {
+			this.available = available;
+			changed();
+		}
 	}
 
 	@Override
@@ -24,7 +34,38 @@ public abstract class OwnedCell extends Cell implements IOwnable{
 
 	@Override
 	public void setOwner(Player owner) {
-		this.owner = owner;
+		if(owner != this.owner) {
+			this.owner = owner;
+			changed();
+			updateRent();
+		}
+	}
+
+	int getRentDue() {
+		return rentDue;
+	}
+
+	/**
+	 * Work out {@link #getRentDue()} again.
+	 */
+	void updateRent() {
+		rentDue = owner == null ? 0 : computeRent();
+	}
+
+	/**
+	 * Rent due to the owner as things stand.
+	 *
+	 * @return rent, or multiplier of the dice roll for a utility
+	 */
+	int computeRent() {
+		return 0;
 	}
 
+	/**
+	 * Kind of rent the cell charges, for {@link EngineMetrics}.
+	 *
+	 * @return one of the <code>RENT_</code> constants of {@link EngineMetrics}
+	 */
+	abstract int getRentType();
+
 }
\ No newline at end of file
@@ -1,13 +1,12 @@
 package edu.ncsu.monopoly;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 
 
 /**
@@ -38,6 +37,21 @@ public class Player {
      */
     private HashMap<String, Integer> colorGroups = new HashMap<String, Integer>();
 
+    /**
+     * Property color groups the player owns every cell of, kept up to date as cells are bought and sold.
+     */
+    private LinkedHashSet<String> monopolies = new LinkedHashSet<String>();
+
+    /**
+     * Game the player is seated in.
+     */
+    private GameMaster gameMaster;
+
+    /**
+     * Seat of the player in {@link #gameMaster}, -1 until seated.
+     */
+    private int id = -1;
+
     /**
      * True if the player is in jail.
      */
@@ -58,6 +72,11 @@ public class Player {
      */
     private Cell position;
 
+    /**
+     * Index of {@link #position} on the game board, -1 if the position is not on the board.
+     */
+    private int positionIndex = -1;
+
     /**
      * All properties that can take houses owned by player.
      */
@@ -74,13 +93,24 @@ public class Player {
     private ArrayList<UtilityCell> utilities = new ArrayList<UtilityCell>();
 
     /**
-     * Constructor. Places the player on the "Go" (i.e. start) cell of the game board.
+     * Constructor for a player of the single GUI game {@link GameMaster#instance()}. Places the player on the "Go"
+     * (i.e. start) cell of the game board.
      */
     public Player() {
-        GameBoard gb = GameMaster.instance().getGameBoard();
+        this(GameMaster.instance());
+    }
+
+    /**
+     * Constructor. Places the player on the "Go" (i.e. start) cell of the game board.
+     *
+     * @param gameMaster game the player is seated in
+     */
+    public Player(final GameMaster gameMaster) {
+        this.gameMaster = gameMaster;
+        GameBoard gb = gameMaster.getGameBoard();
         inJail = false;
         if (gb != null) {
-            position = gb.queryCell("Go");
+            setPosition(gb.queryCell("Go"));
         }
     }
 
@@ -102,19 +132,19 @@ public class Player {
      * @return False if the player does not own any monopolies.
      */
     public boolean canBuyHouse() {
-        return getMonopolies().length != 0;
+        return !monopolies.isEmpty();
     }
 
     /**
-     * Equality determined using reflection via
-     * {@link org.apache.commons.lang3.builder.EqualsBuilder#reflectionEquals(Object, Object, String...)}.
+     * Players are equal only to themselves: two players with the same name, money and properties are still two
+     * different players.
      *
      * @param o object to test equality against
-     * @return True if same class and all reflected instance variables are equal
+     * @return True if <code>o</code> is this player
      */
     @Override
     public boolean equals(Object o) {
-        return EqualsBuilder.reflectionEquals(this, o);
+        return this == o;
     }
 
     /**
@@ -130,6 +160,25 @@ public class Player {
         return (IOwnable[]) list.toArray(new IOwnable[list.size()]);
     }
 
+    /**
+     * Seat of the player, assigned by {@link GameMaster#setNumberOfPlayers(int)} and unchanged for the rest of the
+     * game.
+     *
+     * @return index of the player in its game, -1 if the player is not seated
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Seat the player.
+     *
+     * @param id index of the player in its game
+     */
+    void setId(final int id) {
+        this.id = id;
+    }
+
     /**
      * How much money the player has.
      *
@@ -154,19 +203,19 @@ public class Player {
      * @return array of player owned monopolies
      */
     public String[] getMonopolies() {
-        ArrayList<String> monopolies = new ArrayList<String>();
-        for (String color: colorGroups.keySet()) {
-            if (NON_PROPERTY_COLORS.contains(color)) continue;
-
-            Integer num = colorGroups.get(color);
-            GameBoard gameBoard = GameMaster.instance().getGameBoard();
-            if (num.intValue() == gameBoard.getPropertyNumberForColor(color)) {
-                monopolies.add(color);
-            }
-        }
         return monopolies.toArray(new String[monopolies.size()]);
     }
 
+    /**
+     * Does the player own every property of a color group?
+     *
+     * @param colorGroup color group to check
+     * @return True if the color group is one of {@link #getMonopolies()}
+     */
+    public boolean isMonopoly(final String colorGroup) {
+        return monopolies.contains(colorGroup);
+    }
+
     /**
      * Screen name.
      *
@@ -189,17 +238,19 @@ public class Player {
     }
 
     /**
-     * Deduct bail amount from player's money unless bankrupt in which case money is set to zero.
+     * Deduct the bail of the board from player's money unless bankrupt in which case money is set to zero.
      * Marks player is no in jail and updates the GUI to reflect that.
      */
     public void getOutOfJail() {
-        money -= JailCell.BAIL;
+        int bail = gameMaster.getGameBoard().getBail();
+        gameMaster.journal(EventJournal.EVENT_BAIL, this, null, bail, 0);
+        money -= bail;
         if (isBankrupt()) {
             money = 0;
             exchangeProperty(null);
         }
         inJail = false;
-        GameMaster.instance().updateGUI();
+        gameMaster.updateGUI();
     }
 
     /**
@@ -218,17 +269,37 @@ public class Player {
      */
     public void setPosition(final Cell newPosition) {
         this.position = newPosition;
+        GameBoard gb = gameMaster.getGameBoard();
+        this.positionIndex = gb == null || newPosition == null ? -1 : gb.queryCellIndex(newPosition);
+    }
+
+    /**
+     * Index of the player's current position on the game board.
+     *
+     * @return board index of {@link #getPosition()}, -1 if the position is not on the board
+     */
+    public int getPositionIndex() {
+        return positionIndex;
+    }
+
+    /**
+     * Set player position on the game board by index.
+     *
+     * @param index board index of the new position
+     */
+    public void setPositionIndex(final int index) {
+        this.position = gameMaster.getGameBoard().getCell(index);
+        this.positionIndex = index;
     }
 
     /**
-     * Hash code generated via
-     * {@link org.apache.commons.lang3.builder.HashCodeBuilder#reflectionHashCode(Object, String...)}.
+     * Identity hash code, consistent with {@link #equals(Object)}.
      *
-     * @return hash code value based on reflection of instance variables
+     * @return hash code that does not change as the player plays
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return System.identityHashCode(this);
     }
 
     /**
@@ -284,6 +355,13 @@ public class Player {
      * @param rentValue amount owed in rent.
      */
     public void payRentTo(final Player owner, final int rentValue) {
+        gameMaster.journal(EventJournal.EVENT_RENT, this, owner, rentValue, positionIndex);
+        EngineMetrics metrics = gameMaster.getMetrics();
+        if (metrics != null) {
+            // rent paid while not on an owned cell, such as in a replay, counts as property rent
+            metrics.rent(position instanceof OwnedCell ? ((OwnedCell) position).getRentType()
+                    : EngineMetrics.RENT_PROPERTY, rentValue);
+        }
         if (money < rentValue) {
             owner.money += money;
             money -= rentValue;
@@ -306,6 +384,10 @@ public class Player {
         }
 
         OwnedCell c = (OwnedCell) getPosition();
+        gameMaster.journal(EventJournal.EVENT_PURCHASE, this, null, positionIndex, c.getPrice());
+        if (gameMaster.getMetrics() != null) {
+            gameMaster.getMetrics().purchase();
+        }
         c.setAvailable(false);
         buyProperty(c, c.getPrice());
     }
@@ -321,7 +403,7 @@ public class Player {
         if (StringUtils.isBlank(selectedMonopoly)) {
             throw new IllegalArgumentException("House purchasing requires specifying a monopoly");
         }
-        PropertyCell[] cells = GameMaster.instance().getGameBoard().getPropertiesInMonopoly(selectedMonopoly);
+        PropertyCell[] cells = gameMaster.getGameBoard().getPropertiesInMonopoly(selectedMonopoly);
 
         boolean doesNotHaveEnoughMoney = !(money >= (cells.length * (cells[0].getHousePrice() * houses)));
         if (doesNotHaveEnoughMoney) return;
@@ -331,9 +413,16 @@ public class Player {
 
             if (newNumber > MAX_MONOPOLY_HOUSES) continue;
 
+            if (gameMaster.getJournal() != null) {
+                gameMaster.journal(EventJournal.EVENT_HOUSE, this, null,
+                        gameMaster.getGameBoard().queryCellIndex(cells[i]), houses);
+            }
             cells[i].setNumHouses(newNumber);
+            if (gameMaster.getMetrics() != null) {
+                gameMaster.getMetrics().house(houses);
+            }
             this.setMoney(money - cells[i].getHousePrice() * houses);
-            GameMaster.instance().updateGUI();
+            gameMaster.updateGUI();
         }
     }
 
@@ -383,8 +472,9 @@ public class Player {
      * @param player player assuming ownership of this player's properties.
      */
     void exchangeProperty(final Player player) {
-        for (int i = 0; i < getPropertyNumber(); i++) {
-            PropertyCell cell = getProperty(i);
+        PropertyCell[] cells = properties.toArray(new PropertyCell[properties.size()]);
+        for (int i = 0; i < cells.length; i++) {
+            PropertyCell cell = cells[i];
             cell.setOwner(player);
             OwnedCellHelper.PROPERTY.remove(this, cell);
             if (player == null) {
@@ -423,6 +513,64 @@ public class Player {
         properties = new ArrayList();
         railroads = new ArrayList();
         utilities = new ArrayList();
+        colorGroups.clear();
+        monopolies.clear();
+    }
+
+    /**
+     * Put the player back in a state saved by {@link GameSnapshot}. Ownership is rebuilt in the order it was
+     * acquired, and monopolies in the order they were completed, so the player plays on exactly as it would have.
+     *
+     * @param money         money in hand
+     * @param positionIndex board index of the position, -1 to leave the position alone
+     * @param inJail        True if the player is in jail
+     * @param owned         cells owned, in the order of {@link #getAllProperties()}
+     * @param monopolyOrder color groups of {@link #getMonopolies()}, in order
+     */
+    void restore(final int money, final int positionIndex, final boolean inJail, final IOwnable[] owned,
+                 final String[] monopolyOrder) {
+        resetProperty();
+        for (int i = 0; i < owned.length; i++) {
+            owned[i].setOwner(this);
+            OwnedCellHelper.getHelperForClass(owned[i].getClass()).add(this, owned[i]);
+        }
+        monopolies.clear();
+        for (int i = 0; i < monopolyOrder.length; i++) {
+            monopolies.add(monopolyOrder[i]);
+        }
+        for (int i = 0; i < owned.length; i++) {
+            ((OwnedCell) owned[i]).updateRent();
+        }
+        this.money = money;
+        this.inJail = inJail;
+        if (positionIndex >= 0) {
+            setPositionIndex(positionIndex);
+        }
+    }
+
+    /**
+     * Work out again the rents of the cells of a color group the player owns, after the count of the group
+     * changed: the rents of a monopoly, or of rail roads and utilities, depend on how many the player holds.
+     *
+     * @param colorGroup color group of properties, {@link RailRoadCell#COLOR_GROUP} or
+     *                   {@link UtilityCell#COLOR_GROUP}
+     */
+    private void updateRents(final String colorGroup) {
+        if (RailRoadCell.COLOR_GROUP.equals(colorGroup)) {
+            for (int i = 0; i < railroads.size(); i++) {
+                railroads.get(i).updateRent();
+            }
+        } else if (UtilityCell.COLOR_GROUP.equals(colorGroup)) {
+            for (int i = 0; i < utilities.size(); i++) {
+                utilities.get(i).updateRent();
+            }
+        } else {
+            for (int i = 0; i < properties.size(); i++) {
+                if (colorGroup.equals(properties.get(i).getColorGroup())) {
+                    properties.get(i).updateRent();
+                }
+            }
+        }
     }
 
     /**
@@ -547,6 +695,8 @@ public class Player {
                     colorGroup,
                     player.getOwnedCellCountForColorGroup(colorGroup) - 1
             );
+            updateMonopoly(player, colorGroup);
+            player.updateRents(colorGroup);
         }
 
         /**
@@ -559,6 +709,25 @@ public class Player {
                 colorGroup,
                 player.getOwnedCellCountForColorGroup(colorGroup) + 1
             );
+            updateMonopoly(player, colorGroup);
+            player.updateRents(colorGroup);
+        }
+
+        /**
+         * Add or remove a property color group from the player's monopolies after its count changed.
+         * @param player player whose count changed
+         * @param colorGroup color group whose count changed
+         */
+        private static void updateMonopoly(Player player, String colorGroup) {
+            if (NON_PROPERTY_COLORS.contains(colorGroup)) return;
+
+            GameBoard gameBoard = player.gameMaster.getGameBoard();
+            int owned = player.getOwnedCellCountForColorGroup(colorGroup);
+            if (gameBoard != null && owned > 0 && owned == gameBoard.getPropertyNumberForColor(colorGroup)) {
+                player.monopolies.add(colorGroup);
+            } else {
+                player.monopolies.remove(colorGroup);
+            }
         }
 
         /**
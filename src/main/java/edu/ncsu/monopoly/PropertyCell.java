@@ -7,6 +7,11 @@ public class PropertyCell extends OwnedCell {
 	private int rent;
 	private int sellPrice;
 
+	/**
+	 * Rent by {@link CompiledBoard#getPropertyColumn(int, boolean)}, built with the base rent.
+	 */
+	private int[] rents = rentRow(0);
+
 	public String getColorGroup() {
 		return colorGroup;
 	}
@@ -24,28 +29,47 @@ public class PropertyCell extends OwnedCell {
 	}
 
 	public int getRent() {
-		int rentToCharge = rent;
-		rentToCharge = calcMonopolyRent(rentToCharge);
-		if(numHouses > 0) {
-			rentToCharge = rent * (numHouses + 1);
+		return getRentDue();
+	}
+
+	int computeRent() {
+		if(numHouses > Player.MAX_MONOPOLY_HOUSES) {
+			return rent * (numHouses + 1);
 		}
-		return rentToCharge;
+		return rents[CompiledBoard.getPropertyColumn(numHouses, numHouses == 0 && owner.isMonopoly(colorGroup))];
+	}
+
+	int getRentType() {
+		return EngineMetrics.RENT_PROPERTY;
 	}
 
-	private int calcMonopolyRent(int rentToCharge) {
-		String [] monopolies = owner.getMonopolies();
-		for(int i = 0; i < monopolies.length; i++) {
-			if(monopolies[i].equals(colorGroup)) {
-				rentToCharge = rent * 2;
-			}
+	int getBaseRent() {
+		return rent;
+	}
+
+	/**
+	 * Rent table of the property.
+	 *
+	 * @return rent by {@link CompiledBoard#getPropertyColumn(int, boolean)}, not to be modified
+	 */
+	int[] getRents() {
+		return rents;
+	}
+
+	private static int[] rentRow(int rent) {
+		int[] row = new int[Player.MAX_MONOPOLY_HOUSES + 2];
+		row[0] = rent;
+		row[1] = rent * 2;
+		for(int houses = 1; houses <= Player.MAX_MONOPOLY_HOUSES; houses++) {
+			row[houses + 1] = rent * (houses + 1);
 		}
-		return rentToCharge;
+		return row;
 	}
 
 	public void playAction() {
 		Player currentPlayer = null;
 		if(!isAvailable()) {
-			currentPlayer = GameMaster.instance().getCurrentPlayer();
+			currentPlayer = getGameMaster().getCurrentPlayer();
 			payRent(currentPlayer);
 		}
 	}
@@ -65,7 +89,11 @@ public class PropertyCell extends OwnedCell {
 	}
 
 	public void setNumHouses(int numHouses) {
-		this.numHouses = numHouses;
+		if(numHouses != this.numHouses) {
+			this.numHouses = numHouses;
+			changed();
+			updateRent();
+		}
 	}
 
 	public void setPrice(int sellPrice) {
@@ -74,5 +102,7 @@ public class PropertyCell extends OwnedCell {
 
 	public void setRent(int rent) {
 		this.rent = rent;
+		this.rents = rentRow(rent);
+		updateRent();
 	}
 }
@@ -1,30 +1,64 @@
 package edu.ncsu.monopoly;
 
 public class RailRoadCell extends OwnedCell {
-	static private int baseRent;
 	static public String COLOR_GROUP = "RAILROAD";
-	static private int price;
 
+	/**
+	 * Set the base rent of the rail roads of the board of {@link GameMaster#instance()}.
+	 *
+	 * @param baseRent rent of a single rail road
+	 * @deprecated each board has its own, use {@link GameBoard#setRailRoadRent(int)}
+	 */
+	@Deprecated
 	public static void setBaseRent(int baseRent) {
-		RailRoadCell.baseRent = baseRent;
+		GameMaster.instance().getGameBoard().setRailRoadRent(baseRent);
 	}
 
+	/**
+	 * Set the price of the rail roads of the board of {@link GameMaster#instance()}.
+	 *
+	 * @param price price of every rail road
+	 * @deprecated each board has its own, use {@link GameBoard#setRailRoadPrice(int)}
+	 */
+	@Deprecated
 	public static void setPrice(int price) {
-		RailRoadCell.price = price;
+		GameMaster.instance().getGameBoard().setRailRoadPrice(price);
 	}
-	
+
 	public int getPrice() {
-		return RailRoadCell.price;
+		GameBoard board = getGameBoard();
+		return board == null ? 0 : board.getRailRoadPrice();
 	}
 
 	public int getRent() {
-		return RailRoadCell.baseRent * (int)Math.pow(2, owner.numberOfRR() - 1);
+		return getRentDue();
+	}
+
+	int computeRent() {
+		GameBoard board = getGameBoard();
+		return board == null ? 0 : getRent(board.getRailRoadRent(), owner.numberOfRR());
+	}
+
+	int getRentType() {
+		return EngineMetrics.RENT_RAILROAD;
+	}
+
+	/**
+	 * Rent of a rail road, doubled for every other one its owner holds, up to {@link Integer#MAX_VALUE} on boards
+	 * with dozens of rail roads.
+	 *
+	 * @param baseRent rent with a single rail road
+	 * @param owned    rail roads the owner holds, at least 1
+	 * @return rent due
+	 */
+	static int getRent(int baseRent, int owned) {
+		return (int) Math.min((long) baseRent << Math.max(0, Math.min(owned - 1, 32)), Integer.MAX_VALUE);
 	}
 	
 	public void playAction() {
 		Player currentPlayer = null;
 		if(!isAvailable()) {
-			currentPlayer = GameMaster.instance().getCurrentPlayer();
+			currentPlayer = getGameMaster().getCurrentPlayer();
 			checkOwnership(currentPlayer);
 		}
 	}
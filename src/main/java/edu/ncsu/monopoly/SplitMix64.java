@@ -0,0 +1,90 @@
+package edu.ncsu.monopoly;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>SplitMix64 pseudo random generator: one <code>long</code> of state, advanced by a constant and scrambled on
+ * every draw. Far cheaper than {@link Math#random()}, which every thread shares through one synchronized
+ * generator, and seedable, so a game played from a seed can be played again exactly.</p>
+ * <p>Independent generators for games, threads or dice are derived from one master seed with
+ * {@link #stream(long, long)} or {@link #split()}. Not thread safe; every thread uses its own instance.</p>
+ */
+public final class SplitMix64 {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Distinguishes the seeds of generators created in the same nanosecond.
+     */
+    private static final AtomicLong SEED_UNIQUIFIER = new AtomicLong(System.currentTimeMillis());
+
+    private long state;
+
+    /**
+     * Constructor for a generator seeded from the clock and distinct from every other unseeded generator.
+     */
+    public SplitMix64() {
+        this(mix64(SEED_UNIQUIFIER.addAndGet(GOLDEN_GAMMA)) ^ mix64(System.nanoTime()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seed start of the sequence
+     */
+    public SplitMix64(final long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Restart the sequence.
+     *
+     * @param seed start of the sequence, the same seed as a new generator gives the same values
+     */
+    public void setSeed(final long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Uniform value below a bound, from the high 32 bits of the next value. The bias of the multiply and shift is
+     * below 2<sup>-32</sup> times the bound, far below what any simulation can observe.
+     *
+     * @param bound number of possible values, positive
+     * @return value between 0 inclusive and <code>bound</code> exclusive
+     */
+    public int nextInt(final int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * New generator seeded from this one, statistically independent of it.
+     *
+     * @return new generator
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong());
+    }
+
+    /**
+     * Seed of an independent stream derived from a master seed, e.g. the seed of game number <code>index</code> of
+     * a simulation or of one die of a game. The same master seed and index always give the same stream.
+     *
+     * @param seed  master seed
+     * @param index number of the stream
+     * @return seed of the stream
+     */
+    public static long stream(final long seed, final long index) {
+        return mix64(mix64(seed) + GOLDEN_GAMMA * (index + 1));
+    }
+
+    private static long mix64(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
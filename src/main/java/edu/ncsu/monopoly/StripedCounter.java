@@ -0,0 +1,83 @@
+package edu.ncsu.monopoly;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter shared by games on many threads. Every thread adds to one of several stripes, picked by its thread id
+ * and each on a cache line of its own, so threads rarely write the same memory; reading the counter sums the
+ * stripes.
+ */
+public final class StripedCounter {
+    /**
+     * Longs from one stripe to the next: a 64 byte cache line.
+     */
+    static final int PAD = 8;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    /**
+     * Constructor for a counter with {@link #defaultStripes()} stripes.
+     */
+    public StripedCounter() {
+        this(defaultStripes());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stripes stripes to spread the threads over, rounded up to a power of two
+     */
+    public StripedCounter(final int stripes) {
+        int size = powerOfTwo(stripes);
+        cells = new AtomicLongArray(size * PAD);
+        mask = size - 1;
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(final long value) {
+        cells.getAndAdd(stripe(mask) * PAD, value);
+    }
+
+    /**
+     * Sum of the stripes. Not a snapshot: additions made while summing may or may not be included.
+     *
+     * @return value of the counter
+     */
+    public long get() {
+        long sum = 0;
+        for (int i = 0; i < cells.length(); i += PAD) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+
+    /**
+     * Stripes for shared metrics: twice the processors, so that threads on different processors rarely share one.
+     *
+     * @return number of stripes
+     */
+    static int defaultStripes() {
+        return Math.min(64, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    static int powerOfTwo(final int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Stripes must be positive");
+        }
+        return Integer.highestOneBit(n) == n ? n : Integer.highestOneBit(n) << 1;
+    }
+
+    /**
+     * Stripe of the calling thread.
+     *
+     * @param mask number of stripes less one
+     * @return stripe index
+     */
+    static int stripe(final int mask) {
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
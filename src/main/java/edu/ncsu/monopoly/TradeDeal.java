@@ -18,12 +18,16 @@ public class TradeDeal {
     }
     
     public String makeMessage() {
-        String message = GameMaster.instance().getCurrentPlayer() + 
+        return makeMessage(GameMaster.instance());
+    }
+
+    public String makeMessage(GameMaster gameMaster) {
+        String message = gameMaster.getCurrentPlayer() + 
         	" wishes to purchase " +
         	propertyName + " from " + 
-        	GameMaster.instance().getPlayer(playerIndex) +
+        	gameMaster.getPlayer(playerIndex) +
         	" for " + amount + ".  " + 
-        	GameMaster.instance().getPlayer(playerIndex) +
+        	gameMaster.getPlayer(playerIndex) +
         	", do you wish to trade your property?";
         return message;
     }
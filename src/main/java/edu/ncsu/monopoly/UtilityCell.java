@@ -3,21 +3,46 @@ package edu.ncsu.monopoly;
 public class UtilityCell extends OwnedCell {
 
 	public static final String COLOR_GROUP = "UTILITY";
-	private static int PRICE;
 
+	/**
+	 * Set the price of the utilities of the board of {@link GameMaster#instance()}.
+	 *
+	 * @param price price of every utility
+	 * @deprecated each board has its own, use {@link GameBoard#setUtilityPrice(int)}
+	 */
+	@Deprecated
 	public static void setPrice(int price) {
-		UtilityCell.PRICE = price;
+		GameMaster.instance().getGameBoard().setUtilityPrice(price);
 	}
 
 	public int getPrice() {
-		return UtilityCell.PRICE;
+		GameBoard board = getGameBoard();
+		return board == null ? 0 : board.getUtilityPrice();
 	}
 
 	public int getRent(int diceRoll) {
-		if(owner.numberOfUtil() == 1) {
-			return diceRoll * 4;
-		} else if (owner.numberOfUtil() >= 2) {
-			return diceRoll * 10;
+		return diceRoll * getRentDue();
+	}
+
+	int computeRent() {
+		return getMultiplier(owner.numberOfUtil());
+	}
+
+	int getRentType() {
+		return EngineMetrics.RENT_UTILITY;
+	}
+
+	/**
+	 * Multiplier of the dice roll a utility owner charges.
+	 *
+	 * @param owned utilities the owner holds
+	 * @return multiplier, 0 for none
+	 */
+	static int getMultiplier(int owned) {
+		if(owned == 1) {
+			return 4;
+		} else if (owned >= 2) {
+			return 10;
 		}
 		return 0;
 	}
@@ -25,10 +50,10 @@ public class UtilityCell extends OwnedCell {
 	public void playAction() {
 		Player currentPlayer = null;
 		if(!isAvailable()) {
-			currentPlayer = GameMaster.instance().getCurrentPlayer();
+			currentPlayer = getGameMaster().getCurrentPlayer();
 			if(owner != currentPlayer) {
-				GameMaster.instance().utilRollDice();
-				int diceRoll = GameMaster.instance().getUtilDiceRoll();
+				getGameMaster().utilRollDice();
+				int diceRoll = getGameMaster().getUtilDiceRoll();
 				currentPlayer.payRentTo(owner, getRent(diceRoll));
 			}
 		}
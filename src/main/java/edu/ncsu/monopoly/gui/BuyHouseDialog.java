@@ -19,9 +19,20 @@ public class BuyHouseDialog extends JDialog {
 	private JComboBox cboNumber;
 
 	private Player player;
+	private String[] monopolies;
+	private EngineThread engine;
 
-	public BuyHouseDialog(Player player) {
+	/**
+	 * Constructor.
+	 *
+	 * @param player     player buying houses
+	 * @param monopolies monopolies of the player, read on the engine thread
+	 * @param engine     thread the purchase is posted to
+	 */
+	public BuyHouseDialog(Player player, String[] monopolies, EngineThread engine) {
 		this.player = player;
+		this.monopolies = monopolies;
+		this.engine = engine;
 		Container c = this.getContentPane();
 		c.setLayout(new GridLayout(3, 2));
 		c.add(new JLabel("Select monopoly"));
@@ -45,7 +56,7 @@ public class BuyHouseDialog extends JDialog {
 	}
 
 	private JComboBox buildMonopolyComboBox() {
-		cboMonopoly = new JComboBox(player.getMonopolies());
+		cboMonopoly = new JComboBox(monopolies);
 		return cboMonopoly;
 	}
 	
@@ -74,9 +85,13 @@ public class BuyHouseDialog extends JDialog {
 	}
 	
 	private void okClicked() {
-		String monopoly = (String)cboMonopoly.getSelectedItem();
-		int number = cboNumber.getSelectedIndex() + 1;
-		player.purchaseHouse(monopoly, number);
+		final String monopoly = (String)cboMonopoly.getSelectedItem();
+		final int number = cboNumber.getSelectedIndex() + 1;
+		engine.post(new Runnable() {
+			public void run() {
+				player.purchaseHouse(monopoly, number);
+			}
+		});
 		this.dispose();
 	}
 }
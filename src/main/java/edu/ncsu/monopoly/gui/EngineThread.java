@@ -0,0 +1,64 @@
+package edu.ncsu.monopoly.gui;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import edu.ncsu.monopoly.GameMaster;
+
+/**
+ * Thread the game engine runs on, apart from the Swing event dispatch thread. The GUI posts every command of the
+ * players, such as a click on a button, to a queue the engine applies them from in order, so only this thread
+ * plays the {@link GameMaster}. What a command changes reaches the GUI as events {@link MainWindow} applies on the
+ * event dispatch thread; when the engine needs an answer from a player it waits for the dialog while the GUI goes
+ * on painting.
+ * <p>Background work on the game, such as saving it, is posted here too: it waits for the command in progress
+ * instead of racing it, and never holds up the event dispatch thread.</p>
+ */
+public final class EngineThread implements Runnable {
+    private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<Runnable>();
+    private final Thread thread;
+
+    public EngineThread() {
+        thread = new Thread(this, "engine");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stop once the command in progress is done, dropping the queued ones.
+     */
+    public void stop() {
+        thread.interrupt();
+    }
+
+    /**
+     * Queue a command for the engine, from any thread.
+     *
+     * @param command command to run on the engine thread
+     */
+    public void post(final Runnable command) {
+        commands.add(command);
+    }
+
+    /**
+     * Run the commands as they come. A command that fails is reported to the uncaught exception handler of the
+     * thread, as Swing does for the event dispatch thread, and the engine goes on with the next one.
+     */
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Runnable command = commands.take();
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            // stopped
+        }
+    }
+}
@@ -10,6 +10,9 @@ import edu.ncsu.monopoly.*;
 public class GUICell extends JPanel {
 
 	private Cell cell;
+	//text of the cell, formatted at version of the cell; null until first formatted.
+	private String info;
+	private int version;
 	private JLabel lblInfo;
 	private JLabel[] lblPlayers = new JLabel[GameMaster.MAX_PLAYER];
 	
@@ -38,8 +41,19 @@ public class GUICell extends JPanel {
 	
 	public void addPlayer(int index) {
 		Player player = GameMaster.instance().getPlayer(index);
-		lblPlayers[index].setText(player.getName().substring(0, 1));
+		addPlayer(index, player.getName().substring(0, 1));
+	}
+
+	/**
+	 * Show the token of a player.
+	 *
+	 * @param index seat of the player
+	 * @param token text of the token, read off the event dispatch thread
+	 */
+	void addPlayer(int index, String token) {
+		lblPlayers[index].setText(token);
 		lblPlayers[index].setOpaque(true);
+		lblPlayers[index].repaint();
 	}
 
     private void createPlayerLabels(JPanel pnlPlayer) {
@@ -51,11 +65,44 @@ public class GUICell extends JPanel {
 	}
 
 	public void displayInfo() {
-		lblInfo.setText(InfoFormatter.cellInfo(cell));
+		setInfo(formatInfo());
+	}
+
+	/**
+	 * Text of the cell, formatted again only once the version of the cell moved.
+	 */
+	private String formatInfo() {
+		if(info == null || cell.getVersion() != version) {
+			version = cell.getVersion();
+			info = InfoFormatter.cellInfo(cell);
+		}
+		return info;
+	}
+
+	private void setInfo(String info) {
+		lblInfo.setText(info);
         this.invalidate();
 		this.repaint();
 	}
 
+	/**
+	 * Format the cell again if it changed since it was last displayed. The cell is read on the calling thread,
+	 * the engine thread in the game, and displayed by the change returned.
+	 *
+	 * @return change to run on the event dispatch thread, null if the cell did not change
+	 */
+	public Runnable update() {
+		if(info != null && cell.getVersion() == version) {
+			return null;
+		}
+		final String text = formatInfo();
+		return new Runnable() {
+			public void run() {
+				setInfo(text);
+			}
+		};
+	}
+
 	public Cell getCell() {
 		return cell;
 	}
@@ -63,6 +110,6 @@ public class GUICell extends JPanel {
 	public void removePlayer(int index) {
 		lblPlayers[index].setText("");
 		lblPlayers[index].setOpaque(false);
-        this.repaint();
+		lblPlayers[index].repaint();
 	}
 }
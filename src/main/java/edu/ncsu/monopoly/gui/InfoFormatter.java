@@ -1,19 +1,38 @@
 package edu.ncsu.monopoly.gui;
 
-import java.util.Hashtable;
+import java.util.HashMap;
+import java.util.Map;
 
 import edu.ncsu.monopoly.*;
 
+/**
+ * Text displayed on a cell of the board, formatted by the {@link CellInfoFormatter} of its class. {@link GUICell}
+ * keeps the text until the {@link Cell#getVersion()} of its cell changes.
+ */
 public class InfoFormatter {
-    static Hashtable cellInfoFormatters = null;
-    
+    private static final Map<Class<?>, CellInfoFormatter> cellInfoFormatters =
+            new HashMap<Class<?>, CellInfoFormatter>();
+
     static {
-        if (cellInfoFormatters == null) {
-            cellInfoFormatters = new Hashtable();
-            addFormatters();
-        }
+        addFormatters();
     }
-    
+
+    /**
+     * Formatter of a cell class: the one registered for the class or else for its nearest superclass. Looked up
+     * once per class, then read without locking.
+     */
+    private static final ClassValue<CellInfoFormatter> formatters = new ClassValue<CellInfoFormatter>() {
+        protected CellInfoFormatter computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                CellInfoFormatter formatter = cellInfoFormatters.get(c);
+                if (formatter != null) {
+                    return formatter;
+                }
+            }
+            throw new IllegalArgumentException("No formatter for " + type.getName());
+        }
+    };
+
     private static void addFormatters() {
         cellInfoFormatters.put(
                 PropertyCell.class, new PropertyCellInfoFormatter());
@@ -34,9 +53,6 @@ public class InfoFormatter {
     }
 
     public static String cellInfo(Cell cell) {
-        CellInfoFormatter formatter =
-                (CellInfoFormatter) cellInfoFormatters.get(cell.getClass());
-        return formatter.format(cell);
+        return formatters.get(cell.getClass()).format(cell);
     }
-
 }
@@ -7,11 +7,17 @@ import javax.swing.JPanel;
 import edu.ncsu.monopoly.GameMaster;
 
 public class InfoPanel extends JPanel {
+	private EngineThread engine;
+
+	public InfoPanel(EngineThread engine) {
+		this.engine = engine;
+	}
+
 	public void displayInfo() {
 		GameMaster master = GameMaster.instance();
 		setLayout(new GridLayout(1, master.getNumberOfPlayers()));
 		for (int i = 0; i< master.getNumberOfPlayers(); i++){
-			PlayerPanel panel = new PlayerPanel(master.getPlayer(i));
+			PlayerPanel panel = new PlayerPanel(master.getPlayer(i), engine);
 			add(panel);
 			panel.displayInfo();
 		}
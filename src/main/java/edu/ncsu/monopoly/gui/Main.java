@@ -1,5 +1,7 @@
 package edu.ncsu.monopoly.gui;
 
+import java.io.IOException;
+
 import javax.swing.JOptionPane;
 
 import edu.ncsu.monopoly.*;
@@ -28,44 +30,29 @@ public class Main {
 	}
 
 	public static void main(String[] args) {
-		GameMaster master = GameMaster.instance();
-		MainWindow window = new MainWindow();
+		final GameMaster master = GameMaster.instance();
+		EngineThread engine = new EngineThread();
+		MainWindow window = new MainWindow(engine);
 		GameBoard gameBoard = null;
 		if(args.length > 0) {
 			if(args[0].equals("test")) {
 				master.setTestMode(true);
 			}
 			try {
-				Class c = Class.forName(args[1]);
-				gameBoard = (GameBoard)c.newInstance();
-			}
-			catch (ClassNotFoundException e) {
-				JOptionPane.showMessageDialog(window, "Class Not Found.  Program will exit");
-				System.exit(0);
+				gameBoard = BoardDefinition.find(args[1]).newGameBoard();
 			}
-			catch (IllegalAccessException e ) {
-				JOptionPane.showMessageDialog(window, "Illegal Access of Class.  Program will exit");
+			catch (IllegalArgumentException e) {
+				JOptionPane.showMessageDialog(window, "Board Not Found.  Program will exit");
 				System.exit(0);
 			}
-			catch (InstantiationException e) {
-				JOptionPane.showMessageDialog(window, "Class Cannot be Instantiated.  Program will exit");
+			catch (IOException e) {
+				JOptionPane.showMessageDialog(window, e.getMessage() + ".  Program will exit");
 				System.exit(0);
 			}
 		}
 		else {
-			gameBoard = new GameBoardFull();
+			gameBoard = BoardDefinition.forName("GameBoardFull").newGameBoard();
 		}
-		
-//      GameBoard gameBoard = new GameBoardFull();
-//		GameBoard gameBoard = new GameBoardCCMovePlayer();
-//		GameBoard gameBoard = new GameBoardCCLoseMoney();
-//		GameBoard gameBoard = new GameBoardCCJail();
-//		GameBoard gameBoard = new GameBoardUtility();
-//		GameBoard gameBoard = new GameBoardRailRoad();
-//		GameBoard gameBoard = new GameBoard14();
-//		GameBoard gameBoard = new SimpleGameBoard();
-//		GameBoard gameBoard = new GameBoardJail();
-//		GameBoard gameBoard = new GameBoardFreeParking();
 
 		master.setGameBoard(gameBoard);
 		int numPlayers = inputNumberOfPlayers(window);
@@ -77,6 +64,11 @@ public class Main {
 		window.setupGameBoard(gameBoard);
 		window.show();
 		master.setGUI(window);
-		master.startGame();
+		engine.start();
+		engine.post(new Runnable() {
+			public void run() {
+				master.startGame();
+			}
+		});
 	}
 }
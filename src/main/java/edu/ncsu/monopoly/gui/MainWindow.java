@@ -6,28 +6,51 @@ import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.GridLayout;
 import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import javax.swing.border.LineBorder;
 
 import edu.ncsu.monopoly.*;
 
+/**
+ * Window of the game. The engine plays on an {@link EngineThread} and calls this GUI from there: what it changes is
+ * read on the engine thread and applied on the event dispatch thread, and the dialogs it waits for are shown on the
+ * event dispatch thread while the engine waits. Clicks and menu commands are posted to the engine thread.
+ */
 public class MainWindow extends JFrame implements MonopolyGUI{
+	private final EngineThread engine;
 	JPanel eastPanel = new JPanel();
-	ArrayList guiCells = new ArrayList();
+	//cells of the board by board index, null for cells left out of the layout.
+	GUICell[] guiCells = new GUICell[0];
 
 	JPanel northPanel = new JPanel();
 	PlayerPanel[] playerPanels;
 	JPanel southPanel = new JPanel();
 	JPanel westPanel = new JPanel();
+	//version of the board at the last update(), see GameBoard.getVersion().
+	private int boardVersion;
 
-	public MainWindow() {
+	public MainWindow(EngineThread engine) {
+		this.engine = engine;
 		northPanel.setBorder(new LineBorder(Color.BLACK));
 		southPanel.setBorder(new LineBorder(Color.BLACK));
 		westPanel.setBorder(new LineBorder(Color.BLACK));
@@ -42,6 +65,7 @@ public class MainWindow extends JFrame implements MonopolyGUI{
 		c.add(southPanel, BorderLayout.SOUTH);
 		c.add(eastPanel, BorderLayout.EAST);
 		c.add(westPanel, BorderLayout.WEST);
+		setJMenuBar(createMenuBar());
 		
 		this.addWindowListener(new WindowAdapter(){
 			public void windowClosing(WindowEvent e) {
@@ -50,11 +74,96 @@ public class MainWindow extends JFrame implements MonopolyGUI{
 		});
 	}
 	
-	private void addCells(JPanel panel, List cells) {
+	private JMenuBar createMenuBar() {
+		JMenuItem save = new JMenuItem("Save...");
+		save.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent e) {
+				saveGame();
+			}
+		});
+		JMenuItem load = new JMenuItem("Load...");
+		load.addActionListener(new ActionListener() {
+			public void actionPerformed(ActionEvent e) {
+				loadGame();
+			}
+		});
+		JMenu menu = new JMenu("Game");
+		menu.add(save);
+		menu.add(load);
+		JMenuBar bar = new JMenuBar();
+		bar.add(menu);
+		return bar;
+	}
+
+	private void saveGame() {
+		JFileChooser chooser = new JFileChooser();
+		if(chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+		final File file = chooser.getSelectedFile();
+		engine.post(new Runnable() {
+			public void run() {
+				try {
+					GameSave.save(GameMaster.instance(), file);
+				} catch (IOException e) {
+					showMessage("Cannot save the game: " + e.getMessage());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Load a game saved on the board of this window with as many players, move the tokens to where the players
+	 * are and resume the turn of the current player.
+	 */
+	private void loadGame() {
+		JFileChooser chooser = new JFileChooser();
+		if(chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+		final File file = chooser.getSelectedFile();
+		engine.post(new Runnable() {
+			public void run() {
+				loadGame(file);
+			}
+		});
+	}
+
+	private void loadGame(File file) {
+		GameMaster master = GameMaster.instance();
+		GameSnapshot snapshot;
+		try {
+			snapshot = readGame(file, master.getGameBoard());
+		} catch (IOException e) {
+			showMessage("Cannot load the game: " + e.getMessage());
+			return;
+		}
+		if(snapshot.getNumberOfPlayers() != playerPanels.length) {
+			showMessage("The game was saved with " + snapshot.getNumberOfPlayers() + " players, not "
+					+ playerPanels.length);
+			return;
+		}
+		int[] from = new int[playerPanels.length];
+		for(int i = 0; i < from.length; i++) {
+			from[i] = master.getPlayer(i).getPositionIndex();
+		}
+		snapshot.restore(master);
+		for(int i = 0; i < from.length; i++) {
+			movePlayer(i, from[i], master.getPlayer(i).getPositionIndex());
+		}
+		master.resumeGame();
+	}
+
+	private static GameSnapshot readGame(File file, GameBoard board) throws IOException {
+		InputStream in = new BufferedInputStream(new FileInputStream(file));
+		try {
+			return GameSave.read(in, board);
+		} finally {
+			in.close();
+		}
+	}
+
+	private void addCells(JPanel panel, List cells, GameBoard board) {
 		for(int x=0; x<cells.size(); x++) {
 			GUICell cell = new GUICell((Cell)cells.get(x));
 			panel.add(cell);
-			guiCells.add(cell);
+			guiCells[board.queryCellIndex(cell.getCell())] = cell;
 		}
 	}
 	
@@ -66,111 +175,194 @@ public class MainWindow extends JFrame implements MonopolyGUI{
 		getContentPane().add(infoPanel, BorderLayout.CENTER);
 		playerPanels = new PlayerPanel[master.getNumberOfPlayers()];
 		for (int i = 0; i< master.getNumberOfPlayers(); i++){
-			playerPanels[i] = new PlayerPanel(master.getPlayer(i));
+			playerPanels[i] = new PlayerPanel(master.getPlayer(i), engine);
 			infoPanel.add(playerPanels[i]);
 			playerPanels[i].displayInfo();
 		}
 	}
 
-	public void enableEndTurnBtn(int playerIndex) {
-		playerPanels[playerIndex].setEndTurnEnabled(true);
+	public void enableEndTurnBtn(final int playerIndex) {
+		invokeLater(new Runnable() {
+			public void run() {
+				playerPanels[playerIndex].setEndTurnEnabled(true);
+			}
+		});
 	}
 	
-	public void enablePlayerTurn(int playerIndex) {
-		playerPanels[playerIndex].setRollDiceEnabled(true);
-		
+	public void enablePlayerTurn(final int playerIndex) {
+		invokeLater(new Runnable() {
+			public void run() {
+				playerPanels[playerIndex].setRollDiceEnabled(true);
+			}
+		});
 	}
 
-	public void enablePurchaseBtn(int playerIndex) {
-		playerPanels[playerIndex].setPurchasePropertyEnabled(true);
+	public void enablePurchaseBtn(final int playerIndex) {
+		invokeLater(new Runnable() {
+			public void run() {
+				playerPanels[playerIndex].setPurchasePropertyEnabled(true);
+			}
+		});
 	}
 
 	public int[] getDiceRoll() {
-		TestDiceRollDialog dialog = new TestDiceRollDialog(this);
-		dialog.show();
-		return dialog.getDiceRoll();
+		final int[][] diceRoll = new int[1][];
+		invokeAndWait(new Runnable() {
+			public void run() {
+				TestDiceRollDialog dialog = new TestDiceRollDialog(MainWindow.this);
+				dialog.show();
+				diceRoll[0] = dialog.getDiceRoll();
+			}
+		});
+		return diceRoll[0];
 	}
 
     public boolean isDrawCardButtonEnabled() {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        return playerPanels[currentPlayerIndex].isDrawCardButtonEnabled();
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        final boolean[] enabled = new boolean[1];
+        invokeAndWait(new Runnable() {
+            public void run() {
+                enabled[0] = playerPanels[currentPlayerIndex].isDrawCardButtonEnabled();
+            }
+        });
+        return enabled[0];
     }
 
     public boolean isEndTurnButtonEnabled() {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        return playerPanels[currentPlayerIndex].isEndTurnButtonEnabled();
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        final boolean[] enabled = new boolean[1];
+        invokeAndWait(new Runnable() {
+            public void run() {
+                enabled[0] = playerPanels[currentPlayerIndex].isEndTurnButtonEnabled();
+            }
+        });
+        return enabled[0];
     }
 
 	public boolean isGetOutOfJailButtonEnabled() {
-		int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-		return playerPanels[currentPlayerIndex].isGetOutOfJailButtonEnabled();
+		final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+		final boolean[] enabled = new boolean[1];
+		invokeAndWait(new Runnable() {
+			public void run() {
+				enabled[0] = playerPanels[currentPlayerIndex].isGetOutOfJailButtonEnabled();
+			}
+		});
+		return enabled[0];
 	}
 
-    public boolean isTradeButtonEnabled(int i) {
-        return playerPanels[i].isTradeButtonEnabled();
+    public boolean isTradeButtonEnabled(final int i) {
+        final boolean[] enabled = new boolean[1];
+        invokeAndWait(new Runnable() {
+            public void run() {
+                enabled[0] = playerPanels[i].isTradeButtonEnabled();
+            }
+        });
+        return enabled[0];
     }
 	
-	public void movePlayer(int index, int from, int to) {
-		GUICell fromCell = queryCell(from);
-		GUICell toCell = queryCell(to);
-		fromCell.removePlayer(index);
-		toCell.addPlayer(index);
-	}
-
-    public RespondDialog openRespondDialog(TradeDeal deal) {
-        GUIRespondDialog dialog = new GUIRespondDialog();
-        dialog.setDeal(deal);
-        dialog.show();
-        return dialog;
+	/**
+	 * Move the token of a player. Only the token labels of the two cells are touched, whatever the size of the
+	 * board.
+	 */
+	public void movePlayer(final int index, int from, int to) {
+		final GUICell fromCell = queryCell(from);
+		final GUICell toCell = queryCell(to);
+		final String token = GameMaster.instance().getPlayer(index).getName().substring(0, 1);
+		invokeLater(new Runnable() {
+			public void run() {
+				if(fromCell != null) fromCell.removePlayer(index);
+				if(toCell != null) toCell.addPlayer(index, token);
+			}
+		});
+	}
+
+    public RespondDialog openRespondDialog(final TradeDeal deal) {
+        final GUIRespondDialog[] dialog = new GUIRespondDialog[1];
+        invokeAndWait(new Runnable() {
+            public void run() {
+                dialog[0] = new GUIRespondDialog();
+                dialog[0].setDeal(deal);
+                dialog[0].show();
+            }
+        });
+        return dialog[0];
     }
 
     public TradeDialog openTradeDialog() {
-        GUITradeDialog dialog = new GUITradeDialog(this);
-        dialog.show();
-        return dialog;
+        final GUITradeDialog[] dialog = new GUITradeDialog[1];
+        invokeAndWait(new Runnable() {
+            public void run() {
+                dialog[0] = new GUITradeDialog(MainWindow.this);
+                dialog[0].show();
+            }
+        });
+        return dialog[0];
     }
 	
 	private GUICell queryCell(int index) {
-		Cell cell = GameMaster.instance().getGameBoard().getCell(index);
-		for(int x = 0; x < guiCells.size(); x++) {
-			GUICell guiCell = (GUICell)guiCells.get(x);
-			if(guiCell.getCell() == cell) return guiCell;
-		}
-		return null;
+		return index >= 0 && index < guiCells.length ? guiCells[index] : null;
 	}
 
-    public void setBuyHouseEnabled(boolean b) {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        playerPanels[currentPlayerIndex].setBuyHouseEnabled(b);
+    public void setBuyHouseEnabled(final boolean b) {
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[currentPlayerIndex].setBuyHouseEnabled(b);
+            }
+        });
     }
 
-    public void setDrawCardEnabled(boolean b) {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        playerPanels[currentPlayerIndex].setDrawCardEnabled(b);
+    public void setDrawCardEnabled(final boolean b) {
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[currentPlayerIndex].setDrawCardEnabled(b);
+            }
+        });
     }
 
-    public void setEndTurnEnabled(boolean enabled) {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        playerPanels[currentPlayerIndex].setEndTurnEnabled(enabled);
+    public void setEndTurnEnabled(final boolean enabled) {
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[currentPlayerIndex].setEndTurnEnabled(enabled);
+            }
+        });
     }
 
-    public void setGetOutOfJailEnabled(boolean b) {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        playerPanels[currentPlayerIndex].setGetOutOfJailEnabled(b);
+    public void setGetOutOfJailEnabled(final boolean b) {
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[currentPlayerIndex].setGetOutOfJailEnabled(b);
+            }
+        });
     }
 
-    public void setPurchasePropertyEnabled(boolean enabled) {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        playerPanels[currentPlayerIndex].setPurchasePropertyEnabled(enabled);
+    public void setPurchasePropertyEnabled(final boolean enabled) {
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[currentPlayerIndex].setPurchasePropertyEnabled(enabled);
+            }
+        });
     }
 
-    public void setRollDiceEnabled(boolean b) {
-        int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
-        playerPanels[currentPlayerIndex].setRollDiceEnabled(b);
+    public void setRollDiceEnabled(final boolean b) {
+        final int currentPlayerIndex = GameMaster.instance().getCurrentPlayerIndex();
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[currentPlayerIndex].setRollDiceEnabled(b);
+            }
+        });
     }
 
-    public void setTradeEnabled(int index, boolean b) {
-        playerPanels[index].setTradeEnabled(b);
+    public void setTradeEnabled(final int index, final boolean b) {
+        invokeLater(new Runnable() {
+            public void run() {
+                playerPanels[index].setTradeEnabled(b);
+            }
+        });
     }
 	
 	public void setupGameBoard(GameBoard board) {
@@ -179,24 +371,41 @@ public class MainWindow extends JFrame implements MonopolyGUI{
 		southPanel.setLayout(new GridLayout(1, dimension.width + 2));
 		westPanel.setLayout(new GridLayout(dimension.height, 1));
 		eastPanel.setLayout(new GridLayout(dimension.height, 1));
-		addCells(northPanel, GameBoardUtil.getNorthCells(board));
-		addCells(southPanel, GameBoardUtil.getSouthCells(board));
-		addCells(eastPanel, GameBoardUtil.getEastCells(board));
-		addCells(westPanel, GameBoardUtil.getWestCells(board));
+		guiCells = new GUICell[board.getCellNumber()];
+		addCells(northPanel, GameBoardUtil.getNorthCells(board), board);
+		addCells(southPanel, GameBoardUtil.getSouthCells(board), board);
+		addCells(eastPanel, GameBoardUtil.getEastCells(board), board);
+		addCells(westPanel, GameBoardUtil.getWestCells(board), board);
+		boardVersion = board.getVersion();
 		buildPlayerPanels();
 	}
 
-    public void showBuyHouseDialog(Player currentPlayer) {
-        BuyHouseDialog dialog = new BuyHouseDialog(currentPlayer);
-        dialog.show();
+    public void showBuyHouseDialog(final Player currentPlayer) {
+        final String[] monopolies = currentPlayer.getMonopolies();
+        invokeLater(new Runnable() {
+            public void run() {
+                BuyHouseDialog dialog = new BuyHouseDialog(currentPlayer, monopolies, engine);
+                dialog.show();
+            }
+        });
     }
 
-    public void showMessage(String msg) {
-		JOptionPane.showMessageDialog(this, msg);
+    public void showMessage(final String msg) {
+        invokeAndWait(new Runnable() {
+            public void run() {
+                JOptionPane.showMessageDialog(MainWindow.this, msg);
+            }
+        });
     }
 
 	public int showUtilDiceRoll() {
-		return UtilDiceRoll.showDialog();
+		final int[] diceValue = new int[1];
+		invokeAndWait(new Runnable() {
+			public void run() {
+				diceValue[0] = UtilDiceRoll.showDialog();
+			}
+		});
+		return diceValue[0];
 	}
 
 	public void startGame() {
@@ -206,13 +415,64 @@ public class MainWindow extends JFrame implements MonopolyGUI{
 		}
 	}
 
+	/**
+	 * Display again what changed since the last update: the money and properties of the players, and the cells
+	 * whose version moved. Cells are not even looked at while the version of the board stays the same. What changed
+	 * is read and formatted on the calling thread, and displayed on the event dispatch thread in one go.
+	 */
 	public void update() {
+		int version = GameMaster.instance().getGameBoard().getVersion();
+		boolean cellsChanged = version != boardVersion;
+		boardVersion = version;
+		final List<Runnable> changes = new ArrayList<Runnable>();
 		for(int i = 0; i < playerPanels.length; i++) {
-			playerPanels[i].displayInfo();
+			Runnable change = playerPanels[i].update(cellsChanged);
+			if(change != null) changes.add(change);
+		}
+		if(cellsChanged) {
+			for(int j = 0; j < guiCells.length; j++ ) {
+				Runnable change = guiCells[j] == null ? null : guiCells[j].update();
+				if(change != null) changes.add(change);
+			}
+		}
+		if(changes.isEmpty()) return;
+		invokeLater(new Runnable() {
+			public void run() {
+				for(int i = 0; i < changes.size(); i++) {
+					changes.get(i).run();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Run a change of the GUI on the event dispatch thread, after the changes posted before it. Runs it at once on
+	 * the event dispatch thread, where the engine calls in only while it waits for a dialog.
+	 */
+	static void invokeLater(Runnable change) {
+		if(SwingUtilities.isEventDispatchThread()) {
+			change.run();
+		} else {
+			SwingUtilities.invokeLater(change);
+		}
+	}
+
+	/**
+	 * Run a dialog or a question on the event dispatch thread and wait for it, after the changes posted before it.
+	 */
+	static void invokeAndWait(Runnable dialog) {
+		if(SwingUtilities.isEventDispatchThread()) {
+			dialog.run();
+			return;
 		}
-		for(int j = 0; j < guiCells.size(); j++ ) {
-			GUICell cell = (GUICell)guiCells.get(j);
-			cell.displayInfo();
+		try {
+			SwingUtilities.invokeAndWait(dialog);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (InvocationTargetException e) {
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException)e.getCause();
+			if(e.getCause() instanceof Error) throw (Error)e.getCause();
+			throw new IllegalStateException(e.getCause());
 		}
 	}
 }
@@ -29,14 +29,29 @@ public class PlayerPanel extends JPanel {
     private JLabel lblName;
     
     private Player player;
+
+    private EngineThread engine;
     
     private JTextArea txtProperty;
 
-    public PlayerPanel(Player player) {
+    /**
+     * Money and properties last displayed.
+     */
+    private int money;
+    private String propertyText;
+
+    /**
+     * Constructor.
+     *
+     * @param player player to display
+     * @param engine thread the commands of the buttons are posted to
+     */
+    public PlayerPanel(Player player, EngineThread engine) {
         JPanel pnlAction = new JPanel();
         JPanel pnlInfo = new JPanel();
         initBtn();
         this.player = player;
+        this.engine = engine;
         initLabel();
         initTxtProperty();
 
@@ -62,49 +77,89 @@ public class PlayerPanel extends JPanel {
         initBtnListeners();
     }
 
+	/**
+	 * Post the command of every button to the engine. A button that the command always disables is disabled at
+	 * once, so a second click before the engine gets to the first is not posted again. Roll is left to the engine:
+	 * a cancelled roll in test mode keeps it enabled.
+	 */
 	private void initBtnListeners() {
 		btnRollDice.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                GameMaster.instance().btnRollDiceClicked();
+                engine.post(new Runnable() {
+                    public void run() {
+                        GameMaster.instance().btnRollDiceClicked();
+                    }
+                });
             }
         });
 
         btnEndTurn.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                GameMaster.instance().btnEndTurnClicked();
+                btnEndTurn.setEnabled(false);
+                engine.post(new Runnable() {
+                    public void run() {
+                        GameMaster.instance().btnEndTurnClicked();
+                    }
+                });
             }
         });
 
         btnPurchaseProperty.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                GameMaster.instance().btnPurchasePropertyClicked();
+                btnPurchaseProperty.setEnabled(false);
+                engine.post(new Runnable() {
+                    public void run() {
+                        GameMaster.instance().btnPurchasePropertyClicked();
+                    }
+                });
             }
         });
 
         btnBuyHouse.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                GameMaster.instance().btnBuyHouseClicked();
+                engine.post(new Runnable() {
+                    public void run() {
+                        GameMaster.instance().btnBuyHouseClicked();
+                    }
+                });
             }
         });
 
         btnGetOutOfJail.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                GameMaster.instance().btnGetOutOfJailClicked();
+                btnGetOutOfJail.setEnabled(false);
+                engine.post(new Runnable() {
+                    public void run() {
+                        GameMaster.instance().btnGetOutOfJailClicked();
+                    }
+                });
             }
         });
 
         btnDrawCard.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                Card card = GameMaster.instance().btnDrawCardClicked();
-                JOptionPane
-                        .showMessageDialog(PlayerPanel.this, card.getLabel());
-                displayInfo();
+                btnDrawCard.setEnabled(false);
+                engine.post(new Runnable() {
+                    public void run() {
+                        final Card card = GameMaster.instance().btnDrawCardClicked();
+                        MainWindow.invokeAndWait(new Runnable() {
+                            public void run() {
+                                JOptionPane.showMessageDialog(PlayerPanel.this, card.getLabel());
+                            }
+                        });
+                        GameMaster.instance().updateGUI();
+                    }
+                });
             }
         });
 
         btnTrade.addActionListener(new ActionListener() {
             public void actionPerformed(ActionEvent e) {
-                GameMaster.instance().btnTradeClicked();
+                engine.post(new Runnable() {
+                    public void run() {
+                        GameMaster.instance().btnTradeClicked();
+                    }
+                });
             }
         });
 	}
@@ -181,13 +236,50 @@ public class PlayerPanel extends JPanel {
 
     public void displayInfo() {
         lblName.setText(player.getName());
-        lblMoney.setText("$ " + player.getMoney());
+        money = player.getMoney();
+        lblMoney.setText("$ " + money);
+        propertyText = propertyText();
+        txtProperty.setText(propertyText);
+    }
+
+    /**
+     * Read what changed since the player was last displayed: the money, and the properties if cells of the board
+     * changed hands. The player is read on the calling thread, the engine thread in the game, and displayed by the
+     * change returned.
+     *
+     * @param cellsChanged True if any cell of the board changed since the last update
+     * @return change to run on the event dispatch thread, null if nothing changed
+     */
+    public Runnable update(boolean cellsChanged) {
+        final String moneyText = player.getMoney() != money ? "$ " + player.getMoney() : null;
+        money = player.getMoney();
+        String text = cellsChanged ? propertyText() : null;
+        final String changedText = text != null && !text.equals(propertyText) ? text : null;
+        if (changedText != null) {
+            propertyText = changedText;
+        }
+        if (moneyText == null && changedText == null) {
+            return null;
+        }
+        return new Runnable() {
+            public void run() {
+                if (moneyText != null) {
+                    lblMoney.setText(moneyText);
+                }
+                if (changedText != null) {
+                    txtProperty.setText(changedText);
+                }
+            }
+        };
+    }
+
+    private String propertyText() {
         StringBuffer buf = new StringBuffer();
         IOwnable[] cells = player.getAllProperties();
         for (int i = 0; i < cells.length; i++) {
             buf.append(cells[i] + "\n");
         }
-        txtProperty.setText(buf.toString());
+        return buf.toString();
     }
     
     public boolean isBuyHouseButtonEnabled() {
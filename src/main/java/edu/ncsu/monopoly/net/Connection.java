@@ -0,0 +1,138 @@
+package edu.ncsu.monopoly.net;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Client connection of a {@link GameServer}. An idle connection holds no buffers: the read buffer is only kept
+ * while a frame is partly received or the client plays, and the write buffer only while output is pending, so
+ * ten thousand idle connections cost little more than their sockets.
+ */
+final class Connection {
+    /**
+     * Most output kept for a client that does not read; a client that falls further behind is dropped.
+     */
+    static final int MAX_PENDING = 64 * 1024;
+
+    private static final int INITIAL_PENDING = 256;
+
+    final SocketChannel channel;
+
+    final SelectionKey key;
+
+    /**
+     * Game the client plays, null while not in a game.
+     */
+    ServerGame game;
+
+    /**
+     * Seat of the client in its game.
+     */
+    int seat = -1;
+
+    /**
+     * Table the client waits at, null while not waiting.
+     */
+    String table;
+
+    /**
+     * Name the client joined under.
+     */
+    String name;
+
+    /**
+     * Set while the connection is on the list of connections to flush.
+     */
+    boolean dirty;
+
+    /**
+     * Set once the client is dropped: everything sent to it from then on is discarded.
+     */
+    boolean closing;
+
+    boolean closed;
+
+    private ByteBuffer in;
+
+    private ByteBuffer out;
+
+    Connection(final SocketChannel channel, final SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /**
+     * Read what the client sent.
+     *
+     * @return buffer of received bytes, flipped for reading, to be compacted by {@link #compact()}; null at the end
+     * of the stream
+     * @throws IOException if the socket fails
+     */
+    ByteBuffer read() throws IOException {
+        if (in == null) {
+            in = ByteBuffer.allocate(Protocol.MAX_FRAME + 2);
+        }
+        if (channel.read(in) < 0) {
+            return null;
+        }
+        in.flip();
+        return in;
+    }
+
+    /**
+     * Keep the bytes of a partly received frame after {@link #read()}, releasing the buffer of a client that is
+     * not playing when there are none.
+     */
+    void compact() {
+        in.compact();
+        if (in.position() == 0 && game == null) {
+            in = null;
+        }
+    }
+
+    /**
+     * Queue a frame.
+     *
+     * @param frame frame flipped for sending, left unchanged
+     * @return false if the client is too far behind to take the frame
+     */
+    boolean queue(final ByteBuffer frame) {
+        int length = frame.remaining();
+        if (out == null) {
+            out = ByteBuffer.allocate(Math.max(INITIAL_PENDING, length));
+        } else if (out.remaining() < length) {
+            int needed = out.position() + length;
+            if (needed > MAX_PENDING) {
+                return false;
+            }
+            ByteBuffer bigger = ByteBuffer.allocate(Math.min(MAX_PENDING, Math.max(needed, out.capacity() * 2)));
+            out.flip();
+            bigger.put(out);
+            out = bigger;
+        }
+        out.put(frame.duplicate());
+        return true;
+    }
+
+    /**
+     * Write as much of the queued output as the socket takes.
+     *
+     * @return true if everything was written, the write buffer is then released
+     * @throws IOException if the socket fails
+     */
+    boolean flush() throws IOException {
+        if (out == null) {
+            return true;
+        }
+        out.flip();
+        channel.write(out);
+        out.compact();
+        if (out.position() == 0) {
+            out = null;
+            return true;
+        }
+        return false;
+    }
+}
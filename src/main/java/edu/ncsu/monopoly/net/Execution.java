@@ -0,0 +1,79 @@
+package edu.ncsu.monopoly.net;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Where a {@link GameServer} runs its games.
+ */
+public enum Execution {
+    /**
+     * Every game on the thread of the server, which never blocks: the default.
+     */
+    EVENT_LOOP,
+
+    /**
+     * Every game on a {@link ThreadedGame} thread of a fixed pool of platform threads. A game holds its thread
+     * until it ends, so no more games are played at once than the pool has threads; the others wait for one.
+     */
+    PLATFORM_POOL,
+
+    /**
+     * Every game on a {@link ThreadedGame} virtual thread of its own, so any number of games are played at once
+     * and wait for their players without holding a platform thread. Needs Java 21 or later to run.
+     */
+    VIRTUAL_THREADS;
+
+    /**
+     * Can this runtime run {@link #VIRTUAL_THREADS}?
+     *
+     * @return true on Java 21 or later
+     */
+    public static boolean isVirtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Executor for the games.
+     *
+     * @param threads threads of a {@link #PLATFORM_POOL}
+     * @return executor to run each game as a task of, null for the {@link #EVENT_LOOP}
+     * @throws UnsupportedOperationException for {@link #VIRTUAL_THREADS} before Java 21
+     */
+    ExecutorService newExecutor(final int threads) {
+        switch (this) {
+        case PLATFORM_POOL:
+            return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread(Runnable task) {
+                    Thread thread = new Thread(task, "game-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        case VIRTUAL_THREADS:
+            // looked up so that the server still builds for and runs on older Java
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new UnsupportedOperationException("Virtual threads need Java 21, this is Java "
+                        + System.getProperty("java.version"));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        default:
+            return null;
+        }
+    }
+}
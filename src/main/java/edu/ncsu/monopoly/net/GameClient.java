@@ -0,0 +1,397 @@
+package edu.ncsu.monopoly.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+/**
+ * Client end of the {@link Protocol}: sends commands to a {@link GameServer} and keeps the state of the game as
+ * the server reports it. Works over a blocking channel, where {@link #read()} waits for the server, as well as over
+ * a non-blocking one driven by a selector, where {@link #hasOutput()} tells when to wait for the channel to take
+ * more. Subclasses play by overriding the <code>on</code> methods, called as each message arrives.
+ */
+public class GameClient implements Closeable {
+    private static final int OUTPUT = 4096;
+
+    private final SocketChannel channel;
+    private final ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME + 2);
+    private final ByteBuffer out = ByteBuffer.allocate(OUTPUT);
+    private final ByteBuffer frame = ByteBuffer.allocate(Protocol.MAX_FRAME + 2);
+
+    private boolean playing;
+    private int game = -1;
+    private int seat = -1;
+    private String[] names = new String[0];
+    private int[] money = new int[0];
+    private int[] positions = new int[0];
+    private boolean[] inJail = new boolean[0];
+    private byte[] owners = new byte[0];
+    private byte[] houses = new byte[0];
+    private int buttons;
+
+    private int offerBuyer = -1;
+    private int offerCell;
+    private int offerAmount;
+    private int lastOver = -1;
+    private String lastMessage;
+    private String lastError;
+
+    private long commandsSent;
+    private long messagesReceived;
+
+    public GameClient(final SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Connect to a server over a blocking channel.
+     *
+     * @param address address of the server
+     * @return connected client
+     * @throws IOException if the server cannot be reached
+     */
+    public static GameClient connect(final InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.socket().setTcpNoDelay(true);
+        return new GameClient(channel);
+    }
+
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public void join(final String board, final int seats, final String name) throws IOException {
+        ByteBuffer command = Protocol.begin(frame, Protocol.JOIN);
+        Protocol.putString(command, board);
+        command.put((byte) seats);
+        Protocol.putString(command, name);
+        send(command);
+    }
+
+    public void leave() throws IOException {
+        send(Protocol.begin(frame, Protocol.LEAVE));
+    }
+
+    public void roll() throws IOException {
+        send(Protocol.begin(frame, Protocol.ROLL));
+    }
+
+    public void purchase() throws IOException {
+        send(Protocol.begin(frame, Protocol.PURCHASE));
+    }
+
+    public void drawCard() throws IOException {
+        send(Protocol.begin(frame, Protocol.DRAW_CARD));
+    }
+
+    public void endTurn() throws IOException {
+        send(Protocol.begin(frame, Protocol.END_TURN));
+    }
+
+    public void getOutOfJail() throws IOException {
+        send(Protocol.begin(frame, Protocol.GET_OUT_OF_JAIL));
+    }
+
+    public void buyHouses(final String colorGroup, final int number) throws IOException {
+        ByteBuffer command = Protocol.begin(frame, Protocol.BUY_HOUSE);
+        Protocol.putString(command, colorGroup);
+        command.put((byte) number);
+        send(command);
+    }
+
+    public void trade(final int seller, final int cell, final int amount) throws IOException {
+        ByteBuffer command = Protocol.begin(frame, Protocol.TRADE);
+        command.put((byte) seller);
+        command.putShort((short) cell);
+        command.putInt(amount);
+        send(command);
+    }
+
+    public void respond(final boolean accept) throws IOException {
+        ByteBuffer command = Protocol.begin(frame, Protocol.RESPOND);
+        command.put((byte) (accept ? 1 : 0));
+        send(command);
+        offerBuyer = -1;
+    }
+
+    private void send(final ByteBuffer command) throws IOException {
+        Protocol.end(command);
+        if (out.remaining() < command.remaining()) {
+            flush();
+            if (out.remaining() < command.remaining()) {
+                throw new IOException("Server does not take commands");
+            }
+        }
+        out.put(command);
+        commandsSent++;
+        flush();
+    }
+
+    /**
+     * Write as much of the queued commands as the channel takes.
+     *
+     * @return true if every command was written
+     * @throws IOException if the channel fails
+     */
+    public boolean flush() throws IOException {
+        out.flip();
+        channel.write(out);
+        out.compact();
+        return out.position() == 0;
+    }
+
+    public boolean hasOutput() {
+        return out.position() > 0;
+    }
+
+    /**
+     * Read what the server sent and handle every complete message.
+     *
+     * @return messages handled, -1 if the server closed the connection
+     * @throws IOException if the channel fails or the server breaks the protocol
+     */
+    public int read() throws IOException {
+        if (channel.read(in) < 0) {
+            return -1;
+        }
+        in.flip();
+        int messages = 0;
+        try {
+            for (ByteBuffer body = Protocol.nextFrame(in); body != null; body = Protocol.nextFrame(in)) {
+                handle(body);
+                messages++;
+            }
+        } finally {
+            in.compact();
+        }
+        messagesReceived += messages;
+        return messages;
+    }
+
+    private void handle(final ByteBuffer body) throws IOException {
+        byte opcode = body.get();
+        switch (opcode) {
+        case Protocol.START:
+            game = body.getInt();
+            seat = body.get();
+            int players = body.get();
+            names = new String[players];
+            for (int i = 0; i < players; i++) {
+                names[i] = Protocol.getString(body);
+            }
+            money = new int[players];
+            positions = new int[players];
+            inJail = new boolean[players];
+            owners = new byte[0];
+            houses = new byte[0];
+            buttons = 0;
+            offerBuyer = -1;
+            playing = true;
+            onStart();
+            break;
+        case Protocol.BUTTONS:
+            buttons = body.getShort() & 0xffff;
+            onButtons(buttons);
+            break;
+        case Protocol.MOVE:
+            int player = body.get();
+            body.getShort();
+            positions[player] = body.getShort() & 0xffff;
+            break;
+        case Protocol.MESSAGE:
+            lastMessage = Protocol.getString(body);
+            onMessage(lastMessage);
+            break;
+        case Protocol.PLAYERS:
+            for (int i = 0; i < money.length; i++) {
+                money[i] = body.getInt();
+                positions[i] = body.getShort() & 0xffff;
+                inJail[i] = body.get() != 0;
+            }
+            break;
+        case Protocol.CELL:
+            int cell = body.getShort() & 0xffff;
+            if (cell >= owners.length) {
+                int length = Math.max(cell + 1, owners.length * 2);
+                int old = owners.length;
+                owners = Arrays.copyOf(owners, length);
+                houses = Arrays.copyOf(houses, length);
+                Arrays.fill(owners, old, length, (byte) -1);
+            }
+            owners[cell] = body.get();
+            houses[cell] = body.get();
+            break;
+        case Protocol.OFFER:
+            offerBuyer = body.get();
+            offerCell = body.getShort() & 0xffff;
+            offerAmount = body.getInt();
+            onOffer(offerBuyer, offerCell, offerAmount);
+            break;
+        case Protocol.TRADED:
+            onTraded(body.get() != 0);
+            break;
+        case Protocol.OVER:
+            lastOver = body.get();
+            playing = false;
+            buttons = 0;
+            onOver(lastOver);
+            break;
+        case Protocol.ERROR:
+            lastError = Protocol.getString(body);
+            onError(lastError);
+            break;
+        default:
+            throw new ProtocolException("Unknown message " + opcode);
+        }
+    }
+
+    /**
+     * Called when a game starts.
+     *
+     * @throws IOException if a command sent cannot be written
+     */
+    protected void onStart() throws IOException {
+    }
+
+    /**
+     * Called when the buttons of the player change.
+     *
+     * @param buttons mask of <code>BUTTON_</code> bits of {@link Protocol}
+     * @throws IOException if a command sent cannot be written
+     */
+    protected void onButtons(final int buttons) throws IOException {
+    }
+
+    protected void onMessage(final String message) throws IOException {
+    }
+
+    /**
+     * Called when another player offers to buy a cell; answer with {@link #respond(boolean)}.
+     *
+     * @param buyer  seat of the buyer
+     * @param cell   board index of the cell
+     * @param amount price offered
+     * @throws IOException if a command sent cannot be written
+     */
+    protected void onOffer(final int buyer, final int cell, final int amount) throws IOException {
+    }
+
+    protected void onTraded(final boolean accepted) throws IOException {
+    }
+
+    /**
+     * Called when the game ends.
+     *
+     * @param player seat of the player who went bankrupt or left
+     * @throws IOException if a command sent cannot be written
+     */
+    protected void onOver(final int player) throws IOException {
+    }
+
+    protected void onError(final String error) throws IOException {
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public int getGame() {
+        return game;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getNumberOfPlayers() {
+        return names.length;
+    }
+
+    public String getName(final int player) {
+        return names[player];
+    }
+
+    public int getMoney(final int player) {
+        return money[player];
+    }
+
+    public int getPosition(final int player) {
+        return positions[player];
+    }
+
+    public boolean isInJail(final int player) {
+        return inJail[player];
+    }
+
+    /**
+     * Owner of a cell.
+     *
+     * @param cell board index of the cell
+     * @return seat of the owner, -1 if nobody owns the cell
+     */
+    public int getOwner(final int cell) {
+        return cell < owners.length ? owners[cell] : -1;
+    }
+
+    public int getHouses(final int cell) {
+        return cell < houses.length ? houses[cell] : 0;
+    }
+
+    public int getButtons() {
+        return buttons;
+    }
+
+    public boolean isEnabled(final int button) {
+        return (buttons & button) != 0;
+    }
+
+    /**
+     * Buyer of the offer waiting for {@link #respond(boolean)}.
+     *
+     * @return seat of the buyer, -1 for none
+     */
+    public int getOfferBuyer() {
+        return offerBuyer;
+    }
+
+    public int getOfferCell() {
+        return offerCell;
+    }
+
+    public int getOfferAmount() {
+        return offerAmount;
+    }
+
+    /**
+     * Player who ended the last game.
+     *
+     * @return seat of the player, -1 before a game ended
+     */
+    public int getLastOver() {
+        return lastOver;
+    }
+
+    public String getLastMessage() {
+        return lastMessage;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public long getCommandsSent() {
+        return commandsSent;
+    }
+
+    public long getMessagesReceived() {
+        return messagesReceived;
+    }
+}
@@ -0,0 +1,532 @@
+package edu.ncsu.monopoly.net;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.EngineMetrics;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.SplitMix64;
+
+/**
+ * TCP server hosting any number of games at once over the {@link Protocol}. Clients join a table for a shipped
+ * board and a number of seats; the game starts as soon as the table is full, each with its own
+ * {@link GameMaster} and board, played through a {@link RemoteGUI}.
+ * <p>One thread runs a non-blocking selector loop. By default it also applies the commands of every game, so games
+ * never wait on a lock and a command is applied before the next one is read; with another {@link Execution} each
+ * game runs as a {@link ThreadedGame} on a thread of its own instead. Memory is bounded per connection and per game:
+ * an idle connection keeps no buffers, a game keeps its board, its players and a few arrays the size of the board,
+ * and a client that does not read its output is dropped once {@link Connection#MAX_PENDING} bytes are queued.
+ * A game ends when a player goes bankrupt, resigns or disconnects; every player is then sent
+ * {@link Protocol#OVER} and may join another table.</p>
+ */
+public final class GameServer implements Runnable, Closeable {
+    /**
+     * Longest player name, in characters.
+     */
+    public static final int MAX_NAME = 32;
+
+    /**
+     * Milliseconds between two exports of the metrics by {@link #main(String[])}.
+     */
+    static final long METRICS_PERIOD = 15000;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final SplitMix64 seeds;
+
+    /**
+     * Runs the games on threads of their own, null to run them on the thread of the server.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Work handed to the thread of the server by the threads of the games.
+     */
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+    /**
+     * Frame being built; the loop sends one frame at a time.
+     */
+    private final ByteBuffer frame = ByteBuffer.allocate(Protocol.MAX_FRAME + 2);
+
+    /**
+     * Clients waiting for a game, by board name and number of seats.
+     */
+    private final HashMap<String, ArrayList<Connection>> tables = new HashMap<String, ArrayList<Connection>>();
+
+    /**
+     * Connections with output queued since the last flush.
+     */
+    private final ArrayList<Connection> dirty = new ArrayList<Connection>();
+
+    /**
+     * Metrics of every game of the server.
+     */
+    private final EngineMetrics metrics = new EngineMetrics();
+
+    private volatile boolean running = true;
+    private volatile int connections;
+    private volatile int games;
+    private volatile long gamesPlayed;
+    private int nextGame;
+
+    /**
+     * Listen on an address with a random seed for the games.
+     *
+     * @param address address to bind, port 0 for any free port
+     * @throws IOException if the address cannot be bound
+     */
+    public GameServer(final InetSocketAddress address) throws IOException {
+        this(address, new SplitMix64().nextLong());
+    }
+
+    /**
+     * Listen on an address.
+     *
+     * @param address address to bind, port 0 for any free port
+     * @param seed    seed the seed of every game is drawn from, the same seed and commands give the same games
+     * @throws IOException if the address cannot be bound
+     */
+    public GameServer(final InetSocketAddress address, final long seed) throws IOException {
+        this(address, seed, Execution.EVENT_LOOP, 0);
+    }
+
+    /**
+     * Listen on an address, running the games as chosen.
+     *
+     * @param address   address to bind, port 0 for any free port
+     * @param seed      seed the seed of every game is drawn from
+     * @param execution where to run the games
+     * @param threads   threads of a {@link Execution#PLATFORM_POOL}
+     * @throws IOException if the address cannot be bound
+     * @throws UnsupportedOperationException if this runtime cannot run the games as chosen
+     */
+    public GameServer(final InetSocketAddress address, final long seed, final Execution execution,
+                      final int threads) throws IOException {
+        seeds = new SplitMix64(seed);
+        executor = execution.newExecutor(threads);
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        try {
+            server.configureBlocking(false);
+            server.socket().setReuseAddress(true);
+            server.socket().bind(address, 1024);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            server.close();
+            selector.close();
+            if (executor != null) {
+                executor.shutdown();
+            }
+            throw e;
+        }
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    /**
+     * Open connections, idle or playing.
+     */
+    public int getConnectionCount() {
+        return connections;
+    }
+
+    /**
+     * Games being played.
+     */
+    public int getGameCount() {
+        return games;
+    }
+
+    /**
+     * Games ended so far.
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * What the games of the server did so far, safe to read from any thread.
+     */
+    public EngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Serve until {@link #close()}, then close every connection.
+     */
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) {
+                        read(connection);
+                    }
+                    if (!connection.closed && key.isWritable()) {
+                        write(connection);
+                    }
+                }
+                for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+                    task.run();
+                }
+                flush();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Server failed", e);
+        } finally {
+            shutDown();
+        }
+    }
+
+    /**
+     * Stop {@link #run()}.
+     */
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void shutDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException e) {
+                // closing anyway
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            // closing anyway
+        }
+        connections = 0;
+        games = 0;
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+            connections++;
+        }
+    }
+
+    private void read(final Connection connection) {
+        try {
+            ByteBuffer received = connection.read();
+            if (received == null) {
+                disconnect(connection);
+                return;
+            }
+            for (ByteBuffer body = Protocol.nextFrame(received); body != null && !connection.closed;
+                    body = Protocol.nextFrame(received)) {
+                handle(connection, body);
+            }
+            if (!connection.closed) {
+                connection.compact();
+            }
+        } catch (ProtocolException e) {
+            disconnect(connection);
+        } catch (IOException e) {
+            disconnect(connection);
+        } catch (RuntimeException e) {
+            // a malformed frame, or a command its game failed on: only that connection and its game end
+            disconnect(connection);
+        }
+    }
+
+    private void write(final Connection connection) {
+        try {
+            if (connection.flush()) {
+                connection.key.interestOps(SelectionKey.OP_READ);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    /**
+     * Write the output queued by the commands just applied, waiting for the sockets that do not take all of it.
+     */
+    private void flush() {
+        for (int i = 0; i < dirty.size(); i++) {
+            Connection connection = dirty.get(i);
+            connection.dirty = false;
+            if (connection.closed) {
+                continue;
+            }
+            if (connection.closing) {
+                disconnect(connection);
+                continue;
+            }
+            try {
+                if (!connection.flush()) {
+                    connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            } catch (IOException e) {
+                disconnect(connection);
+            }
+        }
+        dirty.clear();
+    }
+
+    private void handle(final Connection connection, final ByteBuffer body) {
+        byte opcode = body.get();
+        switch (opcode) {
+        case Protocol.JOIN:
+            join(connection, Protocol.getString(body), body.get(), Protocol.getString(body));
+            break;
+        case Protocol.LEAVE:
+            leave(connection);
+            break;
+        default:
+            ServerGame game = connection.game;
+            if (game == null) {
+                error(connection, "Not in a game");
+                break;
+            }
+            if (game instanceof ThreadedGame) {
+                if (!((ThreadedGame) game).post(connection.seat, opcode, body)) {
+                    drop(connection);
+                }
+                break;
+            }
+            String error = game.handle(connection.seat, opcode, body);
+            if (error != null) {
+                error(connection, error);
+            }
+            int bankrupt = game.getBankrupt();
+            if (bankrupt >= 0) {
+                end(game, bankrupt);
+            }
+        }
+    }
+
+    private void join(final Connection connection, final String board, final int seats, final String name) {
+        if (connection.game != null || connection.table != null) {
+            error(connection, "Already joined");
+            return;
+        }
+        if (seats < 2 || seats > GameMaster.MAX_PLAYER) {
+            error(connection, "Games take 2 to " + GameMaster.MAX_PLAYER + " players, not " + seats);
+            return;
+        }
+        if (name.trim().length() == 0 || name.length() > MAX_NAME) {
+            error(connection, "Names take 1 to " + MAX_NAME + " characters");
+            return;
+        }
+        BoardDefinition definition;
+        try {
+            definition = BoardDefinition.forName(board);
+        } catch (IllegalArgumentException e) {
+            error(connection, "No board named " + board);
+            return;
+        }
+        String key = definition.getName() + '/' + seats;
+        ArrayList<Connection> waiting = tables.get(key);
+        if (waiting == null) {
+            waiting = new ArrayList<Connection>(seats);
+            tables.put(key, waiting);
+        }
+        connection.table = key;
+        connection.name = name;
+        waiting.add(connection);
+        if (waiting.size() == seats) {
+            tables.remove(key);
+            start(definition, waiting);
+        }
+    }
+
+    private void start(final BoardDefinition definition, final ArrayList<Connection> waiting) {
+        Connection[] seats = waiting.toArray(new Connection[waiting.size()]);
+        String[] names = new String[seats.length];
+        for (int seat = 0; seat < seats.length; seat++) {
+            names[seat] = seats[seat].name;
+        }
+        ServerGame game;
+        if (executor == null) {
+            game = new ServerGame(this, nextGame++, definition, seeds.nextLong(), seats, names);
+        } else {
+            game = new ThreadedGame(this, nextGame++, definition, seeds.nextLong(), seats, names);
+        }
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat].table = null;
+            seats[seat].game = game;
+            seats[seat].seat = seat;
+        }
+        games++;
+        if (executor == null) {
+            game.start();
+        } else {
+            executor.execute((ThreadedGame) game);
+        }
+    }
+
+    private void leave(final Connection connection) {
+        if (connection.game instanceof ThreadedGame) {
+            ((ThreadedGame) connection.game).post(connection.seat, Protocol.LEAVE, EMPTY);
+        } else if (connection.game != null) {
+            end(connection.game, connection.seat);
+        } else if (connection.table != null) {
+            ArrayList<Connection> waiting = tables.get(connection.table);
+            waiting.remove(connection);
+            if (waiting.isEmpty()) {
+                tables.remove(connection.table);
+            }
+            connection.table = null;
+        }
+    }
+
+    /**
+     * End a game, telling every player.
+     *
+     * @param game   game to end
+     * @param player seat of the player who went bankrupt or left
+     */
+    void end(final ServerGame game, final int player) {
+        ByteBuffer over = Protocol.begin(frame, Protocol.OVER);
+        over.put((byte) player);
+        Protocol.end(over);
+        for (int seat = 0; seat < game.seats.length; seat++) {
+            send(game.seats[seat], over);
+            game.seats[seat].game = null;
+            game.seats[seat].seat = -1;
+        }
+        games--;
+        gamesPlayed++;
+    }
+
+    private void disconnect(final Connection connection) {
+        if (connection.closed) {
+            return;
+        }
+        leave(connection);
+        connection.closed = true;
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            // closed anyway
+        }
+        connections--;
+    }
+
+    private void error(final Connection connection, final String message) {
+        ByteBuffer error = Protocol.begin(frame, Protocol.ERROR);
+        Protocol.putString(error, message);
+        send(connection, Protocol.end(error));
+    }
+
+    ByteBuffer frame() {
+        return frame;
+    }
+
+    /**
+     * Run a task on the thread of the server, soon.
+     *
+     * @param task task to run
+     */
+    void execute(final Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Queue a frame for a connection, dropping the connection if it is too far behind.
+     *
+     * @param connection connection to send to
+     * @param frame      frame flipped for sending, left unchanged
+     */
+    void send(final Connection connection, final ByteBuffer frame) {
+        if (connection.closed || connection.closing) {
+            return;
+        }
+        if (!connection.queue(frame)) {
+            drop(connection);
+        } else if (!connection.dirty) {
+            connection.dirty = true;
+            dirty.add(connection);
+        }
+    }
+
+    /**
+     * Close a connection once the commands just read are applied.
+     *
+     * @param connection connection to close
+     */
+    private void drop(final Connection connection) {
+        connection.closing = true;
+        if (!connection.dirty) {
+            connection.dirty = true;
+            dirty.add(connection);
+        }
+    }
+
+    /**
+     * Command line entry point. Arguments, all optional and positional: port (7777), seed (random),
+     * {@link Execution} (EVENT_LOOP), threads of a platform pool (all cores) and a file to export the
+     * {@link EngineMetrics} to every {@link #METRICS_PERIOD} ms (none).
+     *
+     * @param args command line arguments
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : new SplitMix64().nextLong();
+        Execution execution = args.length > 2 ? Execution.valueOf(args[2]) : Execution.EVENT_LOOP;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        final File metricsFile = args.length > 4 ? new File(args[4]) : null;
+        final GameServer server = new GameServer(new InetSocketAddress(port), seed, execution, threads);
+        System.out.println("Serving games on port " + server.getPort() + ", seed " + seed + ", " + execution);
+        if (metricsFile != null) {
+            new Timer("metrics", true).schedule(new TimerTask() {
+                public void run() {
+                    try {
+                        server.getMetrics().export(metricsFile);
+                    } catch (IOException e) {
+                        System.err.println("Cannot export metrics: " + e.getMessage());
+                    }
+                }
+            }, METRICS_PERIOD, METRICS_PERIOD);
+        }
+        server.run();
+    }
+}
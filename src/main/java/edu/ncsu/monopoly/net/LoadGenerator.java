@@ -0,0 +1,298 @@
+package edu.ncsu.monopoly.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import edu.ncsu.monopoly.SplitMix64;
+
+/**
+ * Drives a {@link GameServer} with scripted clients on one thread: every client joins a table, plays a number of
+ * games and disconnects, while idle connections that never send anything stay open alongside. A scripted player
+ * gets out of jail, rolls, draws, buys whatever it lands on and ends its turn, declines every offer and resigns
+ * after a number of turns so that games end even when nobody goes bankrupt.
+ */
+public final class LoadGenerator {
+    private final InetSocketAddress address;
+    private final String board;
+    private final int seats;
+    private final int players;
+    private final int idle;
+    private final int gamesPerPlayer;
+    private final int maxTurns;
+
+    /**
+     * Constructor.
+     *
+     * @param address        address of the server
+     * @param board          name of a shipped board
+     * @param seats          players of each game
+     * @param players        scripted clients, a multiple of <code>seats</code>
+     * @param idle           idle connections
+     * @param gamesPerPlayer games each scripted client plays
+     * @param maxTurns       turns after which a scripted client resigns
+     */
+    public LoadGenerator(final InetSocketAddress address, final String board, final int seats, final int players,
+                         final int idle, final int gamesPerPlayer, final int maxTurns) {
+        if (seats < 1 || players % seats != 0) {
+            throw new IllegalArgumentException(players + " players cannot fill tables of " + seats);
+        }
+        this.address = address;
+        this.board = board;
+        this.seats = seats;
+        this.players = players;
+        this.idle = idle;
+        this.gamesPerPlayer = gamesPerPlayer;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Connect every client and play until all scripted clients are done.
+     *
+     * @param timeout longest run, in milliseconds
+     * @return what was played
+     * @throws IOException if a connection fails, the server closes one or the run takes too long
+     */
+    public Result run(final long timeout) throws IOException {
+        Selector selector = Selector.open();
+        ArrayList<SocketChannel> idleChannels = new ArrayList<SocketChannel>(idle);
+        ArrayList<ScriptedClient> clients = new ArrayList<ScriptedClient>(players);
+        try {
+            for (int i = 0; i < idle; i++) {
+                SocketChannel channel = SocketChannel.open(address);
+                idleChannels.add(channel);
+                channel.configureBlocking(false);
+                channel.register(selector, SelectionKey.OP_READ);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < players; i++) {
+                SocketChannel channel = SocketChannel.open(address);
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                ScriptedClient client = new ScriptedClient(channel, "Bot " + i);
+                clients.add(client);
+                client.key = channel.register(selector, SelectionKey.OP_READ, client);
+                client.join(board, seats, client.name);
+                client.update();
+            }
+
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+            int done = 0;
+            while (done < players) {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IOException("Timed out with " + done + " of " + players + " players done");
+                }
+                selector.select(100);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    ScriptedClient client = (ScriptedClient) key.attachment();
+                    if (client == null) {
+                        throw new IOException("Server closed an idle connection");
+                    }
+                    if (key.isReadable() && client.read() < 0) {
+                        throw new IOException("Server closed the connection of " + client.name);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        client.flush();
+                    }
+                    if (client.done) {
+                        client.close();
+                        done++;
+                    } else {
+                        client.update();
+                    }
+                }
+            }
+
+            long games = 0;
+            long commands = 0;
+            long messages = 0;
+            long errors = 0;
+            for (int i = 0; i < clients.size(); i++) {
+                ScriptedClient client = clients.get(i);
+                games += client.gamesPlayed;
+                commands += client.getCommandsSent();
+                messages += client.getMessagesReceived();
+                errors += client.errors;
+            }
+            return new Result(games / seats, commands, messages, errors, System.nanoTime() - start);
+        } finally {
+            for (int i = 0; i < clients.size(); i++) {
+                clients.get(i).close();
+            }
+            for (int i = 0; i < idleChannels.size(); i++) {
+                idleChannels.get(i).close();
+            }
+            selector.close();
+        }
+    }
+
+    /**
+     * What a run played.
+     */
+    public static final class Result {
+        private final long games;
+        private final long commands;
+        private final long messages;
+        private final long errors;
+        private final long nanos;
+
+        Result(final long games, final long commands, final long messages, final long errors, final long nanos) {
+            this.games = games;
+            this.commands = commands;
+            this.messages = messages;
+            this.errors = errors;
+            this.nanos = nanos;
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getCommands() {
+            return commands;
+        }
+
+        public long getMessages() {
+            return messages;
+        }
+
+        /**
+         * Commands the server refused; scripted clients only send commands their buttons allow, so none.
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public String toString() {
+            double seconds = nanos / 1e9;
+            return games + " games, " + commands + " commands, " + messages + " messages, " + errors
+                    + " errors in " + String.format("%.2f", seconds) + " s, "
+                    + String.format("%.0f", commands / seconds) + " commands/s";
+        }
+    }
+
+    /**
+     * Scripted player, one command at a time: each command changes its buttons, which triggers the next.
+     */
+    private final class ScriptedClient extends GameClient {
+        private final String name;
+        private SelectionKey key;
+        private int turns;
+        private int gamesPlayed;
+        private long errors;
+        private boolean done;
+
+        ScriptedClient(final SocketChannel channel, final String name) {
+            super(channel);
+            this.name = name;
+        }
+
+        /**
+         * Wait for the channel to take the rest of the output, if any.
+         */
+        void update() {
+            int ops = hasOutput() ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+            if (key.interestOps() != ops) {
+                key.interestOps(ops);
+            }
+        }
+
+        protected void onStart() {
+            turns = 0;
+        }
+
+        protected void onButtons(final int buttons) throws IOException {
+            if ((buttons & Protocol.BUTTON_GET_OUT_OF_JAIL) != 0) {
+                getOutOfJail();
+            } else if ((buttons & Protocol.BUTTON_DRAW_CARD) != 0) {
+                drawCard();
+            } else if ((buttons & Protocol.BUTTON_PURCHASE) != 0) {
+                purchase();
+            } else if ((buttons & Protocol.BUTTON_ROLL) != 0) {
+                roll();
+            } else if ((buttons & Protocol.BUTTON_END_TURN) != 0) {
+                if (++turns < maxTurns) {
+                    endTurn();
+                } else {
+                    leave();
+                }
+            }
+        }
+
+        protected void onOffer(final int buyer, final int cell, final int amount) throws IOException {
+            respond(false);
+        }
+
+        protected void onOver(final int player) throws IOException {
+            if (++gamesPlayed < gamesPerPlayer) {
+                join(board, seats, name);
+            } else {
+                done = true;
+            }
+        }
+
+        protected void onError(final String error) throws IOException {
+            errors++;
+            if (isPlaying()) {
+                leave();
+            }
+        }
+    }
+
+    /**
+     * Command line entry point. Arguments, all optional and positional: server port, 0 to start a server in this
+     * process (0), scripted players (1000), idle connections (0), players per game (2), games per player (10),
+     * turns before resigning (100), board name (GameBoardFull), server host (local host), and the {@link Execution}
+     * (EVENT_LOOP) and platform pool threads (all cores) of a server started in this process.
+     *
+     * @param args command line arguments
+     * @throws IOException if the server cannot be reached or started
+     * @throws InterruptedException if interrupted while stopping the server
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int idle = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        int seats = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+        int games = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        int maxTurns = args.length > 5 ? Integer.parseInt(args[5]) : 100;
+        String board = args.length > 6 ? args[6] : "GameBoardFull";
+        InetAddress host = args.length > 7 ? InetAddress.getByName(args[7]) : InetAddress.getLoopbackAddress();
+        Execution execution = args.length > 8 ? Execution.valueOf(args[8]) : Execution.EVENT_LOOP;
+        int threads = args.length > 9 ? Integer.parseInt(args[9]) : Runtime.getRuntime().availableProcessors();
+
+        GameServer server = null;
+        Thread serverThread = null;
+        if (port == 0) {
+            server = new GameServer(new InetSocketAddress(host, 0), new SplitMix64().nextLong(), execution, threads);
+            port = server.getPort();
+            serverThread = new Thread(server, "game-server");
+            serverThread.start();
+        }
+        try {
+            LoadGenerator generator = new LoadGenerator(new InetSocketAddress(host, port), board, seats, players,
+                    idle, games, maxTurns);
+            System.out.println(players + " players, " + idle + " idle connections, " + seats + " per game, "
+                    + games + " games each, " + board);
+            System.out.println(generator.run(TimeUnit.HOURS.toMillis(1)));
+        } finally {
+            if (server != null) {
+                server.close();
+                serverThread.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package edu.ncsu.monopoly.net;
+
+import java.net.ProtocolException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Binary protocol between a {@link GameServer} and its clients. Every message is a frame of an unsigned short
+ * body length followed by the body, whose first byte is the opcode; numbers are big endian and strings are
+ * UTF-8 behind an unsigned short byte count. No body is longer than {@link #MAX_FRAME}.
+ * <p>Clients send:</p>
+ * <pre>
+ * JOIN            UTF board, byte seats, UTF name    wait for a game of that many seats on a shipped board
+ * LEAVE                                              leave the table or resign from the game
+ * ROLL, PURCHASE, DRAW_CARD, END_TURN, GET_OUT_OF_JAIL
+ *                                                    click the button, only while it is enabled
+ * BUY_HOUSE       UTF color group, byte houses       buy houses on one of the player's monopolies
+ * TRADE           byte seller, short cell, int amount offer to buy a cell of another player
+ * RESPOND         bool accept                        answer the offer last received
+ * </pre>
+ * <p>The server sends:</p>
+ * <pre>
+ * START           int game, byte seat, byte players, UTF name of every player
+ * BUTTONS         short mask of BUTTON_* bits        buttons of the receiving player, after every change
+ * MOVE            byte player, short from, short to
+ * MESSAGE         UTF text
+ * PLAYERS         per player: int money, short position, bool in jail
+ * CELL            short cell, byte owner or -1, byte houses    after every change of the cell
+ * OFFER           byte buyer, short cell, int amount  to the seller of a trade
+ * TRADED          bool accepted                       to both sides of a trade once it is answered
+ * OVER            byte player                         the game ended by the bankruptcy or leave of the player
+ * ERROR           UTF text                            the last message was refused
+ * </pre>
+ */
+public final class Protocol {
+    /**
+     * Longest frame body.
+     */
+    public static final int MAX_FRAME = 1024;
+
+    public static final byte JOIN = 1;
+    public static final byte LEAVE = 2;
+    public static final byte ROLL = 3;
+    public static final byte PURCHASE = 4;
+    public static final byte DRAW_CARD = 5;
+    public static final byte END_TURN = 6;
+    public static final byte GET_OUT_OF_JAIL = 7;
+    public static final byte BUY_HOUSE = 8;
+    public static final byte TRADE = 9;
+    public static final byte RESPOND = 10;
+
+    public static final byte START = 64;
+    public static final byte BUTTONS = 65;
+    public static final byte MOVE = 66;
+    public static final byte MESSAGE = 67;
+    public static final byte PLAYERS = 68;
+    public static final byte CELL = 69;
+    public static final byte OFFER = 70;
+    public static final byte TRADED = 71;
+    public static final byte OVER = 72;
+    public static final byte ERROR = 73;
+
+    public static final int BUTTON_ROLL = 1;
+    public static final int BUTTON_PURCHASE = 1 << 1;
+    public static final int BUTTON_DRAW_CARD = 1 << 2;
+    public static final int BUTTON_END_TURN = 1 << 3;
+    public static final int BUTTON_GET_OUT_OF_JAIL = 1 << 4;
+    public static final int BUTTON_BUY_HOUSE = 1 << 5;
+    public static final int BUTTON_TRADE = 1 << 6;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private Protocol() {
+    }
+
+    /**
+     * Start a frame.
+     *
+     * @param buffer buffer to write the frame to, cleared first, at least {@link #MAX_FRAME} + 2 bytes
+     * @param opcode type of the message
+     * @return the buffer, to put the fields of the message
+     */
+    public static ByteBuffer begin(final ByteBuffer buffer, final byte opcode) {
+        buffer.clear();
+        buffer.putShort((short) 0);
+        buffer.put(opcode);
+        return buffer;
+    }
+
+    /**
+     * Complete a frame started by {@link #begin(ByteBuffer, byte)}.
+     *
+     * @param buffer buffer holding the frame
+     * @return the buffer, flipped for sending
+     * @throws IllegalArgumentException if the body is longer than {@link #MAX_FRAME}
+     */
+    public static ByteBuffer end(final ByteBuffer buffer) {
+        int length = buffer.position() - 2;
+        if (length > MAX_FRAME) {
+            throw new IllegalArgumentException("Frame of " + length + " bytes");
+        }
+        buffer.putShort(0, (short) length);
+        buffer.flip();
+        return buffer;
+    }
+
+    public static void putString(final ByteBuffer buffer, final String string) {
+        byte[] bytes = string.getBytes(UTF8);
+        if (bytes.length > MAX_FRAME) {
+            throw new IllegalArgumentException("String of " + bytes.length + " bytes");
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    public static String getString(final ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xffff;
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    /**
+     * Next complete frame of a buffer of received bytes.
+     *
+     * @param received bytes received, flipped for reading; on return positioned after the frame
+     * @return body of the frame, positioned at the opcode and sharing the bytes of <code>received</code>, null if
+     * the buffer does not hold a complete frame yet, in which case <code>received</code> is left unchanged
+     * @throws ProtocolException if the frame is empty or too long
+     */
+    public static ByteBuffer nextFrame(final ByteBuffer received) throws ProtocolException {
+        if (received.remaining() < 2) {
+            return null;
+        }
+        int start = received.position();
+        int length = received.getShort(start) & 0xffff;
+        if (length == 0 || length > MAX_FRAME) {
+            throw new ProtocolException("Frame of " + length + " bytes");
+        }
+        if (received.remaining() < 2 + length) {
+            return null;
+        }
+        ByteBuffer frame = received.duplicate();
+        frame.position(start + 2);
+        frame.limit(start + 2 + length);
+        received.position(start + 2 + length);
+        return frame.slice();
+    }
+}
@@ -0,0 +1,285 @@
+package edu.ncsu.monopoly.net;
+
+import java.nio.ByteBuffer;
+
+import edu.ncsu.monopoly.Cell;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.MonopolyGUI;
+import edu.ncsu.monopoly.OwnedCell;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.PropertyCell;
+import edu.ncsu.monopoly.RespondDialog;
+import edu.ncsu.monopoly.TradeDeal;
+import edu.ncsu.monopoly.TradeDialog;
+
+/**
+ * The remote players of a {@link ServerGame} as its {@link GameMaster} sees them. Buttons are kept as a
+ * {@link Protocol} mask per seat, moves and messages go out as they happen, and the state of the players and the
+ * cells is compared with what the clients were last sent after each command, so only the changes go out. The
+ * trade and respond dialogs of the GUI are answered with the deal and answer the clients sent, through the
+ * {@link ServerGame}.
+ */
+final class RemoteGUI implements MonopolyGUI, TradeDialog, RespondDialog {
+    private final ServerGame game;
+    private final GameMaster master;
+
+    private final int[] buttons;
+    private final int[] sentButtons;
+
+    private final int[] sentMoney;
+    private final int[] sentPositions;
+    private final boolean[] sentInJail;
+
+    private final byte[] sentOwners;
+    private final byte[] sentHouses;
+
+    /**
+     * {@link Cell#getVersion()} of every cell and {@link GameBoard#getVersion()} when they were last compared, so
+     * only the cells that changed since are.
+     */
+    private final int[] sentVersions;
+    private int sentBoardVersion;
+
+    private String houseGroup;
+    private int houses;
+
+    RemoteGUI(final ServerGame game, final GameMaster master) {
+        this.game = game;
+        this.master = master;
+        int players = master.getNumberOfPlayers();
+        buttons = new int[players];
+        sentButtons = new int[players];
+        sentMoney = new int[players];
+        sentPositions = new int[players];
+        sentInJail = new boolean[players];
+        int cells = master.getGameBoard().getCellNumber();
+        sentOwners = new byte[cells];
+        sentHouses = new byte[cells];
+        sentVersions = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            sentOwners[i] = -1;
+            sentVersions[i] = -1;
+        }
+        sentBoardVersion = master.getGameBoard().getVersion() - 1;
+    }
+
+    boolean isEnabled(final int seat, final int button) {
+        return (buttons[seat] & button) != 0;
+    }
+
+    /**
+     * Set the houses the next {@link #showBuyHouseDialog(Player)} buys.
+     *
+     * @param colorGroup monopoly of the current player
+     * @param number     houses to buy
+     */
+    void setHouses(final String colorGroup, final int number) {
+        this.houseGroup = colorGroup;
+        this.houses = number;
+    }
+
+    /**
+     * Send what changed since the last call: the players, then the cells, then the buttons of each seat. The cells
+     * are skipped while the version of the board stays the same, and only those whose version moved are compared.
+     *
+     * @param sendButtons false to leave out the buttons
+     */
+    void flush(final boolean sendButtons) {
+        int players = buttons.length;
+        boolean changed = false;
+        for (int i = 0; i < players && !changed; i++) {
+            Player player = master.getPlayer(i);
+            changed = player.getMoney() != sentMoney[i] || player.getPositionIndex() != sentPositions[i]
+                    || player.isInJail() != sentInJail[i];
+        }
+        if (changed) {
+            ByteBuffer frame = Protocol.begin(game.frame(), Protocol.PLAYERS);
+            for (int i = 0; i < players; i++) {
+                Player player = master.getPlayer(i);
+                sentMoney[i] = player.getMoney();
+                sentPositions[i] = player.getPositionIndex();
+                sentInJail[i] = player.isInJail();
+                frame.putInt(sentMoney[i]);
+                frame.putShort((short) sentPositions[i]);
+                frame.put((byte) (sentInJail[i] ? 1 : 0));
+            }
+            game.broadcast(Protocol.end(frame));
+        }
+
+        GameBoard board = master.getGameBoard();
+        if (board.getVersion() != sentBoardVersion) {
+            for (int i = 0; i < sentOwners.length; i++) {
+                Cell cell = board.getCell(i);
+                if (cell.getVersion() == sentVersions[i] || !(cell instanceof OwnedCell)) {
+                    continue;
+                }
+                sentVersions[i] = cell.getVersion();
+                Player owner = ((OwnedCell) cell).getOwner();
+                byte ownerSeat = (byte) (owner == null ? -1 : owner.getId());
+                byte cellHouses = (byte) (cell instanceof PropertyCell ? ((PropertyCell) cell).getNumHouses() : 0);
+                if (ownerSeat != sentOwners[i] || cellHouses != sentHouses[i]) {
+                    sentOwners[i] = ownerSeat;
+                    sentHouses[i] = cellHouses;
+                    ByteBuffer frame = Protocol.begin(game.frame(), Protocol.CELL);
+                    frame.putShort((short) i);
+                    frame.put(ownerSeat);
+                    frame.put(cellHouses);
+                    game.broadcast(Protocol.end(frame));
+                }
+            }
+            sentBoardVersion = board.getVersion();
+        }
+
+        for (int seat = 0; seat < players && sendButtons; seat++) {
+            if (buttons[seat] != sentButtons[seat]) {
+                sentButtons[seat] = buttons[seat];
+                ByteBuffer frame = Protocol.begin(game.frame(), Protocol.BUTTONS);
+                frame.putShort((short) buttons[seat]);
+                game.send(seat, Protocol.end(frame));
+            }
+        }
+    }
+
+    private void setCurrent(final int button, final boolean enabled) {
+        set(master.getCurrentPlayerIndex(), button, enabled);
+    }
+
+    private void set(final int seat, final int button, final boolean enabled) {
+        if (enabled) {
+            buttons[seat] |= button;
+        } else {
+            buttons[seat] &= ~button;
+        }
+    }
+
+    public void enableEndTurnBtn(int playerIndex) {
+        set(playerIndex, Protocol.BUTTON_END_TURN, true);
+    }
+
+    public void enablePlayerTurn(int playerIndex) {
+        set(playerIndex, Protocol.BUTTON_ROLL, true);
+    }
+
+    public void enablePurchaseBtn(int playerIndex) {
+        set(playerIndex, Protocol.BUTTON_PURCHASE, true);
+    }
+
+    /**
+     * Only called in test mode, which games of the server do not use.
+     *
+     * @return a zero roll, which {@link GameMaster#btnRollDiceClicked()} ignores
+     */
+    public int[] getDiceRoll() {
+        return new int[]{0, 0};
+    }
+
+    public boolean isDrawCardButtonEnabled() {
+        return isEnabled(master.getCurrentPlayerIndex(), Protocol.BUTTON_DRAW_CARD);
+    }
+
+    public boolean isEndTurnButtonEnabled() {
+        return isEnabled(master.getCurrentPlayerIndex(), Protocol.BUTTON_END_TURN);
+    }
+
+    public boolean isGetOutOfJailButtonEnabled() {
+        return isEnabled(master.getCurrentPlayerIndex(), Protocol.BUTTON_GET_OUT_OF_JAIL);
+    }
+
+    public boolean isTradeButtonEnabled(int i) {
+        return isEnabled(i, Protocol.BUTTON_TRADE);
+    }
+
+    public void movePlayer(int index, int from, int to) {
+        ByteBuffer frame = Protocol.begin(game.frame(), Protocol.MOVE);
+        frame.put((byte) index);
+        frame.putShort((short) from);
+        frame.putShort((short) to);
+        game.broadcast(Protocol.end(frame));
+    }
+
+    public RespondDialog openRespondDialog(TradeDeal deal) {
+        game.ask(deal);
+        return this;
+    }
+
+    public TradeDialog openTradeDialog() {
+        return this;
+    }
+
+    /**
+     * @return deal the buyer proposed
+     */
+    public TradeDeal getTradeDeal() {
+        return game.getTradeDeal();
+    }
+
+    /**
+     * @return answer of the seller, which a game on a thread of its own waits for
+     */
+    public boolean getResponse() {
+        return game.awaitResponse();
+    }
+
+    public void setBuyHouseEnabled(boolean b) {
+        setCurrent(Protocol.BUTTON_BUY_HOUSE, b);
+    }
+
+    public void setDrawCardEnabled(boolean b) {
+        setCurrent(Protocol.BUTTON_DRAW_CARD, b);
+    }
+
+    public void setEndTurnEnabled(boolean enabled) {
+        setCurrent(Protocol.BUTTON_END_TURN, enabled);
+    }
+
+    public void setGetOutOfJailEnabled(boolean b) {
+        setCurrent(Protocol.BUTTON_GET_OUT_OF_JAIL, b);
+    }
+
+    public void setPurchasePropertyEnabled(boolean enabled) {
+        setCurrent(Protocol.BUTTON_PURCHASE, enabled);
+    }
+
+    public void setRollDiceEnabled(boolean b) {
+        setCurrent(Protocol.BUTTON_ROLL, b);
+    }
+
+    public void setTradeEnabled(int index, boolean b) {
+        set(index, Protocol.BUTTON_TRADE, b);
+    }
+
+    public void showBuyHouseDialog(Player currentPlayer) {
+        if (houseGroup != null) {
+            currentPlayer.purchaseHouse(houseGroup, houses);
+            houseGroup = null;
+        }
+    }
+
+    public void showMessage(String string) {
+        ByteBuffer frame = Protocol.begin(game.frame(), Protocol.MESSAGE);
+        Protocol.putString(frame, string);
+        game.broadcast(Protocol.end(frame));
+    }
+
+    /**
+     * Roll the dice of the game for a utility bill and tell the players.
+     *
+     * @return sum of the roll
+     */
+    public int showUtilDiceRoll() {
+        int[] roll = master.rollDice();
+        int sum = roll[0] + roll[1];
+        showMessage(master.getCurrentPlayer().getName() + " rolled " + sum + " for the utility");
+        return sum;
+    }
+
+    public void startGame() {
+    }
+
+    /**
+     * Changes are found and sent by {@link #flush(boolean)} after each command instead.
+     */
+    public void update() {
+    }
+}
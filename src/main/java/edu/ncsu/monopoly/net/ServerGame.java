@@ -0,0 +1,280 @@
+package edu.ncsu.monopoly.net;
+
+import java.nio.ByteBuffer;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.BufferedDie;
+import edu.ncsu.monopoly.Cell;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.OwnedCell;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.TradeDeal;
+
+/**
+ * A game of a {@link GameServer}: its own {@link GameMaster} and board, played by the clients of its seats.
+ * Commands of the clients are checked against the buttons the game enabled for them before they are applied,
+ * exactly as the GUI only lets a player click enabled buttons.
+ * <p>This class runs on the thread of the server and never blocks: a trade is offered to the seller when the buyer
+ * proposes it and applied when the seller answers, with the answer ready by the time the engine asks for it. See
+ * {@link ThreadedGame} for games on threads of their own.</p>
+ */
+class ServerGame {
+    /**
+     * Rolls buffered per die; the dice of a game are its largest part otherwise.
+     */
+    private static final int DICE_BUFFER = 64;
+
+    static final String NOT_NOW = "Not now";
+
+    static final String WAITING = "Waiting for the answer to the trade";
+
+    final int id;
+    final GameMaster master;
+    final RemoteGUI gui;
+    final Connection[] seats;
+    final String[] names;
+
+    final GameServer server;
+
+    /**
+     * Seat of the buyer of the trade in progress, -1 for none.
+     */
+    int buyer = -1;
+    int tradedCell;
+    TradeDeal deal;
+    boolean response;
+
+    ServerGame(final GameServer server, final int id, final BoardDefinition definition, final long seed,
+               final Connection[] seats, final String[] names) {
+        this.server = server;
+        this.id = id;
+        this.seats = seats;
+        this.names = names;
+        master = new GameMaster();
+        master.setGameBoard(definition.newGameBoard());
+        master.setDice(new BufferedDie(DICE_BUFFER), new BufferedDie(DICE_BUFFER));
+        master.setSeed(seed);
+        master.setMetrics(server.getMetrics());
+        master.setNumberOfPlayers(seats.length);
+        gui = new RemoteGUI(this, master);
+        master.setGUI(gui);
+    }
+
+    /**
+     * Tell every client its seat and start the game.
+     */
+    void start() {
+        for (int seat = 0; seat < seats.length; seat++) {
+            master.getPlayer(seat).setName(names[seat]);
+        }
+        for (int seat = 0; seat < seats.length; seat++) {
+            ByteBuffer frame = Protocol.begin(frame(), Protocol.START);
+            frame.putInt(id);
+            frame.put((byte) seat);
+            frame.put((byte) seats.length);
+            for (int i = 0; i < names.length; i++) {
+                Protocol.putString(frame, names[i]);
+            }
+            send(seat, Protocol.end(frame));
+        }
+        master.startGame();
+        gui.flush(true);
+    }
+
+    /**
+     * Apply a command of a client and send what it changed. Once a player is bankrupt the game is over, so the
+     * buttons it leaves enabled are not sent.
+     *
+     * @param seat   seat of the client
+     * @param opcode command
+     * @param frame  rest of the command
+     * @return reason the command is refused, null if it was applied
+     */
+    String handle(final int seat, final byte opcode, final ByteBuffer frame) {
+        if (seat == buyer && opcode != Protocol.RESPOND) {
+            return WAITING;
+        }
+        String error = apply(seat, opcode, frame);
+        gui.flush(getBankrupt() < 0);
+        return error;
+    }
+
+    private String apply(final int seat, final byte opcode, final ByteBuffer frame) {
+        switch (opcode) {
+        case Protocol.ROLL:
+            if (!gui.isEnabled(seat, Protocol.BUTTON_ROLL)) {
+                return NOT_NOW;
+            }
+            master.btnRollDiceClicked();
+            return null;
+        case Protocol.PURCHASE:
+            if (!gui.isEnabled(seat, Protocol.BUTTON_PURCHASE)) {
+                return NOT_NOW;
+            }
+            master.btnPurchasePropertyClicked();
+            return null;
+        case Protocol.DRAW_CARD:
+            if (!gui.isEnabled(seat, Protocol.BUTTON_DRAW_CARD)) {
+                return NOT_NOW;
+            }
+            master.btnDrawCardClicked();
+            return null;
+        case Protocol.END_TURN:
+            if (!gui.isEnabled(seat, Protocol.BUTTON_END_TURN)) {
+                return NOT_NOW;
+            }
+            master.btnEndTurnClicked();
+            return null;
+        case Protocol.GET_OUT_OF_JAIL:
+            if (!gui.isEnabled(seat, Protocol.BUTTON_GET_OUT_OF_JAIL)) {
+                return NOT_NOW;
+            }
+            master.btnGetOutOfJailClicked();
+            return null;
+        case Protocol.BUY_HOUSE:
+            return buyHouses(seat, Protocol.getString(frame), frame.get());
+        case Protocol.TRADE:
+            return trade(seat, frame.get(), frame.getShort() & 0xffff, frame.getInt());
+        case Protocol.RESPOND:
+            return respond(seat, frame.get() != 0);
+        default:
+            return "Unknown command " + opcode;
+        }
+    }
+
+    private String buyHouses(final int seat, final String colorGroup, final int number) {
+        if (!gui.isEnabled(seat, Protocol.BUTTON_BUY_HOUSE)) {
+            return NOT_NOW;
+        }
+        if (!master.getPlayer(seat).isMonopoly(colorGroup)) {
+            return "No monopoly of " + colorGroup;
+        }
+        if (number < 1 || number > 5) {
+            return "Cannot buy " + number + " houses";
+        }
+        gui.setHouses(colorGroup, number);
+        master.btnBuyHouseClicked();
+        return null;
+    }
+
+    private String trade(final int seat, final int sellerSeat, final int cellIndex, final int amount) {
+        if (!gui.isEnabled(seat, Protocol.BUTTON_TRADE)) {
+            return NOT_NOW;
+        }
+        if (sellerSeat < 0 || sellerSeat >= seats.length || sellerSeat == seat) {
+            return "No seller at seat " + sellerSeat;
+        }
+        GameBoard board = master.getGameBoard();
+        Cell cell = cellIndex < board.getCellNumber() ? board.getCell(cellIndex) : null;
+        Player owner = master.getPlayer(sellerSeat);
+        if (!(cell instanceof OwnedCell) || ((OwnedCell) cell).getOwner() != owner) {
+            return "Cell " + cellIndex + " is not owned by " + owner.getName();
+        }
+        if (amount < 0) {
+            return "Cannot pay " + amount;
+        }
+        TradeDeal offer = new TradeDeal();
+        offer.setSellerIndex(sellerSeat);
+        offer.setPropertyName(cell.getName());
+        offer.setAmount(amount);
+        buyer = seat;
+        tradedCell = cellIndex;
+        deal = offer;
+        trade();
+        return null;
+    }
+
+    /**
+     * Go on with the trade just proposed: offer it to the seller, to be applied by {@link #respond(int, boolean)}.
+     */
+    void trade() {
+        sendOffer();
+    }
+
+    private String respond(final int seat, final boolean accept) {
+        if (buyer < 0 || seat != deal.getPlayerIndex()) {
+            return "No offer to answer";
+        }
+        response = accept;
+        master.btnTradeClicked();
+        traded();
+        return null;
+    }
+
+    /**
+     * The engine asks the seller about the deal; the seller was asked when the offer came in.
+     *
+     * @param offer deal of the trade in progress
+     */
+    void ask(final TradeDeal offer) {
+    }
+
+    /**
+     * Answer of the seller of the trade in progress.
+     *
+     * @return true to trade
+     */
+    boolean awaitResponse() {
+        return response;
+    }
+
+    TradeDeal getTradeDeal() {
+        return deal;
+    }
+
+    void sendOffer() {
+        ByteBuffer frame = Protocol.begin(frame(), Protocol.OFFER);
+        frame.put((byte) buyer);
+        frame.putShort((short) tradedCell);
+        frame.putInt(deal.getAmount());
+        send(deal.getPlayerIndex(), Protocol.end(frame));
+    }
+
+    /**
+     * Tell both sides of the trade in progress the answer and end the trade.
+     */
+    void traded() {
+        ByteBuffer frame = Protocol.begin(frame(), Protocol.TRADED);
+        frame.put((byte) (response ? 1 : 0));
+        Protocol.end(frame);
+        send(buyer, frame);
+        send(deal.getPlayerIndex(), frame);
+        buyer = -1;
+        deal = null;
+    }
+
+    /**
+     * First bankrupt player.
+     *
+     * @return seat of the player, -1 while nobody is bankrupt
+     */
+    int getBankrupt() {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (master.getPlayer(seat).isBankrupt()) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    ByteBuffer frame() {
+        return server.frame();
+    }
+
+    void error(final int seat, final String message) {
+        ByteBuffer frame = Protocol.begin(frame(), Protocol.ERROR);
+        Protocol.putString(frame, message);
+        send(seat, Protocol.end(frame));
+    }
+
+    void send(final int seat, final ByteBuffer frame) {
+        server.send(seats[seat], frame);
+    }
+
+    void broadcast(final ByteBuffer frame) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            server.send(seats[seat], frame);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package edu.ncsu.monopoly.net;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.TradeDeal;
+
+/**
+ * A game played on a thread of its own, in the blocking style of the engine: the thread waits for each command of
+ * its players, and when the engine asks the seller of a trade for an answer, {@link #awaitResponse()} waits for it
+ * too. The server hands the commands over through a queue and every frame the game sends is handed back to the
+ * server to write, so the game and the server share nothing else.
+ */
+final class ThreadedGame extends ServerGame implements Runnable {
+    /**
+     * Most commands queued for a game; a client sending faster than its game applies them is dropped.
+     */
+    static final int MAX_QUEUED = 64;
+
+    private final BlockingQueue<byte[]> commands = new LinkedBlockingQueue<byte[]>();
+
+    /**
+     * Frame being built; the server has its own.
+     */
+    private final ByteBuffer frame = ByteBuffer.allocate(Protocol.MAX_FRAME + 2);
+
+    /**
+     * Seat of the player who left while the game waited for the answer to a trade, -1 for none.
+     */
+    private int left = -1;
+
+    private boolean over;
+
+    ThreadedGame(final GameServer server, final int id, final BoardDefinition definition, final long seed,
+                 final Connection[] seats, final String[] names) {
+        super(server, id, definition, seed, seats, names);
+    }
+
+    /**
+     * Queue a command for the game, called by the server.
+     *
+     * @param seat   seat of the client
+     * @param opcode command
+     * @param body   rest of the command
+     * @return false if the client has too many commands queued already
+     */
+    boolean post(final int seat, final byte opcode, final ByteBuffer body) {
+        if (opcode != Protocol.LEAVE && commands.size() >= MAX_QUEUED) {
+            return false;
+        }
+        byte[] command = new byte[2 + body.remaining()];
+        command[0] = (byte) seat;
+        command[1] = opcode;
+        body.get(command, 2, command.length - 2);
+        commands.add(command);
+        return true;
+    }
+
+    /**
+     * Play until a player leaves or goes bankrupt. A command the game fails on, be it a malformed frame or a
+     * failure of the engine, ends the game as if its sender left; the game ends whatever happens, so the other
+     * seats are told and the server stops counting it.
+     */
+    public void run() {
+        int seat = -1;
+        try {
+            start();
+            while (!over) {
+                byte[] command = commands.take();
+                seat = command[0];
+                if (command[1] == Protocol.LEAVE) {
+                    end(seat);
+                    break;
+                }
+                String error;
+                try {
+                    error = handle(seat, command[1], ByteBuffer.wrap(command, 2, command.length - 2));
+                } catch (RuntimeException e) {
+                    error(seat, "Command failed: " + e);
+                    end(seat);
+                    break;
+                }
+                if (error != null) {
+                    error(seat, error);
+                }
+                if (left >= 0) {
+                    end(left);
+                } else if (getBankrupt() >= 0) {
+                    end(getBankrupt());
+                }
+            }
+        } catch (InterruptedException e) {
+            // the server is shutting down
+        } finally {
+            if (!over) {
+                end(seat);
+            }
+        }
+    }
+
+    /**
+     * End the game on the thread of the server.
+     *
+     * @param player seat of the player who went bankrupt, left or failed, -1 if the game failed before any command
+     */
+    private void end(final int player) {
+        over = true;
+        server.execute(new Runnable() {
+            public void run() {
+                server.end(ThreadedGame.this, player);
+            }
+        });
+    }
+
+    /**
+     * Apply the trade just proposed at once: the engine offers it to the seller and waits for the answer.
+     */
+    void trade() {
+        master.btnTradeClicked();
+        if (left < 0) {
+            traded();
+        }
+    }
+
+    void ask(final TradeDeal offer) {
+        sendOffer();
+    }
+
+    /**
+     * Wait for the seller to answer, refusing every other command meanwhile.
+     *
+     * @return answer of the seller, false if a player left
+     */
+    boolean awaitResponse() {
+        try {
+            while (true) {
+                byte[] command = commands.take();
+                int seat = command[0];
+                if (command[1] == Protocol.LEAVE) {
+                    left = seat;
+                    return false;
+                }
+                if (command[1] == Protocol.RESPOND && seat == deal.getPlayerIndex() && command.length == 3) {
+                    response = command[2] != 0;
+                    return response;
+                }
+                error(seat, seat == buyer ? WAITING : NOT_NOW);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            left = buyer;
+            return false;
+        }
+    }
+
+    ByteBuffer frame() {
+        return frame;
+    }
+
+    void send(final int seat, final ByteBuffer frame) {
+        final ByteBuffer copy = copy(frame);
+        final Connection connection = seats[seat];
+        server.execute(new Runnable() {
+            public void run() {
+                server.send(connection, copy);
+            }
+        });
+    }
+
+    void broadcast(final ByteBuffer frame) {
+        final ByteBuffer copy = copy(frame);
+        server.execute(new Runnable() {
+            public void run() {
+                for (int seat = 0; seat < seats.length; seat++) {
+                    server.send(seats[seat], copy);
+                }
+            }
+        });
+    }
+
+    private static ByteBuffer copy(final ByteBuffer frame) {
+        byte[] bytes = new byte[frame.remaining()];
+        frame.duplicate().get(bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+}
@@ -0,0 +1,64 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.GameBoard;
+
+/**
+ * Builds a fresh {@link GameBoard} for every simulated game. Boards hold ownership and house state, so games
+ * can never share one.
+ */
+public abstract class BoardFactory {
+
+    /**
+     * Factory laying out boards from a definition, the way {@link edu.ncsu.monopoly.gui.Main} does.
+     *
+     * @param definition board to lay out
+     * @return factory for the passed definition
+     */
+    public static BoardFactory forDefinition(final BoardDefinition definition) {
+        return new BoardFactory() {
+            @Override
+            public GameBoard newGameBoard() {
+                return definition.newGameBoard();
+            }
+
+            @Override
+            public String toString() {
+                return definition.getName();
+            }
+        };
+    }
+
+    /**
+     * Factory instantiating a {@link GameBoard} subclass through its no argument constructor.
+     *
+     * @param boardClass board to instantiate, e.g. {@link edu.ncsu.monopoly.GameBoardFull}
+     * @return factory for the passed class
+     */
+    public static BoardFactory forClass(final Class<? extends GameBoard> boardClass) {
+        return new BoardFactory() {
+            @Override
+            public GameBoard newGameBoard() {
+                try {
+                    return boardClass.newInstance();
+                } catch (InstantiationException e) {
+                    throw new IllegalArgumentException("Cannot instantiate " + boardClass.getName(), e);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("Cannot access " + boardClass.getName(), e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return boardClass.getSimpleName();
+            }
+        };
+    }
+
+    /**
+     * A new, unplayed board.
+     *
+     * @return board no other game references
+     */
+    public abstract GameBoard newGameBoard();
+}
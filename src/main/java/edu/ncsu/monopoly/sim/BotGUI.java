@@ -0,0 +1,94 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.GameView;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.RespondDialog;
+import edu.ncsu.monopoly.TradeDeal;
+import edu.ncsu.monopoly.TradeDialog;
+
+/**
+ * {@link HeadlessGUI} whose dialogs are answered by the {@link Strategy} of each seat: the buy house dialog adds
+ * the houses the strategy asks for, the trade dialog proposes the trade it chooses and the respond dialog gives
+ * the answer of the seller. The GUI is its own trade and respond dialog.
+ */
+public class BotGUI extends HeadlessGUI implements TradeDialog, RespondDialog {
+    private final GameMaster gameMaster;
+    private final GameView view;
+    private final Strategy[] strategies;
+
+    /**
+     * Deal being answered by {@link #getResponse()}.
+     */
+    private TradeDeal deal;
+
+    /**
+     * Constructor.
+     *
+     * @param gameMaster game whose dice are rolled for utility bills
+     * @param view       view of the game the strategies decide on
+     * @param strategies strategy of every seat
+     */
+    public BotGUI(final GameMaster gameMaster, final GameView view, final Strategy[] strategies) {
+        super(gameMaster);
+        this.gameMaster = gameMaster;
+        this.view = view;
+        this.strategies = strategies;
+    }
+
+    public GameView getView() {
+        return view;
+    }
+
+    public TradeDialog openTradeDialog() {
+        return this;
+    }
+
+    public TradeDeal getTradeDeal() {
+        int buyer = gameMaster.getCurrentPlayerIndex();
+        int cell = strategies[buyer].chooseTrade(view, buyer);
+        if (cell < 0) {
+            return null;
+        }
+        int seller = view.getOwner(cell);
+        if (seller == GameState.BANK || seller == buyer) {
+            return null;
+        }
+        int amount = strategies[buyer].offer(view, buyer, cell);
+        if (amount < 0) {
+            return null;
+        }
+        TradeDeal offer = new TradeDeal();
+        offer.setSellerIndex(seller);
+        offer.setPropertyName(view.getBoard().getName(cell));
+        offer.setAmount(amount);
+        return offer;
+    }
+
+    public RespondDialog openRespondDialog(final TradeDeal deal) {
+        this.deal = deal;
+        return this;
+    }
+
+    public boolean getResponse() {
+        int seller = deal.getPlayerIndex();
+        int cell = gameMaster.getGameBoard().queryCellIndex(deal.getPropertyName());
+        return strategies[seller].acceptTrade(view, seller, gameMaster.getCurrentPlayerIndex(), cell,
+                deal.getAmount());
+    }
+
+    public void showBuyHouseDialog(final Player currentPlayer) {
+        int seat = currentPlayer.getId();
+        CompiledBoard board = view.getBoard();
+        for (int group = 0; group < board.getGroupCount(); group++) {
+            if (view.isMonopoly(seat, group)) {
+                int houses = strategies[seat].buyHouses(view, seat, group);
+                if (houses > 0) {
+                    currentPlayer.purchaseHouse(board.getGroupName(group), houses);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameView;
+
+/**
+ * Keeps a cash reserve above all else:
+ * <ul>
+ *  <li>sit in jail, where no rent is paid, once another player has built houses</li>
+ *  <li>buy a cell, or add one house per monopoly per turn, only while the reserve stays in hand</li>
+ *  <li>never propose a trade, and sell a cell for twice its price unless it completes a monopoly of the buyer</li>
+ * </ul>
+ */
+public final class CautiousStrategy implements Strategy {
+    private final int reserve;
+
+    /**
+     * Constructor.
+     *
+     * @param reserve money kept in hand when buying cells or houses
+     */
+    public CautiousStrategy(final int reserve) {
+        if (reserve < 0) {
+            throw new IllegalArgumentException("Cash reserve must not be negative");
+        }
+        this.reserve = reserve;
+    }
+
+    public boolean payBail(final GameView game, final int player, final int turnsInJail) {
+        CompiledBoard board = game.getBoard();
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            if (game.getHouses(cell) > 0 && game.getOwner(cell) != player) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean purchase(final GameView game, final int player, final int cell) {
+        return game.getMoney(player) - game.getBoard().getPrice(cell) >= reserve;
+    }
+
+    public int buyHouses(final GameView game, final int player, final int group) {
+        CompiledBoard board = game.getBoard();
+        int cost = board.getGroupSize(group) * board.getHousePrice(board.getGroupCell(group, 0));
+        return game.getMoney(player) - cost >= reserve ? 1 : 0;
+    }
+
+    public int chooseTrade(final GameView game, final int player) {
+        return -1;
+    }
+
+    public int offer(final GameView game, final int player, final int cell) {
+        return -1;
+    }
+
+    public boolean acceptTrade(final GameView game, final int player, final int buyer, final int cell,
+                               final int amount) {
+        CompiledBoard board = game.getBoard();
+        int group = board.getGroup(cell);
+        if (group >= 0) {
+            int owned = 0;
+            for (int i = 0; i < board.getGroupSize(group); i++) {
+                if (game.getOwner(board.getGroupCell(group, i)) == buyer) {
+                    owned++;
+                }
+            }
+            if (owned == board.getGroupSize(group) - 1) {
+                return false;
+            }
+        }
+        return amount >= 2 * board.getPrice(cell);
+    }
+}
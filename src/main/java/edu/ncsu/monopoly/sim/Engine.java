@@ -0,0 +1,55 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameState;
+
+/**
+ * Rules implementation a {@link SimulationRunner} or {@link Tournament} plays its games with. Both engines ask the
+ * same strategies the same questions under the same rules, so they produce the same outcome for the same seed.
+ */
+public enum Engine {
+    /**
+     * {@link SimulatedGame}: every game through a new {@link GameMaster} and board, exactly as the GUI plays.
+     */
+    GAME_MASTER {
+        @Override
+        public Simulation newSimulation(final BoardFactory boardFactory, final Strategy[] strategies,
+                                        final int maxTurns) {
+            return new SimulatedGame(boardFactory, strategies, maxTurns);
+        }
+    },
+
+    /**
+     * {@link StateSimulatedGame}: every game on one reused {@link GameState} over a board compiled once.
+     */
+    GAME_STATE {
+        @Override
+        public Simulation newSimulation(final BoardFactory boardFactory, final Strategy[] strategies,
+                                        final int maxTurns) {
+            return new StateSimulatedGame(new CompiledBoard(boardFactory.newGameBoard()), strategies, maxTurns);
+        }
+    };
+
+    /**
+     * Simulation for a single worker thread, every seat playing the {@link ScriptedStrategy}.
+     *
+     * @param boardFactory    board to play on
+     * @param numberOfPlayers seats at the table
+     * @param maxTurns        player turns after which a game is stopped
+     * @return simulation not shared with any other thread
+     */
+    public Simulation newSimulation(final BoardFactory boardFactory, final int numberOfPlayers, final int maxTurns) {
+        return newSimulation(boardFactory, SimulatedGame.scripted(numberOfPlayers), maxTurns);
+    }
+
+    /**
+     * Simulation for a single worker thread.
+     *
+     * @param boardFactory board to play on
+     * @param strategies   strategy of every seat at the table, shared with the simulations of other threads
+     * @param maxTurns     player turns after which a game is stopped
+     * @return simulation not shared with any other thread
+     */
+    public abstract Simulation newSimulation(BoardFactory boardFactory, Strategy[] strategies, int maxTurns);
+}
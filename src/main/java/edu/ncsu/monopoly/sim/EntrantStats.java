@@ -0,0 +1,144 @@
+package edu.ncsu.monopoly.sim;
+
+/**
+ * Aggregate of the games and matches of one entrant of a {@link Tournament}. Every sum is an integer, so partial
+ * results merged in any order give exactly the same totals. Not thread safe: every task fills its own instance and
+ * the instances are combined with {@link #merge(EntrantStats)}.
+ */
+public class EntrantStats {
+    /**
+     * Normal quantile of a two sided 95% confidence interval.
+     */
+    static final double Z95 = 1.959963984540054;
+
+    private long games;
+    private long wins;
+    private long totalNetWorth;
+    private long totalNetWorthSquares;
+
+    /**
+     * Matches played, and the points they earned counted in halves: 2 for a win, 1 for a draw.
+     */
+    private int matches;
+    private int halfPoints;
+
+    /**
+     * Record one game.
+     *
+     * @param won      did the entrant win the game?
+     * @param netWorth final net worth of the entrant
+     */
+    void add(final boolean won, final int netWorth) {
+        games++;
+        if (won) {
+            wins++;
+        }
+        totalNetWorth += netWorth;
+        totalNetWorthSquares += (long) netWorth * netWorth;
+    }
+
+    /**
+     * Record one match.
+     *
+     * @param halfPoints points earned, in halves
+     */
+    void addMatch(final int halfPoints) {
+        matches++;
+        this.halfPoints += halfPoints;
+    }
+
+    /**
+     * Fold the results of another task into this one.
+     *
+     * @param other results to add
+     */
+    public void merge(final EntrantStats other) {
+        games += other.games;
+        wins += other.wins;
+        totalNetWorth += other.totalNetWorth;
+        totalNetWorthSquares += other.totalNetWorthSquares;
+        matches += other.matches;
+        halfPoints += other.halfPoints;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    /**
+     * Match points: 1 for every match won and 1/2 for every match drawn.
+     *
+     * @return points of the entrant
+     */
+    public double getPoints() {
+        return halfPoints / 2.0;
+    }
+
+    int getHalfPoints() {
+        return halfPoints;
+    }
+
+    /**
+     * Fraction of the games won.
+     *
+     * @return win rate between 0 and 1
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Lower bound of the Wilson score interval of the win rate at 95% confidence.
+     *
+     * @return lower bound between 0 and 1
+     */
+    public double getWinRateLow() {
+        return games == 0 ? 0 : wilsonCenter() - wilsonMargin();
+    }
+
+    /**
+     * Upper bound of the Wilson score interval of the win rate at 95% confidence.
+     *
+     * @return upper bound between 0 and 1
+     */
+    public double getWinRateHigh() {
+        return games == 0 ? 1 : wilsonCenter() + wilsonMargin();
+    }
+
+    private double wilsonCenter() {
+        double z2 = Z95 * Z95;
+        return (getWinRate() + z2 / (2 * games)) / (1 + z2 / games);
+    }
+
+    private double wilsonMargin() {
+        double z2 = Z95 * Z95;
+        double rate = getWinRate();
+        return Z95 * Math.sqrt(rate * (1 - rate) / games + z2 / (4.0 * games * games)) / (1 + z2 / games);
+    }
+
+    public double getAverageNetWorth() {
+        return games == 0 ? 0 : (double) totalNetWorth / games;
+    }
+
+    /**
+     * Half width of the 95% confidence interval of the average net worth, from the normal approximation.
+     *
+     * @return margin around {@link #getAverageNetWorth()}, 0 for fewer than two games
+     */
+    public double getNetWorthMargin() {
+        if (games < 2) {
+            return 0;
+        }
+        double mean = getAverageNetWorth();
+        double variance = ((double) totalNetWorthSquares - mean * totalNetWorth) / (games - 1);
+        return Z95 * Math.sqrt(Math.max(0, variance) / games);
+    }
+}
@@ -0,0 +1,85 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.Cell;
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.GameView;
+import edu.ncsu.monopoly.OwnedCell;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.PropertyCell;
+
+/**
+ * {@link GameView} of a {@link GameMaster}, reading owners and houses from its cells as they change.
+ */
+public final class GameMasterView implements GameView {
+    private final GameMaster master;
+    private final CompiledBoard board;
+
+    /**
+     * Constructor.
+     *
+     * @param master game to view
+     * @param board  compiled layout of the board of the game, may be shared with other games on the same layout
+     */
+    public GameMasterView(final GameMaster master, final CompiledBoard board) {
+        if (board.getCellCount() != master.getGameBoard().getCellNumber()) {
+            throw new IllegalArgumentException("Board has " + board.getCellCount() + " cells, the game "
+                    + master.getGameBoard().getCellNumber());
+        }
+        this.master = master;
+        this.board = board;
+    }
+
+    public CompiledBoard getBoard() {
+        return board;
+    }
+
+    public int getNumberOfPlayers() {
+        return master.getNumberOfPlayers();
+    }
+
+    public int getTurn() {
+        return master.getCurrentPlayerIndex();
+    }
+
+    public int getPosition(final int player) {
+        return master.getPlayer(player).getPositionIndex();
+    }
+
+    public int getMoney(final int player) {
+        return master.getPlayer(player).getMoney();
+    }
+
+    public boolean isInJail(final int player) {
+        return master.getPlayer(player).isInJail();
+    }
+
+    public int getOwner(final int cell) {
+        Cell c = master.getGameBoard().getCell(cell);
+        if (!(c instanceof OwnedCell)) {
+            return GameState.BANK;
+        }
+        Player owner = ((OwnedCell) c).getOwner();
+        return owner == null ? GameState.BANK : owner.getId();
+    }
+
+    public int getHouses(final int cell) {
+        Cell c = master.getGameBoard().getCell(cell);
+        return c instanceof PropertyCell ? ((PropertyCell) c).getNumHouses() : 0;
+    }
+
+    public boolean isMonopoly(final int player, final int group) {
+        return master.getPlayer(player).isMonopoly(board.getGroupName(group));
+    }
+
+    public int getNetWorth(final int player) {
+        int worth = master.getPlayer(player).getMoney();
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            if (getOwner(cell) == player) {
+                worth += board.getPrice(cell) + getHouses(cell) * board.getHousePrice(cell);
+            }
+        }
+        return worth;
+    }
+}
@@ -0,0 +1,257 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.Card;
+import edu.ncsu.monopoly.Cell;
+import edu.ncsu.monopoly.EventJournal;
+import edu.ncsu.monopoly.EventJournalReader;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameSnapshot;
+import edu.ncsu.monopoly.MoneyCard;
+import edu.ncsu.monopoly.OwnedCell;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.PropertyCell;
+import edu.ncsu.monopoly.TradeDeal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Rebuilds the state of a journaled game at any turn by applying the events of its {@link EventJournal} to a
+ * {@link GameMaster} without a GUI. Every event is checked against the state it is applied to, so a journal that
+ * does not belong to the game, or a change of the rules since it was written, is reported at the first event
+ * that no longer fits.
+ * <p>A {@link GameSnapshot} is kept every <code>checkpointInterval</code> turns as the replay first passes them.
+ * Seeking restores the nearest checkpoint at or before the wanted turn and replays from there. Every later pass
+ * over a checkpoint compares the replayed state with it, so a replay that does not give the same state twice is
+ * reported as well.</p>
+ * <p>Turn <code>n</code> is the state right after the <code>n</code>-th {@link EventJournal#EVENT_TURN}: the
+ * turn has passed to its player, who has not done anything yet. Turn 0 is the state the replay started from.</p>
+ */
+public final class GameReplay {
+    private final GameMaster master;
+    private final EventJournalReader journal;
+    private final int checkpointInterval;
+
+    /**
+     * State at turn <code>k * checkpointInterval</code> at index <code>k</code>, and the record to go on from.
+     */
+    private final ArrayList<GameSnapshot> checkpoints = new ArrayList<GameSnapshot>();
+    private final ArrayList<Long> checkpointRecords = new ArrayList<Long>();
+
+    private final TradeDeal deal = new TradeDeal();
+
+    /**
+     * Index of the next record to apply.
+     */
+    private long next;
+
+    /**
+     * Index of the first record of {@link #turn} after its {@link EventJournal#EVENT_TURN}.
+     */
+    private long turnStart;
+    private int turn;
+    private long applied;
+
+    /**
+     * Constructor.
+     *
+     * @param master             game in the state the journal was started in, e.g. {@link SimulatedGame#newGame(long)};
+     *                           its GUI is replaced by a {@link HeadlessGUI} and its journal removed
+     * @param journal            events of the game
+     * @param checkpointInterval turns between checkpoints
+     */
+    public GameReplay(final GameMaster master, final EventJournalReader journal, final int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.master = master;
+        this.journal = journal;
+        this.checkpointInterval = checkpointInterval;
+        master.setJournal(null);
+        master.setGUI(new HeadlessGUI(master));
+        checkpoints.add(GameSnapshot.capture(master));
+        checkpointRecords.add(Long.valueOf(0));
+    }
+
+    /**
+     * Game being replayed, in the state of {@link #getTurn()}.
+     *
+     * @return replayed game
+     */
+    public GameMaster getGameMaster() {
+        return master;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Last turn of the journal.
+     *
+     * @return turn of the last record, 0 for an empty journal
+     * @throws IOException if the journal cannot be read
+     */
+    public int getLastTurn() throws IOException {
+        if (journal.getCount() == 0) {
+            return 0;
+        }
+        journal.seek(journal.getCount() - 1);
+        return journal.getTurn();
+    }
+
+    /**
+     * Checkpoints taken so far, including the initial state.
+     *
+     * @return number of checkpoints
+     */
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    /**
+     * Records applied since the replay was created, across all seeks.
+     *
+     * @return number of records applied
+     */
+    public long getAppliedCount() {
+        return applied;
+    }
+
+    /**
+     * Bring the game to the start of a turn.
+     *
+     * @param target turn to reach, between 0 and {@link #getLastTurn()}
+     * @throws IOException           if the journal cannot be read
+     * @throws IllegalStateException if the journal does not fit the game
+     */
+    public void seek(final int target) throws IOException {
+        if (target < 0 || target > getLastTurn()) {
+            throw new IndexOutOfBoundsException("No turn " + target + " in a journal of " + getLastTurn() + " turns");
+        }
+        int checkpoint = Math.min(target / checkpointInterval, checkpoints.size() - 1);
+        if (target < turn || target == turn && next > turnStart || checkpoint * checkpointInterval > turn) {
+            checkpoints.get(checkpoint).restore(master);
+            next = checkpointRecords.get(checkpoint).longValue();
+            turnStart = next;
+            turn = checkpoint * checkpointInterval;
+        }
+        while (next < journal.getCount()) {
+            journal.seek(next);
+            int recordTurn = journal.getTurn();
+            if (recordTurn > target || recordTurn == target && journal.getEvent() != EventJournal.EVENT_TURN) {
+                break;
+            }
+            apply();
+            next++;
+            applied++;
+            if (journal.getEvent() == EventJournal.EVENT_TURN) {
+                turn = journal.getTurn();
+                turnStart = next;
+                if (turn % checkpointInterval == 0) {
+                    checkpoint(turn / checkpointInterval);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replay the whole journal.
+     *
+     * @throws IOException           if the journal cannot be read
+     * @throws IllegalStateException if the journal does not fit the game
+     */
+    public void seekEnd() throws IOException {
+        seek(getLastTurn());
+        while (next < journal.getCount()) {
+            journal.seek(next);
+            apply();
+            next++;
+            applied++;
+        }
+    }
+
+    private void checkpoint(final int index) {
+        GameSnapshot state = GameSnapshot.capture(master);
+        if (index == checkpoints.size()) {
+            checkpoints.add(state);
+            checkpointRecords.add(Long.valueOf(next));
+        } else {
+            String difference = checkpoints.get(index).describeDifference(state);
+            if (difference != null) {
+                throw new IllegalStateException("Replay of turn " + turn + " differs from its checkpoint: "
+                        + difference);
+            }
+        }
+    }
+
+    /**
+     * Apply the current record of the journal.
+     */
+    private void apply() {
+        GameBoard board = master.getGameBoard();
+        Player player = master.getPlayer(journal.getPlayer());
+        int first = journal.getFirst();
+        int second = journal.getSecond();
+        switch (journal.getEvent()) {
+            case EventJournal.EVENT_ROLL:
+                check(player == master.getCurrentPlayer(), "roll out of turn");
+                break;
+            case EventJournal.EVENT_MOVE:
+                master.movePlayer(player, first);
+                check(player.getPositionIndex() == second, "move ended on " + player.getPositionIndex());
+                break;
+            case EventJournal.EVENT_CARD:
+                Card card = first == Card.TYPE_CC ? board.drawCCCard() : board.drawChanceCard();
+                int amount = card instanceof MoneyCard ? ((MoneyCard) card).getAmount() : 0;
+                check(amount == second, "card " + card.getLabel() + " drawn");
+                player.setMoney(player.getMoney() + amount);
+                break;
+            case EventJournal.EVENT_RENT:
+                player.payRentTo(master.getPlayer(journal.getOther()), first);
+                break;
+            case EventJournal.EVENT_PURCHASE:
+                check(player.getPositionIndex() == first, "player on " + player.getPositionIndex());
+                Cell cell = board.getCell(first);
+                check(cell instanceof OwnedCell && ((OwnedCell) cell).isAvailable(), cell.getName() + " not for sale");
+                check(cell.getPrice() == second, cell.getName() + " costs " + cell.getPrice());
+                player.purchase();
+                break;
+            case EventJournal.EVENT_HOUSE:
+                check(board.getCell(first) instanceof PropertyCell, board.getCell(first).getName() + " takes no houses");
+                PropertyCell property = (PropertyCell) board.getCell(first);
+                property.setNumHouses(property.getNumHouses() + second);
+                player.setMoney(player.getMoney() - property.getHousePrice() * second);
+                break;
+            case EventJournal.EVENT_TRADE:
+                check(player == master.getCurrentPlayer(), "trade out of turn");
+                deal.setPropertyName(board.getCell(first).getName());
+                deal.setAmount(second);
+                deal.setSellerIndex(journal.getOther());
+                master.completeTrade(deal);
+                break;
+            case EventJournal.EVENT_JAIL:
+                check(player.getPositionIndex() == first, "player on " + player.getPositionIndex());
+                master.sendToJail(player);
+                break;
+            case EventJournal.EVENT_BAIL:
+                check(first == board.getBail(), "bail is " + board.getBail());
+                player.getOutOfJail();
+                break;
+            case EventJournal.EVENT_TURN:
+                master.switchTurn();
+                check(master.getCurrentPlayer() == player, "turn passed to " + master.getCurrentPlayerIndex());
+                break;
+            default:
+                check(false, "unknown event");
+        }
+    }
+
+    private void check(final boolean condition, final String message) {
+        if (!condition) {
+            throw new IllegalStateException("Record " + next + " (event " + journal.getEvent() + " of player "
+                    + journal.getPlayer() + " in turn " + journal.getTurn() + ") does not fit the game: " + message);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package edu.ncsu.monopoly.sim;
+
+/**
+ * Outcome of one simulated game.
+ */
+public class GameResult {
+    /**
+     * Seed the game was played from.
+     */
+    private final long seed;
+
+    /**
+     * Seat of the player that won.
+     */
+    private final int winner;
+
+    /**
+     * Number of player turns played.
+     */
+    private final int turns;
+
+    /**
+     * Seat of the player that went bankrupt, -1 if the game hit the turn limit first.
+     */
+    private final int bankruptSeat;
+
+    /**
+     * Final net worth by seat: money plus the price of owned cells and houses.
+     */
+    private final int[] netWorth;
+
+    /**
+     * Constructor.
+     *
+     * @param seed         seed the game was played from
+     * @param winner       seat of the winning player
+     * @param turns        number of player turns played
+     * @param bankruptSeat seat of the bankrupt player, -1 if none
+     * @param netWorth     final net worth by seat
+     */
+    public GameResult(final long seed, final int winner, final int turns, final int bankruptSeat,
+                      final int[] netWorth) {
+        this.seed = seed;
+        this.winner = winner;
+        this.turns = turns;
+        this.bankruptSeat = bankruptSeat;
+        this.netWorth = netWorth;
+    }
+
+    /**
+     * Result won by the richest seat other than the bankrupt one.
+     *
+     * @param seed         seed the game was played from
+     * @param turns        number of player turns played
+     * @param bankruptSeat seat of the bankrupt player, -1 if none
+     * @param netWorth     final net worth by seat
+     * @return result of the game
+     */
+    static GameResult forNetWorth(final long seed, final int turns, final int bankruptSeat, final int[] netWorth) {
+        int winner = -1;
+        for (int i = 0; i < netWorth.length; i++) {
+            if (i != bankruptSeat && (winner < 0 || netWorth[i] > netWorth[winner])) {
+                winner = i;
+            }
+        }
+        return new GameResult(seed, winner, turns, bankruptSeat, netWorth);
+    }
+
+    /**
+     * Seed to play the game again from, see {@link Simulation#play(long)}.
+     *
+     * @return seed of the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Seat of the player that won, by bankrupting an opponent or by net worth when the turn limit is hit.
+     *
+     * @return winning seat
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Length of the game. When a player went bankrupt this is also the bankruptcy turn.
+     *
+     * @return number of player turns played
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Seat of the player that went bankrupt.
+     *
+     * @return bankrupt seat, -1 if the game hit the turn limit
+     */
+    public int getBankruptSeat() {
+        return bankruptSeat;
+    }
+
+    /**
+     * Did the game end on a bankruptcy?
+     *
+     * @return False if the game hit the turn limit
+     */
+    public boolean isBankruptcy() {
+        return bankruptSeat >= 0;
+    }
+
+    /**
+     * Final net worth of a seat.
+     *
+     * @param seat seat to report
+     * @return money plus the price of owned cells and houses
+     */
+    public int getNetWorth(final int seat) {
+        return netWorth[seat];
+    }
+
+    /**
+     * Number of seats played.
+     *
+     * @return number of players in the game
+     */
+    public int getNumberOfPlayers() {
+        return netWorth.length;
+    }
+}
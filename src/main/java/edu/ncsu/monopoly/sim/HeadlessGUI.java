@@ -0,0 +1,157 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.MonopolyGUI;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.RespondDialog;
+import edu.ncsu.monopoly.TradeDeal;
+import edu.ncsu.monopoly.TradeDialog;
+
+/**
+ * {@link MonopolyGUI} without any windows. Remembers which buttons {@link GameMaster} enabled for the current
+ * player so a driver can click them, rolls the game dice for utility bills and declines every trade.
+ */
+public class HeadlessGUI implements MonopolyGUI {
+    /**
+     * Trade dialog that never proposes a deal.
+     */
+    private static final TradeDialog NO_TRADE = new TradeDialog() {
+        public TradeDeal getTradeDeal() {
+            return null;
+        }
+    };
+
+    /**
+     * Respond dialog that always declines.
+     */
+    private static final RespondDialog DECLINE = new RespondDialog() {
+        public boolean getResponse() {
+            return false;
+        }
+    };
+
+    private boolean buyHouseEnabled;
+    private boolean drawCardEnabled;
+    private boolean endTurnEnabled;
+    private boolean getOutOfJailEnabled;
+    private boolean purchasePropertyEnabled;
+    private boolean rollDiceEnabled;
+
+    /**
+     * Game this GUI is attached to, used to roll the utility dice.
+     */
+    private final GameMaster gameMaster;
+
+    /**
+     * Constructor.
+     *
+     * @param gameMaster game whose dice are rolled for utility bills
+     */
+    public HeadlessGUI(final GameMaster gameMaster) {
+        this.gameMaster = gameMaster;
+    }
+
+    public void enableEndTurnBtn(int playerIndex) {
+        endTurnEnabled = true;
+    }
+
+    public void enablePlayerTurn(int playerIndex) {
+        rollDiceEnabled = true;
+    }
+
+    public void enablePurchaseBtn(int playerIndex) {
+        purchasePropertyEnabled = true;
+    }
+
+    /**
+     * Only called in test mode, which the headless engine does not use.
+     *
+     * @return a zero roll, which {@link GameMaster#btnRollDiceClicked()} ignores
+     */
+    public int[] getDiceRoll() {
+        return new int[]{0, 0};
+    }
+
+    public boolean isBuyHouseButtonEnabled() {
+        return buyHouseEnabled;
+    }
+
+    public boolean isDrawCardButtonEnabled() {
+        return drawCardEnabled;
+    }
+
+    public boolean isEndTurnButtonEnabled() {
+        return endTurnEnabled;
+    }
+
+    public boolean isGetOutOfJailButtonEnabled() {
+        return getOutOfJailEnabled;
+    }
+
+    public boolean isPurchasePropertyButtonEnabled() {
+        return purchasePropertyEnabled;
+    }
+
+    public boolean isRollDiceButtonEnabled() {
+        return rollDiceEnabled;
+    }
+
+    public boolean isTradeButtonEnabled(int i) {
+        return false;
+    }
+
+    public void movePlayer(int index, int from, int to) {
+    }
+
+    public RespondDialog openRespondDialog(TradeDeal deal) {
+        return DECLINE;
+    }
+
+    public TradeDialog openTradeDialog() {
+        return NO_TRADE;
+    }
+
+    public void setBuyHouseEnabled(boolean b) {
+        buyHouseEnabled = b;
+    }
+
+    public void setDrawCardEnabled(boolean b) {
+        drawCardEnabled = b;
+    }
+
+    public void setEndTurnEnabled(boolean enabled) {
+        endTurnEnabled = enabled;
+    }
+
+    public void setGetOutOfJailEnabled(boolean b) {
+        getOutOfJailEnabled = b;
+    }
+
+    public void setPurchasePropertyEnabled(boolean enabled) {
+        purchasePropertyEnabled = enabled;
+    }
+
+    public void setRollDiceEnabled(boolean b) {
+        rollDiceEnabled = b;
+    }
+
+    public void setTradeEnabled(int index, boolean b) {
+    }
+
+    public void showBuyHouseDialog(Player currentPlayer) {
+    }
+
+    public void showMessage(String string) {
+    }
+
+    public int showUtilDiceRoll() {
+        int[] roll = gameMaster.rollDice();
+        return roll[0] + roll[1];
+    }
+
+    public void startGame() {
+    }
+
+    public void update() {
+    }
+}
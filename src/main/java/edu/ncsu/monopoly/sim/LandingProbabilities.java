@@ -0,0 +1,287 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameBoard;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Long run probability of a player ending a turn on every cell of a board, computed from the Markov chain of the
+ * turn instead of by simulation. A turn rolls two dice, moves, follows {@link edu.ncsu.monopoly.GoToJailCell} and
+ * applies the card drawn on a card cell, every card of the deck being equally likely in the long run.
+ * <p>Results only depend on the structure of the board: which cells send players to jail or draw cards, the cards
+ * in each deck and the jail policy. They are cached on that structure and shared by every board that has it,
+ * whatever its names, prices and rents. The cache keeps the {@value #CACHE_SIZE} structures used last.</p>
+ */
+public final class LandingProbabilities {
+
+    /**
+     * What a player in jail does.
+     */
+    public enum JailPolicy {
+        /**
+         * Pay the bail at the start of the next turn and roll, as {@link SimulatedGame} does.
+         */
+        PAY,
+
+        /**
+         * Stay and try to roll doubles, for at most three turns; pay and move by the roll after the third failed
+         * attempt.
+         */
+        STAY
+    }
+
+    /**
+     * Largest change of the solution between two sweeps, summed over all states, at which it is final.
+     */
+    static final double TOLERANCE = 1e-12;
+
+    static final int MAX_SWEEPS = 100000;
+
+    /**
+     * Structures the cache keeps results of; a run of procedurally generated boards would grow it without end.
+     */
+    static final int CACHE_SIZE = 16;
+
+    /**
+     * Results by structure, least recently used first. Guarded by itself.
+     */
+    private static final Map<Structure, LandingProbabilities> CACHE =
+            new LinkedHashMap<Structure, LandingProbabilities>(CACHE_SIZE * 2, 0.75f, true) {
+                protected boolean removeEldestEntry(final Map.Entry<Structure, LandingProbabilities> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    /**
+     * Probability of every state of the {@link TransitionMatrix}.
+     */
+    private final double[] states;
+
+    /**
+     * Probability of every cell, including players in jail for the "Jail" cell.
+     */
+    private final double[] cells;
+    private final double inJail;
+    private final int sweeps;
+
+    private LandingProbabilities(final double[] states, final int cellCount, final int jailIndex, final int sweeps) {
+        this.states = states;
+        this.cells = Arrays.copyOf(states, cellCount);
+        double jailed = 0;
+        for (int j = cellCount; j < states.length; j++) {
+            jailed += states[j];
+        }
+        if (jailed > 0) {
+            cells[jailIndex] += jailed;
+        }
+        this.inJail = jailed;
+        this.sweeps = sweeps;
+    }
+
+    /**
+     * Landing probabilities of a board.
+     *
+     * @param board  board to analyse, its cards in any order
+     * @param policy what players in jail do
+     * @return probabilities, cached for every board of the same structure
+     * @throws IllegalArgumentException if the board holds a cell or card that cannot be compiled, or sends players
+     *                                  to a Jail it does not have
+     */
+    public static LandingProbabilities forBoard(final GameBoard board, final JailPolicy policy) {
+        return forBoard(new CompiledBoard(board), policy);
+    }
+
+    /**
+     * Landing probabilities of a compiled board.
+     *
+     * @param board  board to analyse
+     * @param policy what players in jail do
+     * @return probabilities, cached for every board of the same structure
+     * @throws IllegalArgumentException if the board sends players to a Jail it does not have
+     */
+    public static LandingProbabilities forBoard(final CompiledBoard board, final JailPolicy policy) {
+        Structure structure = new Structure(board, policy);
+        LandingProbabilities probabilities;
+        synchronized (CACHE) {
+            probabilities = CACHE.get(structure);
+        }
+        if (probabilities == null) {
+            // solved outside the lock, so one large board does not hold up the others
+            probabilities = solve(new TransitionMatrix(board, policy), board.getJailIndex());
+            synchronized (CACHE) {
+                LandingProbabilities cached = CACHE.get(structure);
+                if (cached != null) {
+                    probabilities = cached;
+                } else {
+                    CACHE.put(structure, probabilities);
+                }
+            }
+        }
+        return probabilities;
+    }
+
+    /**
+     * Drop every cached result.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    static int getCacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Stationary distribution of a matrix by Gauss-Seidel sweeps. Each sweep recomputes the states in board order
+     * from their predecessors, most of which are the cells just behind and already updated in the same sweep, so
+     * a change travels around the whole board in one sweep instead of twelve cells per iteration as with plain
+     * power iteration.
+     */
+    static LandingProbabilities solve(final TransitionMatrix matrix, final int jailIndex) {
+        int states = matrix.getStateCount();
+        double[] x = new double[states];
+        Arrays.fill(x, 1.0 / states);
+        int sweeps = 0;
+        double change;
+        do {
+            if (++sweeps > MAX_SWEEPS) {
+                throw new IllegalStateException("No steady state after " + MAX_SWEEPS + " sweeps");
+            }
+            change = 0;
+            double total = 0;
+            for (int j = 0; j < states; j++) {
+                double in = 0;
+                double stay = 0;
+                for (int k = matrix.getColumnStart(j), end = matrix.getColumnStart(j + 1); k < end; k++) {
+                    int i = matrix.getSource(k);
+                    if (i == j) {
+                        stay = matrix.getProbability(k);
+                    } else {
+                        in += x[i] * matrix.getProbability(k);
+                    }
+                }
+                double value = stay < 1 ? in / (1 - stay) : x[j];
+                change += Math.abs(value - x[j]);
+                x[j] = value;
+                total += value;
+            }
+            for (int j = 0; j < states; j++) {
+                x[j] /= total;
+            }
+        } while (change > TOLERANCE);
+
+        return new LandingProbabilities(x, matrix.getCellCount(), jailIndex, sweeps);
+    }
+
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Probability of ending a turn on a cell.
+     *
+     * @param cell board index
+     * @return long run fraction of turns ending on the cell; for the "Jail" cell, in jail or just visiting
+     */
+    public double getProbability(final int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * Probability of ending a turn in jail rather than just visiting. Players pay right away with
+     * {@link JailPolicy#PAY}, so they are never in jail at the end of a turn for this purpose: being sent there
+     * counts as landing on the "Jail" cell.
+     *
+     * @return long run fraction of turns ending in jail with {@link JailPolicy#STAY}, 0 with {@link JailPolicy#PAY}
+     */
+    public double getInJailProbability() {
+        return inJail;
+    }
+
+    /**
+     * Probability of a state of the {@link TransitionMatrix} the result was solved from.
+     *
+     * @param state cell index, or in jail state past the last cell
+     * @return long run fraction of turns ending in the state
+     */
+    double getStateProbability(final int state) {
+        return states[state];
+    }
+
+    /**
+     * Probabilities of all cells.
+     *
+     * @return copy of the probabilities by board index
+     */
+    public double[] toArray() {
+        return cells.clone();
+    }
+
+    /**
+     * Gauss-Seidel sweeps the solution took.
+     *
+     * @return number of sweeps
+     */
+    public int getSweeps() {
+        return sweeps;
+    }
+
+    /**
+     * Everything about a board the probabilities depend on: the cells that send players to jail or draw cards,
+     * the cards of each deck regardless of order, the jail and the policy.
+     */
+    private static final class Structure {
+        private final byte[] kinds;
+        private final long[][] decks;
+        private final int jailIndex;
+        private final JailPolicy policy;
+        private final int hash;
+
+        Structure(final CompiledBoard board, final JailPolicy policy) {
+            kinds = new byte[board.getCellCount()];
+            for (int i = 0; i < kinds.length; i++) {
+                byte kind = board.getKind(i);
+                if (kind == CompiledBoard.CELL_CHANCE || kind == CompiledBoard.CELL_COMMUNITY_CHEST
+                        || kind == CompiledBoard.CELL_GO_TO_JAIL) {
+                    kinds[i] = kind;
+                }
+            }
+            decks = new long[2][];
+            for (int deck = 0; deck < decks.length; deck++) {
+                decks[deck] = new long[board.getDeckSize(deck)];
+                for (int card = 0; card < decks[deck].length; card++) {
+                    byte kind = board.getCardKind(deck, card);
+                    int value = kind == CompiledBoard.CARD_MOVE ? board.getCardValue(deck, card) : 0;
+                    decks[deck][card] = (long) kind << 32 | value & 0xffffffffL;
+                }
+                Arrays.sort(decks[deck]);
+            }
+            jailIndex = board.getJailIndex();
+            this.policy = policy;
+            hash = 31 * (31 * (31 * Arrays.hashCode(kinds) + Arrays.deepHashCode(decks)) + jailIndex)
+                    + policy.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Structure)) {
+                return false;
+            }
+            Structure other = (Structure) o;
+            return hash == other.hash && jailIndex == other.jailIndex && policy == other.policy
+                    && Arrays.equals(kinds, other.kinds) && Arrays.deepEquals(decks, other.decks);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
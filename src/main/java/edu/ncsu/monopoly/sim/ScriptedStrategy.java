@@ -0,0 +1,43 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameView;
+
+/**
+ * The fixed script simulated games were first played with, and still are by default:
+ * <ul>
+ *  <li>pay bail as soon as the player is in jail</li>
+ *  <li>buy every cell that is offered</li>
+ *  <li>add one house per monopoly per turn while at least {@link SimulatedGame#CASH_RESERVE} stays in hand</li>
+ *  <li>never trade</li>
+ * </ul>
+ */
+public final class ScriptedStrategy implements Strategy {
+
+    public boolean payBail(final GameView game, final int player, final int turnsInJail) {
+        return true;
+    }
+
+    public boolean purchase(final GameView game, final int player, final int cell) {
+        return true;
+    }
+
+    public int buyHouses(final GameView game, final int player, final int group) {
+        CompiledBoard board = game.getBoard();
+        int cost = board.getGroupSize(group) * board.getHousePrice(board.getGroupCell(group, 0));
+        return game.getMoney(player) - cost >= SimulatedGame.CASH_RESERVE ? 1 : 0;
+    }
+
+    public int chooseTrade(final GameView game, final int player) {
+        return -1;
+    }
+
+    public int offer(final GameView game, final int player, final int cell) {
+        return -1;
+    }
+
+    public boolean acceptTrade(final GameView game, final int player, final int buyer, final int cell,
+                               final int amount) {
+        return false;
+    }
+}
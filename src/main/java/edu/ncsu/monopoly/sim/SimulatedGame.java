@@ -0,0 +1,232 @@
+package edu.ncsu.monopoly.sim;
+
+import java.util.Arrays;
+
+import edu.ncsu.monopoly.BufferedDie;
+import edu.ncsu.monopoly.Cell;
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.EngineMetrics;
+import edu.ncsu.monopoly.EventJournal;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameView;
+import edu.ncsu.monopoly.IOwnable;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.PropertyCell;
+import edu.ncsu.monopoly.SplitMix64;
+
+/**
+ * Plays one complete game through {@link GameMaster} without a GUI, clicking the buttons a human would every turn:
+ * <ul>
+ *  <li>pay bail when the player is in jail, or pass the turn</li>
+ *  <li>propose a trade</li>
+ *  <li>roll, and draw a card when landing on a card cell</li>
+ *  <li>buy the property landed on</li>
+ *  <li>add houses to monopolies</li>
+ * </ul>
+ * The {@link Strategy} of each seat makes the decisions, through the dialogs of a {@link BotGUI}; by default every
+ * seat plays the {@link ScriptedStrategy}. A player pays bail after {@link #MAX_JAIL_TURNS} turns in jail
+ * whatever its strategy says, as the engine has no other way out of jail.
+ * <p>The game ends on the first bankruptcy, since the engine does not take a bankrupt player out of the turn order.
+ * The richest remaining player wins; when the turn limit is hit first the richest player overall wins.</p>
+ * <p>Dice and decks come from the seed of the game, see {@link GameMaster#setSeed(long)}: a game played again
+ * with the same seed has the same outcome.</p>
+ */
+public class SimulatedGame implements Simulation {
+    /**
+     * Money kept in hand when buying houses.
+     */
+    static final int CASH_RESERVE = 200;
+
+    /**
+     * Turns a player may sit out in jail before paying bail.
+     */
+    static final int MAX_JAIL_TURNS = 3;
+
+    private static final Strategy SCRIPTED = new ScriptedStrategy();
+
+    private final BoardFactory boardFactory;
+    private final CompiledBoard board;
+    private final Strategy[] strategies;
+    private final int numberOfPlayers;
+    private final int maxTurns;
+
+    /**
+     * Metrics every game counts into, null for none.
+     */
+    private EngineMetrics metrics;
+
+    /**
+     * Source of the seeds of games played by {@link #play()}.
+     */
+    private final SplitMix64 seeds = new SplitMix64();
+
+    /**
+     * Constructor.
+     *
+     * @param boardFactory    source of a fresh board for every game
+     * @param numberOfPlayers seats at the table, between 2 and {@link GameMaster#MAX_PLAYER}
+     * @param maxTurns        player turns after which the game is stopped
+     */
+    public SimulatedGame(final BoardFactory boardFactory, final int numberOfPlayers, final int maxTurns) {
+        this(boardFactory, scripted(numberOfPlayers), maxTurns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param boardFactory source of a fresh board for every game
+     * @param strategies   strategy of every seat at the table, between 2 and {@link GameMaster#MAX_PLAYER}
+     * @param maxTurns     player turns after which the game is stopped
+     */
+    public SimulatedGame(final BoardFactory boardFactory, final Strategy[] strategies, final int maxTurns) {
+        if (strategies.length < 2 || strategies.length > GameMaster.MAX_PLAYER) {
+            throw new IllegalArgumentException("Number of players must be between 2 and " + GameMaster.MAX_PLAYER);
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive");
+        }
+        this.boardFactory = boardFactory;
+        this.board = new CompiledBoard(boardFactory.newGameBoard());
+        this.strategies = strategies.clone();
+        this.numberOfPlayers = strategies.length;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Count what the games played from now on do.
+     *
+     * @param metrics metrics to add to, may be shared with games on other threads; null to stop counting
+     */
+    public void setMetrics(final EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Every seat of a table playing the {@link ScriptedStrategy}.
+     *
+     * @param numberOfPlayers seats at the table
+     * @return strategy of every seat, empty for a negative number of seats
+     */
+    static Strategy[] scripted(final int numberOfPlayers) {
+        Strategy[] strategies = new Strategy[Math.max(0, numberOfPlayers)];
+        Arrays.fill(strategies, SCRIPTED);
+        return strategies;
+    }
+
+    /**
+     * Play a new game with a random seed to its end on the calling thread.
+     *
+     * @return outcome of the game
+     */
+    public GameResult play() {
+        return play(seeds.nextLong());
+    }
+
+    /**
+     * Play a new game to its end on the calling thread.
+     *
+     * @param seed seed of the game
+     * @return outcome of the game
+     */
+    public GameResult play(final long seed) {
+        return play(seed, null);
+    }
+
+    /**
+     * Play a new game to its end on the calling thread, journaling every event.
+     *
+     * @param seed    seed of the game
+     * @param journal journal to append the events of the game to, null for none
+     * @return outcome of the game
+     */
+    public GameResult play(final long seed, final EventJournal journal) {
+        GameMaster master = newGame(seed);
+        BotGUI gui = (BotGUI) master.getGUI();
+        GameView view = gui.getView();
+        int[] jailTurns = new int[numberOfPlayers];
+        master.setJournal(journal);
+        master.startGame();
+
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            int seat = master.getCurrentPlayerIndex();
+            Player player = master.getCurrentPlayer();
+            if (player.isInJail()) {
+                if (jailTurns[seat] < MAX_JAIL_TURNS && !strategies[seat].payBail(view, seat, jailTurns[seat])) {
+                    jailTurns[seat]++;
+                    master.switchTurn();
+                    continue;
+                }
+                jailTurns[seat] = 0;
+                master.btnGetOutOfJailClicked();
+                if (player.isBankrupt()) {
+                    return finish(master, seed, turn, master.getCurrentPlayerIndex());
+                }
+            }
+            master.btnTradeClicked();
+            master.btnRollDiceClicked();
+            if (gui.isDrawCardButtonEnabled()) {
+                master.btnDrawCardClicked();
+            }
+            if (gui.isPurchasePropertyButtonEnabled()
+                    && strategies[seat].purchase(view, seat, player.getPositionIndex())) {
+                master.btnPurchasePropertyClicked();
+            }
+            if (player.canBuyHouse()) {
+                master.btnBuyHouseClicked();
+            }
+            master.btnEndTurnClicked();
+            if (player.isBankrupt()) {
+                return finish(master, seed, turn, master.getCurrentPlayerIndex());
+            }
+        }
+        return finish(master, seed, maxTurns, -1);
+    }
+
+    /**
+     * A game as {@link #play(long)} sets it up, before the first turn: the state a {@link GameReplay} of a journal
+     * of the game starts from.
+     *
+     * @param seed seed of the game
+     * @return game with a board, seeded dice and decks, and named players
+     */
+    public GameMaster newGame(final long seed) {
+        GameMaster master = new GameMaster();
+        master.setGameBoard(boardFactory.newGameBoard());
+        master.setDice(new BufferedDie(), new BufferedDie());
+        master.setSeed(seed);
+        master.setMetrics(metrics);
+        master.setGUI(new BotGUI(master, new GameMasterView(master, board), strategies));
+        master.setNumberOfPlayers(numberOfPlayers);
+        for (int i = 0; i < numberOfPlayers; i++) {
+            master.getPlayer(i).setName("Player " + (i + 1));
+        }
+        return master;
+    }
+
+    private GameResult finish(final GameMaster master, final long seed, final int turns, final int bankruptSeat) {
+        int[] netWorth = new int[numberOfPlayers];
+        for (int i = 0; i < numberOfPlayers; i++) {
+            netWorth[i] = netWorth(master.getPlayer(i));
+        }
+        return GameResult.forNetWorth(seed, turns, bankruptSeat, netWorth);
+    }
+
+    /**
+     * Money plus purchase price of every owned cell and house.
+     *
+     * @param player player to value
+     * @return net worth of the player
+     */
+    static int netWorth(final Player player) {
+        int worth = player.getMoney();
+        IOwnable[] owned = player.getAllProperties();
+        for (int i = 0; i < owned.length; i++) {
+            worth += ((Cell) owned[i]).getPrice();
+            if (owned[i] instanceof PropertyCell) {
+                PropertyCell cell = (PropertyCell) owned[i];
+                worth += cell.getNumHouses() * cell.getHousePrice();
+            }
+        }
+        return worth;
+    }
+}
@@ -0,0 +1,17 @@
+package edu.ncsu.monopoly.sim;
+
+/**
+ * One seat of the table for the {@link SimulationRunner}: plays complete games, one after the other, on the
+ * calling thread.
+ */
+public interface Simulation {
+
+    /**
+     * Play a new game to its end. All randomness of the game comes from the seed, so playing the same seed again
+     * gives the same game.
+     *
+     * @param seed seed of the game
+     * @return outcome of the game
+     */
+    GameResult play(long seed);
+}
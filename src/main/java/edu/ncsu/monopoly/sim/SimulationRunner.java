@@ -0,0 +1,192 @@
+package edu.ncsu.monopoly.sim;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.EngineMetrics;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.Player;
+import edu.ncsu.monopoly.SplitMix64;
+
+/**
+ * Monte Carlo runner playing many {@link Simulation}s spread across a fixed pool of worker threads. Every
+ * worker plays its share of the games into its own {@link SimulationStats}, so workers never contend on shared
+ * state; the results are merged once all workers finish.
+ * <p>Game number <code>i</code> of a run is played from seed {@link SplitMix64#stream(long, long)} of the master
+ * seed and <code>i</code>, whichever thread plays it. A run is therefore reproduced exactly by the same master
+ * seed, with any number of threads, and any single game by the seed in its {@link GameResult}.</p>
+ */
+public class SimulationRunner {
+    private final Engine engine;
+    private final BoardFactory boardFactory;
+    private final int numberOfPlayers;
+    private final int maxTurns;
+    private final int threads;
+    private final long seed;
+
+    /**
+     * Metrics the games count into, null for none.
+     */
+    private EngineMetrics metrics;
+
+    /**
+     * Constructor for games played through {@link Engine#GAME_MASTER}.
+     *
+     * @param boardFactory    source of a fresh board for every game
+     * @param numberOfPlayers seats at the table
+     * @param maxTurns        player turns after which a game is stopped
+     * @param threads         worker threads to spread the games over
+     */
+    public SimulationRunner(final BoardFactory boardFactory, final int numberOfPlayers, final int maxTurns,
+                            final int threads) {
+        this(Engine.GAME_MASTER, boardFactory, numberOfPlayers, maxTurns, threads);
+    }
+
+    /**
+     * Constructor for a run with a random master seed.
+     *
+     * @param engine          rules implementation to play the games with
+     * @param boardFactory    source of a fresh board for every game
+     * @param numberOfPlayers seats at the table
+     * @param maxTurns        player turns after which a game is stopped
+     * @param threads         worker threads to spread the games over
+     */
+    public SimulationRunner(final Engine engine, final BoardFactory boardFactory, final int numberOfPlayers,
+                            final int maxTurns, final int threads) {
+        this(engine, boardFactory, numberOfPlayers, maxTurns, threads, new SplitMix64().nextLong());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param engine          rules implementation to play the games with
+     * @param boardFactory    source of a fresh board for every game
+     * @param numberOfPlayers seats at the table
+     * @param maxTurns        player turns after which a game is stopped
+     * @param threads         worker threads to spread the games over
+     * @param seed            master seed every game seed is derived from
+     */
+    public SimulationRunner(final Engine engine, final BoardFactory boardFactory, final int numberOfPlayers,
+                            final int maxTurns, final int threads, final long seed) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.engine = engine;
+        this.boardFactory = boardFactory;
+        this.numberOfPlayers = numberOfPlayers;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Master seed of this runner, to repeat a run.
+     *
+     * @return seed every game seed is derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Count what the games of the following runs do. Only games played through {@link Engine#GAME_MASTER} are
+     * counted, as the metrics are those of {@link GameMaster} and {@link Player}.
+     *
+     * @param metrics metrics to add to, null to stop counting
+     */
+    public void setMetrics(final EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Play the requested number of games and wait for all of them to finish.
+     *
+     * @param games number of games to play
+     * @return merged results, including the wall clock time taken
+     */
+    public SimulationStats run(final long games) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<SimulationStats>> futures = new ArrayList<Future<SimulationStats>>();
+            long first = 0;
+            for (int i = 0; i < threads; i++) {
+                long share = games / threads + (i < games % threads ? 1 : 0);
+                futures.add(pool.submit(worker(first, share)));
+                first += share;
+            }
+            SimulationStats stats = new SimulationStats(numberOfPlayers);
+            for (Future<SimulationStats> future : futures) {
+                stats.merge(future.get());
+            }
+            stats.setElapsedNanos(System.nanoTime() - start);
+            return stats;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Worker playing a consecutive range of the games of a run.
+     */
+    private Callable<SimulationStats> worker(final long first, final long games) {
+        return new Callable<SimulationStats>() {
+            public SimulationStats call() {
+                Simulation game = engine.newSimulation(boardFactory, numberOfPlayers, maxTurns);
+                if (game instanceof SimulatedGame) {
+                    ((SimulatedGame) game).setMetrics(metrics);
+                }
+                SimulationStats stats = new SimulationStats(numberOfPlayers);
+                for (long i = first; i < first + games; i++) {
+                    stats.add(game.play(SplitMix64.stream(seed, i)));
+                }
+                return stats;
+            }
+        };
+    }
+
+    /**
+     * Command line entry point. Arguments, all optional and positional:
+     * number of games (100000), number of players (2), worker threads (all cores),
+     * turn limit (1000), board name or definition file, see {@link BoardDefinition#find(String)} (GameBoardFull),
+     * {@link Engine} name (GAME_MASTER), master seed (random) and a file to export the {@link EngineMetrics} of
+     * the run to in the Prometheus text format (none).
+     *
+     * @param args command line arguments
+     * @throws IOException if the board definition file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int maxTurns = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        BoardDefinition board = BoardDefinition.find(args.length > 4 ? args[4] : "GameBoardFull");
+        Engine engine = args.length > 5 ? Engine.valueOf(args[5]) : Engine.GAME_MASTER;
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : new SplitMix64().nextLong();
+        File metricsFile = args.length > 7 ? new File(args[7]) : null;
+
+        SimulationRunner runner = new SimulationRunner(engine, BoardFactory.forDefinition(board), players, maxTurns,
+                threads, seed);
+        EngineMetrics metrics = metricsFile != null ? new EngineMetrics() : null;
+        runner.setMetrics(metrics);
+        System.out.println(board.getName() + ", " + players + " players, " + threads + " threads, "
+                + engine + ", seed " + seed);
+        System.out.print(runner.run(games).report());
+        if (metrics != null) {
+            metrics.export(metricsFile);
+        }
+    }
+}
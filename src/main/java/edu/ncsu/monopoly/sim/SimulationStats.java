@@ -0,0 +1,157 @@
+package edu.ncsu.monopoly.sim;
+
+/**
+ * Aggregate of many {@link GameResult}s. Not thread safe: every worker fills its own instance and the instances
+ * are combined with {@link #merge(SimulationStats)} once the workers are done.
+ */
+public class SimulationStats {
+    private final int numberOfPlayers;
+
+    /**
+     * Games won by seat.
+     */
+    private final long[] wins;
+
+    private long games;
+    private long totalTurns;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+
+    /**
+     * Games ended by a bankruptcy, and the sum of their bankruptcy turns.
+     */
+    private long bankruptcies;
+    private long totalBankruptcyTurns;
+
+    /**
+     * Wall clock time spent producing the games, set by the runner.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfPlayers seats per game
+     */
+    public SimulationStats(final int numberOfPlayers) {
+        this.numberOfPlayers = numberOfPlayers;
+        this.wins = new long[numberOfPlayers];
+    }
+
+    /**
+     * Record the outcome of one game.
+     *
+     * @param result finished game
+     */
+    public void add(final GameResult result) {
+        games++;
+        wins[result.getWinner()]++;
+        int turns = result.getTurns();
+        totalTurns += turns;
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+        if (result.isBankruptcy()) {
+            bankruptcies++;
+            totalBankruptcyTurns += turns;
+        }
+    }
+
+    /**
+     * Fold the results of another worker into this one.
+     *
+     * @param other results to add
+     */
+    public void merge(final SimulationStats other) {
+        if (other.numberOfPlayers != numberOfPlayers) {
+            throw new IllegalArgumentException("Cannot merge results for a different number of players");
+        }
+        games += other.games;
+        for (int i = 0; i < numberOfPlayers; i++) {
+            wins[i] += other.wins[i];
+        }
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        bankruptcies += other.bankruptcies;
+        totalBankruptcyTurns += other.totalBankruptcyTurns;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(final int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Fraction of the games won by a seat.
+     *
+     * @param seat seat to report
+     * @return win rate between 0 and 1
+     */
+    public double getWinRate(final int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public long getBankruptcies() {
+        return bankruptcies;
+    }
+
+    /**
+     * Average turn on which a player went bankrupt, over the games that ended on a bankruptcy.
+     *
+     * @return average bankruptcy turn, 0 if no game ended on a bankruptcy
+     */
+    public double getAverageBankruptcyTurn() {
+        return bankruptcies == 0 ? 0 : (double) totalBankruptcyTurns / bankruptcies;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Throughput of the run that produced these results.
+     *
+     * @return games finished per second of wall clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Human readable report.
+     *
+     * @return multi line summary of throughput and outcomes
+     */
+    public String report() {
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("games: %d in %.3f s (%.0f games/s)%n",
+                games, elapsedNanos / 1e9, getGamesPerSecond()));
+        for (int i = 0; i < numberOfPlayers; i++) {
+            buf.append(String.format("seat %d win rate: %.4f%n", i + 1, getWinRate(i)));
+        }
+        buf.append(String.format("game length: avg %.1f, min %d, max %d turns%n",
+                getAverageTurns(), getMinTurns(), getMaxTurns()));
+        buf.append(String.format("bankruptcies: %d (%.4f of games), avg bankruptcy turn %.1f%n",
+                bankruptcies, games == 0 ? 0 : (double) bankruptcies / games, getAverageBankruptcyTurn()));
+        return buf.toString();
+    }
+}
@@ -0,0 +1,168 @@
+package edu.ncsu.monopoly.sim;
+
+import java.util.Arrays;
+
+import edu.ncsu.monopoly.BufferedDie;
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.Die;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.SplitMix64;
+
+/**
+ * Plays the turns of {@link SimulatedGame} on a {@link GameState} instead of a {@link GameMaster}, asking the
+ * {@link Strategy} of each seat the same decisions in the same order. The state is reset rather than rebuilt for
+ * every game, so after construction a game allocates nothing but its {@link GameResult}, as long as the strategies
+ * allocate nothing either.
+ * <p>Dice and decks are seeded exactly as {@link GameMaster#setSeed(long)} seeds them, so a game has the same
+ * outcome here as in {@link SimulatedGame} with the same seed.</p>
+ */
+public class StateSimulatedGame implements Simulation {
+    /**
+     * Money every player starts with, as in {@link GameMaster}.
+     */
+    static final int INITIAL_MONEY = 1500;
+
+    private final GameState state;
+    private final Strategy[] strategies;
+    private final int maxTurns;
+
+    /**
+     * Turns every player has sat out in jail.
+     */
+    private final int[] jailTurns;
+    private final Die first = new BufferedDie();
+    private final Die second = new BufferedDie();
+
+    /**
+     * Source of the seeds of games played by {@link #play()}.
+     */
+    private final SplitMix64 seeds = new SplitMix64();
+
+    /**
+     * Constructor.
+     *
+     * @param board           board to play on, may be shared with other threads
+     * @param numberOfPlayers seats at the table, between 2 and {@link GameMaster#MAX_PLAYER}
+     * @param maxTurns        player turns after which the game is stopped
+     */
+    public StateSimulatedGame(final CompiledBoard board, final int numberOfPlayers, final int maxTurns) {
+        this(board, SimulatedGame.scripted(numberOfPlayers), maxTurns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param board      board to play on, may be shared with other threads
+     * @param strategies strategy of every seat at the table, between 2 and {@link GameMaster#MAX_PLAYER}
+     * @param maxTurns   player turns after which the game is stopped
+     */
+    public StateSimulatedGame(final CompiledBoard board, final Strategy[] strategies, final int maxTurns) {
+        if (strategies.length < 2 || strategies.length > GameMaster.MAX_PLAYER) {
+            throw new IllegalArgumentException("Number of players must be between 2 and " + GameMaster.MAX_PLAYER);
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive");
+        }
+        this.state = new GameState(board, strategies.length, INITIAL_MONEY);
+        this.strategies = strategies.clone();
+        this.jailTurns = new int[strategies.length];
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Play a new game with a random seed to its end on the calling thread.
+     *
+     * @return outcome of the game
+     */
+    public GameResult play() {
+        return play(seeds.nextLong());
+    }
+
+    /**
+     * Play a new game to its end on the calling thread.
+     *
+     * @param seed seed of the game
+     * @return outcome of the game
+     */
+    public GameResult play(final long seed) {
+        state.reset();
+        first.setSeed(SplitMix64.stream(seed, GameMaster.SEED_STREAM_FIRST_DIE));
+        second.setSeed(SplitMix64.stream(seed, GameMaster.SEED_STREAM_SECOND_DIE));
+        state.shuffleCards(SplitMix64.stream(seed, GameMaster.SEED_STREAM_CARDS));
+        Arrays.fill(jailTurns, 0);
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            int player = state.getTurn();
+            Strategy strategy = strategies[player];
+            if (state.isInJail(player)) {
+                if (jailTurns[player] < SimulatedGame.MAX_JAIL_TURNS
+                        && !strategy.payBail(state, player, jailTurns[player])) {
+                    jailTurns[player]++;
+                    state.switchTurn();
+                    continue;
+                }
+                jailTurns[player] = 0;
+                state.getOutOfJail(player);
+                if (state.isBankrupt(player)) {
+                    return finish(seed, turn, player);
+                }
+            }
+            trade(player);
+            state.move(player, first.getRoll() + second.getRoll());
+            if (state.canDrawCard(player)) {
+                state.drawCard(player);
+            }
+            if (state.canPurchase(player) && strategy.purchase(state, player, state.getPosition(player))) {
+                state.purchase(player);
+            }
+            buyHouses(player);
+            state.playAction(player, first, second);
+            if (state.isBankrupt(player)) {
+                return finish(seed, turn, player);
+            }
+            state.switchTurn();
+        }
+        return finish(seed, maxTurns, -1);
+    }
+
+    GameState getState() {
+        return state;
+    }
+
+    /**
+     * Offer the trade the strategy of the player chooses to the owner of the cell, see {@link BotGUI}.
+     */
+    private void trade(final int buyer) {
+        int cell = strategies[buyer].chooseTrade(state, buyer);
+        if (cell < 0) {
+            return;
+        }
+        int seller = state.getOwner(cell);
+        if (seller == GameState.BANK || seller == buyer) {
+            return;
+        }
+        int amount = strategies[buyer].offer(state, buyer, cell);
+        if (amount >= 0 && strategies[seller].acceptTrade(state, seller, buyer, cell, amount)) {
+            state.trade(buyer, seller, cell, amount);
+        }
+    }
+
+    private void buyHouses(final int player) {
+        for (int group = 0; group < state.getBoard().getGroupCount(); group++) {
+            if (state.isMonopoly(player, group)) {
+                int houses = strategies[player].buyHouses(state, player, group);
+                if (houses > 0) {
+                    state.purchaseHouse(player, group, houses);
+                }
+            }
+        }
+    }
+
+    private GameResult finish(final long seed, final int turns, final int bankruptSeat) {
+        int[] netWorth = new int[state.getNumberOfPlayers()];
+        for (int i = 0; i < netWorth.length; i++) {
+            netWorth[i] = state.getNetWorth(i);
+        }
+        return GameResult.forNetWorth(seed, turns, bankruptSeat, netWorth);
+    }
+}
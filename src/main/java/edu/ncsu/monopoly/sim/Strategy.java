@@ -0,0 +1,78 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.GameView;
+
+/**
+ * Decisions of a bot player, asked by {@link SimulatedGame} and {@link StateSimulatedGame} wherever the GUI asks a
+ * human: paying bail, buying the cell landed on, adding houses, and proposing or answering a trade. Dice, cards and
+ * rents, including the roll for a utility bill, are left to the game.
+ * <p>The game is read through a {@link GameView} and every answer is a primitive, so a decision allocates nothing.
+ * The same strategy may play several seats; one without state of its own may also be shared across threads.</p>
+ */
+public interface Strategy {
+
+    /**
+     * Pay bail at the start of a turn in jail, or sit the turn out. Bail is paid without asking after
+     * {@link SimulatedGame#MAX_JAIL_TURNS} turns in jail.
+     *
+     * @param game        game being played
+     * @param player      seat in jail
+     * @param turnsInJail turns the player already sat out in jail
+     * @return true to pay bail and play the turn, false to pass it
+     */
+    boolean payBail(GameView game, int player, int turnsInJail);
+
+    /**
+     * Buy the cell the player landed on from the bank.
+     *
+     * @param game   game being played
+     * @param player seat buying
+     * @param cell   board index of a cell the bank holds
+     * @return true to buy it for its price
+     */
+    boolean purchase(GameView game, int player, int cell);
+
+    /**
+     * Houses to add to each property of a monopoly, asked once per monopoly every turn. The game adds none if the
+     * player cannot pay for all of them, and skips properties that would exceed
+     * {@link edu.ncsu.monopoly.Player#MAX_MONOPOLY_HOUSES}.
+     *
+     * @param game   game being played
+     * @param player seat buying
+     * @param group  color group index of a monopoly of the player
+     * @return houses per property, 0 for none
+     */
+    int buyHouses(GameView game, int player, int group);
+
+    /**
+     * Cell to offer to buy from another player at the start of a turn.
+     *
+     * @param game   game being played
+     * @param player seat buying
+     * @return board index of a cell owned by another player, -1 to trade nothing
+     */
+    int chooseTrade(GameView game, int player);
+
+    /**
+     * Price to offer for the cell just chosen by {@link #chooseTrade(GameView, int)}.
+     *
+     * @param game   game being played
+     * @param player seat buying
+     * @param cell   board index
+     * @return amount offered, negative to call the trade off
+     */
+    int offer(GameView game, int player, int cell);
+
+    /**
+     * Answer an offer for a cell of the player.
+     *
+     * @param game   game being played
+     * @param player seat selling
+     * @param buyer  seat buying, never {@link GameState#BANK}
+     * @param cell   board index of a cell of the player
+     * @param amount amount offered
+     * @return true to sell
+     */
+    boolean acceptTrade(GameView game, int player, int buyer, int cell, int amount);
+}
@@ -0,0 +1,263 @@
+package edu.ncsu.monopoly.sim;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import edu.ncsu.monopoly.BoardDefinition;
+import edu.ncsu.monopoly.SplitMix64;
+
+/**
+ * Ranks strategies by playing them against each other in matches of many two player games, either every entrant
+ * against every other, see {@link #roundRobin(long)}, or in Swiss rounds, see {@link #swiss(int, long)}.
+ * <p>The games of a round are spread over a {@link ForkJoinPool}: every match is split into ranges of games until
+ * a range is small enough to play on one thread, idle threads steal ranges from busy ones, and the results of the
+ * ranges are merged as their tasks join, so no result is ever shared between threads. A strategy is shared by every
+ * game it plays and must therefore be thread safe, as the reference strategies are.</p>
+ * <p>Game <code>i</code> of a match is played from seed <code>i / 2</code> of the match, with the entrants trading
+ * seats between the two games of a seed so that neither gets the better dice or the first move; the seed of a
+ * match comes from the master seed, the round and the two entrants. Every result is an integer sum, so a
+ * tournament is reproduced exactly by the same master seed with any number of threads.</p>
+ */
+public class Tournament {
+    /**
+     * Games played by a task without splitting it further.
+     */
+    static final int LEAF_GAMES = 256;
+
+    private final Engine engine;
+    private final BoardFactory boardFactory;
+    private final int maxTurns;
+    private final int threads;
+    private final long seed;
+
+    private final List<String> names = new ArrayList<String>();
+    private final List<Strategy> strategies = new ArrayList<Strategy>();
+
+    /**
+     * Constructor.
+     *
+     * @param engine       rules implementation to play the games with
+     * @param boardFactory source of the board of every game
+     * @param maxTurns     player turns after which a game is stopped
+     * @param threads      worker threads to spread the games over
+     * @param seed         master seed every game seed is derived from
+     */
+    public Tournament(final Engine engine, final BoardFactory boardFactory, final int maxTurns, final int threads,
+                      final long seed) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive");
+        }
+        this.engine = engine;
+        this.boardFactory = boardFactory;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Enter a strategy.
+     *
+     * @param name     name to report the strategy by
+     * @param strategy thread safe strategy
+     */
+    public void addEntrant(final String name, final Strategy strategy) {
+        names.add(name);
+        strategies.add(strategy);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Play a match between every two entrants.
+     *
+     * @param gamesPerMatch games of every match
+     * @return standings
+     */
+    public TournamentResult roundRobin(final long gamesPerMatch) {
+        int entrants = checkEntrants(gamesPerMatch);
+        List<int[]> pairs = new ArrayList<int[]>();
+        for (int first = 0; first < entrants; first++) {
+            for (int second = first + 1; second < entrants; second++) {
+                pairs.add(new int[]{first, second});
+            }
+        }
+        TournamentResult result = new TournamentResult(names.toArray(new String[entrants]));
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            playRound(pool, result, 0, pairs, gamesPerMatch);
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Play Swiss rounds: every round pairs entrants in the order of the standings so far, each with the best placed
+     * entrant left that it has not met yet, or with the best placed left at all once it has met everyone. With an
+     * odd number of entrants the last one left sits the round out and scores a won match.
+     *
+     * @param rounds        number of rounds
+     * @param gamesPerMatch games of every match
+     * @return standings
+     */
+    public TournamentResult swiss(final int rounds, final long gamesPerMatch) {
+        int entrants = checkEntrants(gamesPerMatch);
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Number of rounds must be positive");
+        }
+        TournamentResult result = new TournamentResult(names.toArray(new String[entrants]));
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                int[] ranking = result.getRanking();
+                boolean[] paired = new boolean[entrants];
+                List<int[]> pairs = new ArrayList<int[]>();
+                for (int i = 0; i < ranking.length; i++) {
+                    int first = ranking[i];
+                    if (paired[first]) {
+                        continue;
+                    }
+                    int second = -1;
+                    for (int j = i + 1; j < ranking.length && (second < 0 || result.hasMet(first, second)); j++) {
+                        if (!paired[ranking[j]] && (second < 0 || !result.hasMet(first, ranking[j]))) {
+                            second = ranking[j];
+                        }
+                    }
+                    paired[first] = true;
+                    if (second < 0) {
+                        result.addBye(first);
+                    } else {
+                        paired[second] = true;
+                        pairs.add(new int[]{first, second});
+                    }
+                }
+                playRound(pool, result, round, pairs, gamesPerMatch);
+            }
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int checkEntrants(final long gamesPerMatch) {
+        if (names.size() < 2) {
+            throw new IllegalStateException("A tournament needs at least 2 entrants");
+        }
+        if (gamesPerMatch <= 0) {
+            throw new IllegalArgumentException("Games per match must be positive");
+        }
+        return names.size();
+    }
+
+    /**
+     * Play the matches of a round at once and add them to the standings in order.
+     */
+    private void playRound(final ForkJoinPool pool, final TournamentResult result, final int round,
+                           final List<int[]> pairs, final long gamesPerMatch) {
+        long roundSeed = SplitMix64.stream(seed, round);
+        List<ForkJoinTask<EntrantStats[]>> matches = new ArrayList<ForkJoinTask<EntrantStats[]>>();
+        for (int[] pair : pairs) {
+            long matchSeed = SplitMix64.stream(roundSeed, pair[0] * (long) names.size() + pair[1]);
+            matches.add(pool.submit(new Games(strategies.get(pair[0]), strategies.get(pair[1]), matchSeed, 0,
+                    gamesPerMatch)));
+        }
+        for (int i = 0; i < pairs.size(); i++) {
+            result.addMatch(pairs.get(i)[0], pairs.get(i)[1], matches.get(i).join());
+        }
+    }
+
+    /**
+     * Range of the games of a match, played or split in two.
+     */
+    private final class Games extends RecursiveTask<EntrantStats[]> {
+        private final Strategy first;
+        private final Strategy second;
+        private final long matchSeed;
+        private final long from;
+        private final long to;
+
+        Games(final Strategy first, final Strategy second, final long matchSeed, final long from, final long to) {
+            this.first = first;
+            this.second = second;
+            this.matchSeed = matchSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected EntrantStats[] compute() {
+            if (to - from > LEAF_GAMES) {
+                long middle = from + (to - from) / 2;
+                Games left = new Games(first, second, matchSeed, from, middle);
+                left.fork();
+                EntrantStats[] stats = new Games(first, second, matchSeed, middle, to).compute();
+                EntrantStats[] leftStats = left.join();
+                stats[0].merge(leftStats[0]);
+                stats[1].merge(leftStats[1]);
+                return stats;
+            }
+            Simulation home = engine.newSimulation(boardFactory, new Strategy[]{first, second}, maxTurns);
+            Simulation away = engine.newSimulation(boardFactory, new Strategy[]{second, first}, maxTurns);
+            EntrantStats[] stats = {new EntrantStats(), new EntrantStats()};
+            for (long i = from; i < to; i++) {
+                long gameSeed = SplitMix64.stream(matchSeed, i / 2);
+                int seat = (int) (i % 2);
+                GameResult result = (seat == 0 ? home : away).play(gameSeed);
+                stats[0].add(result.getWinner() == seat, result.getNetWorth(seat));
+                stats[1].add(result.getWinner() == 1 - seat, result.getNetWorth(1 - seat));
+            }
+            return stats;
+        }
+    }
+
+    /**
+     * Command line entry point, entering the reference strategies. Arguments, all optional and positional:
+     * pairing, <code>round-robin</code> or <code>swiss</code> (round-robin), games per match (100000),
+     * Swiss rounds (3), worker threads (all cores), turn limit (1000), board name or definition file, see
+     * {@link BoardDefinition#find(String)} (GameBoardFull), {@link Engine} name (GAME_MASTER) and master seed
+     * (random).
+     *
+     * @param args command line arguments
+     * @throws IOException if the board definition file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        String pairing = args.length > 0 ? args[0] : "round-robin";
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 100000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int maxTurns = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+        BoardDefinition board = BoardDefinition.find(args.length > 5 ? args[5] : "GameBoardFull");
+        Engine engine = args.length > 6 ? Engine.valueOf(args[6]) : Engine.GAME_MASTER;
+        long seed = args.length > 7 ? Long.parseLong(args[7]) : new SplitMix64().nextLong();
+
+        Tournament tournament = new Tournament(engine, BoardFactory.forDefinition(board), maxTurns, threads, seed);
+        tournament.addEntrant("scripted", new ScriptedStrategy());
+        tournament.addEntrant("cautious-100", new CautiousStrategy(100));
+        tournament.addEntrant("cautious-300", new CautiousStrategy(300));
+        tournament.addEntrant("trader-200", new TraderStrategy(200));
+        tournament.addEntrant("trader-500", new TraderStrategy(500));
+        System.out.println(board.getName() + ", " + pairing + ", " + games + " games per match, " + threads
+                + " threads, " + engine + ", seed " + seed);
+        TournamentResult result;
+        if (pairing.equals("swiss")) {
+            result = tournament.swiss(rounds, games);
+        } else if (pairing.equals("round-robin")) {
+            result = tournament.roundRobin(games);
+        } else {
+            throw new IllegalArgumentException("Unknown pairing " + pairing + ", use round-robin or swiss");
+        }
+        System.out.print(result.report());
+    }
+}
@@ -0,0 +1,146 @@
+package edu.ncsu.monopoly.sim;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Standings of a {@link Tournament}: the results of every entrant and of every pair of entrants that met.
+ */
+public class TournamentResult {
+    private final String[] names;
+    private final EntrantStats[] stats;
+
+    /**
+     * Games won by the entrant of the row against the entrant of the column.
+     */
+    private final long[][] headToHead;
+
+    private final boolean[][] met;
+
+    private long elapsedNanos;
+
+    TournamentResult(final String[] names) {
+        this.names = names;
+        this.stats = new EntrantStats[names.length];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new EntrantStats();
+        }
+        this.headToHead = new long[names.length][names.length];
+        this.met = new boolean[names.length][names.length];
+    }
+
+    /**
+     * Add a finished match.
+     *
+     * @param first  entrant
+     * @param second entrant
+     * @param games  results of the first and the second entrant
+     */
+    void addMatch(final int first, final int second, final EntrantStats[] games) {
+        stats[first].merge(games[0]);
+        stats[second].merge(games[1]);
+        headToHead[first][second] += games[0].getWins();
+        headToHead[second][first] += games[1].getWins();
+        met[first][second] = true;
+        met[second][first] = true;
+        long difference = games[0].getWins() - games[1].getWins();
+        stats[first].addMatch(difference > 0 ? 2 : difference == 0 ? 1 : 0);
+        stats[second].addMatch(difference < 0 ? 2 : difference == 0 ? 1 : 0);
+    }
+
+    /**
+     * A round without an opponent counts as a won match without games.
+     *
+     * @param entrant entrant left over
+     */
+    void addBye(final int entrant) {
+        stats[entrant].addMatch(2);
+    }
+
+    boolean hasMet(final int first, final int second) {
+        return met[first][second];
+    }
+
+    public int getEntrantCount() {
+        return names.length;
+    }
+
+    public String getName(final int entrant) {
+        return names[entrant];
+    }
+
+    public EntrantStats getStats(final int entrant) {
+        return stats[entrant];
+    }
+
+    /**
+     * Games an entrant won against another.
+     *
+     * @param entrant  entrant to report
+     * @param opponent other entrant
+     * @return games won by the entrant in the matches between both
+     */
+    public long getWins(final int entrant, final int opponent) {
+        return headToHead[entrant][opponent];
+    }
+
+    /**
+     * Entrants by match points, then by win rate, then in the order they entered.
+     *
+     * @return entrant indexes, best first
+     */
+    public int[] getRanking() {
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer a, Integer b) {
+                EntrantStats first = stats[a];
+                EntrantStats second = stats[b];
+                if (first.getHalfPoints() != second.getHalfPoints()) {
+                    return second.getHalfPoints() - first.getHalfPoints();
+                }
+                return Double.compare(second.getWinRate(), first.getWinRate());
+            }
+        });
+        int[] ranking = new int[order.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = order[i];
+        }
+        return ranking;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Human readable report.
+     *
+     * @return standings with 95% confidence intervals, one line per entrant
+     */
+    public String report() {
+        long games = 0;
+        for (int i = 0; i < stats.length; i++) {
+            games += stats[i].getGames();
+        }
+        games /= 2;
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("games: %d in %.3f s (%.0f games/s)%n", games, elapsedNanos / 1e9,
+                elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos));
+        int[] ranking = getRanking();
+        for (int rank = 0; rank < ranking.length; rank++) {
+            EntrantStats entrant = stats[ranking[rank]];
+            buf.append(String.format("%2d. %-16s %5.1f points, win rate %.4f [%.4f, %.4f], net worth %.0f +- %.0f%n",
+                    rank + 1, names[ranking[rank]], entrant.getPoints(), entrant.getWinRate(),
+                    entrant.getWinRateLow(), entrant.getWinRateHigh(), entrant.getAverageNetWorth(),
+                    entrant.getNetWorthMargin()));
+        }
+        return buf.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.GameView;
+import edu.ncsu.monopoly.Player;
+
+/**
+ * Plays for monopolies:
+ * <ul>
+ *  <li>pay bail as soon as the player is in jail</li>
+ *  <li>buy every cell the player can pay for</li>
+ *  <li>offer {@link #PREMIUM} times its price for the last property of a color group the player owns all other
+ *  properties of, and sell any cell for as much</li>
+ *  <li>add as many houses as the player can pay for while a cash reserve stays in hand</li>
+ * </ul>
+ */
+public final class TraderStrategy implements Strategy {
+    /**
+     * Price of a traded cell, as a multiple of its purchase price.
+     */
+    static final int PREMIUM = 2;
+
+    private final int reserve;
+
+    /**
+     * Constructor.
+     *
+     * @param reserve money kept in hand when buying houses or cells from other players
+     */
+    public TraderStrategy(final int reserve) {
+        if (reserve < 0) {
+            throw new IllegalArgumentException("Cash reserve must not be negative");
+        }
+        this.reserve = reserve;
+    }
+
+    public boolean payBail(final GameView game, final int player, final int turnsInJail) {
+        return true;
+    }
+
+    public boolean purchase(final GameView game, final int player, final int cell) {
+        return game.getMoney(player) > game.getBoard().getPrice(cell);
+    }
+
+    public int buyHouses(final GameView game, final int player, final int group) {
+        CompiledBoard board = game.getBoard();
+        int first = board.getGroupCell(group, 0);
+        int houses = (game.getMoney(player) - reserve) / (board.getGroupSize(group) * board.getHousePrice(first));
+        return Math.max(0, Math.min(houses, Player.MAX_MONOPOLY_HOUSES - game.getHouses(first)));
+    }
+
+    public int chooseTrade(final GameView game, final int player) {
+        CompiledBoard board = game.getBoard();
+        for (int group = 0; group < board.getGroupCount(); group++) {
+            int missing = -1;
+            int owned = 0;
+            for (int i = 0; i < board.getGroupSize(group); i++) {
+                int cell = board.getGroupCell(group, i);
+                if (game.getOwner(cell) == player) {
+                    owned++;
+                } else {
+                    missing = cell;
+                }
+            }
+            if (owned == board.getGroupSize(group) - 1 && game.getOwner(missing) != GameState.BANK
+                    && game.getHouses(missing) == 0 && offer(game, player, missing) >= 0) {
+                return missing;
+            }
+        }
+        return -1;
+    }
+
+    public int offer(final GameView game, final int player, final int cell) {
+        int amount = PREMIUM * game.getBoard().getPrice(cell);
+        return game.getMoney(player) - amount >= reserve ? amount : -1;
+    }
+
+    public boolean acceptTrade(final GameView game, final int player, final int buyer, final int cell,
+                               final int amount) {
+        return amount >= PREMIUM * game.getBoard().getPrice(cell);
+    }
+}
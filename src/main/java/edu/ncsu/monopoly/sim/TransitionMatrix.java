@@ -0,0 +1,228 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+
+import java.util.Arrays;
+
+/**
+ * Sparse matrix of the probabilities to end a turn in every state given the state the turn started in. States
+ * <code>0</code> to <code>cellCount - 1</code> are the cells of the board; with
+ * {@link LandingProbabilities.JailPolicy#STAY} three more states follow for a player in jail before their first,
+ * second and third attempt to roll out.
+ * <p>Entries are stored by column, i.e. by destination state, which is the order
+ * {@link LandingProbabilities} reads them in.</p>
+ */
+final class TransitionMatrix {
+    /**
+     * Number of ways to roll every sum of two dice, and the number of those that are doubles.
+     */
+    private static final int[] ROLLS = new int[13];
+    private static final int[] DOUBLES = new int[13];
+
+    static {
+        for (int first = 1; first <= 6; first++) {
+            for (int second = 1; second <= 6; second++) {
+                ROLLS[first + second]++;
+                if (first == second) {
+                    DOUBLES[first + second]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns a player stays in jail at most with {@link LandingProbabilities.JailPolicy#STAY}.
+     */
+    static final int JAIL_TURNS = 3;
+
+    private final CompiledBoard board;
+    private final int cellCount;
+    private final int stateCount;
+
+    /**
+     * State a player sent to jail is in at the end of the turn.
+     */
+    private final int jailState;
+
+    /**
+     * Column <code>j</code> holds the entries <code>columnStarts[j]</code> to <code>columnStarts[j + 1] - 1</code>
+     * of {@link #sources} and {@link #probabilities}.
+     */
+    private final int[] columnStarts;
+    private final int[] sources;
+    private final double[] probabilities;
+
+    // scratch row, reset after every row
+    private final double[] row;
+    private final int[] touched;
+    private int touchedCount;
+
+    // rows in source order, converted to columns once complete
+    private int[] rowSources;
+    private int[] rowTargets;
+    private double[] rowProbabilities;
+    private int entryCount;
+
+    /**
+     * Build the matrix of a board.
+     *
+     * @param board  board to build the matrix of
+     * @param policy what players in jail do
+     * @throws IllegalArgumentException if a player can be sent to jail on a board without a "Jail" cell
+     */
+    TransitionMatrix(final CompiledBoard board, final LandingProbabilities.JailPolicy policy) {
+        this.board = board;
+        cellCount = board.getCellCount();
+        stateCount = policy == LandingProbabilities.JailPolicy.STAY ? cellCount + JAIL_TURNS : cellCount;
+        jailState = policy == LandingProbabilities.JailPolicy.STAY ? cellCount : board.getJailIndex();
+        row = new double[stateCount];
+        touched = new int[stateCount];
+        rowSources = new int[stateCount * 12];
+        rowTargets = new int[rowSources.length];
+        rowProbabilities = new double[rowSources.length];
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (int sum = 2; sum <= 12; sum++) {
+                land(cell, sum, ROLLS[sum] / 36.0);
+            }
+            endRow(cell);
+        }
+        if (stateCount > cellCount) {
+            int jail = board.getJailIndex();
+            for (int turn = 0; turn < JAIL_TURNS; turn++) {
+                for (int sum = 2; sum <= 12; sum++) {
+                    if (turn == JAIL_TURNS - 1) {
+                        // third failed attempt: pay the bail and move by the roll anyway
+                        land(jail, sum, ROLLS[sum] / 36.0);
+                    } else if (DOUBLES[sum] > 0) {
+                        land(jail, sum, DOUBLES[sum] / 36.0);
+                    }
+                }
+                if (turn < JAIL_TURNS - 1) {
+                    add(cellCount + turn + 1, 30 / 36.0);
+                }
+                endRow(cellCount + turn);
+            }
+        }
+
+        columnStarts = new int[stateCount + 1];
+        for (int i = 0; i < entryCount; i++) {
+            columnStarts[rowTargets[i] + 1]++;
+        }
+        for (int j = 0; j < stateCount; j++) {
+            columnStarts[j + 1] += columnStarts[j];
+        }
+        sources = new int[entryCount];
+        probabilities = new double[entryCount];
+        int[] filled = Arrays.copyOf(columnStarts, stateCount);
+        for (int i = 0; i < entryCount; i++) {
+            int k = filled[rowTargets[i]]++;
+            sources[k] = rowSources[i];
+            probabilities[k] = rowProbabilities[i];
+        }
+        rowSources = null;
+        rowTargets = null;
+        rowProbabilities = null;
+    }
+
+    /**
+     * Add the outcomes of moving from a cell by a dice roll to the current row.
+     */
+    private void land(final int from, final int steps, final double probability) {
+        int cell = (from + steps) % cellCount;
+        byte kind = board.getKind(cell);
+        if (kind == CompiledBoard.CELL_GO_TO_JAIL) {
+            add(jail(), probability);
+        } else if (kind == CompiledBoard.CELL_CHANCE || kind == CompiledBoard.CELL_COMMUNITY_CHEST) {
+            int deck = kind == CompiledBoard.CELL_CHANCE ? CompiledBoard.DECK_CHANCE
+                    : CompiledBoard.DECK_COMMUNITY_CHEST;
+            int size = board.getDeckSize(deck);
+            if (size == 0) {
+                add(cell, probability);
+            }
+            for (int card = 0; card < size; card++) {
+                add(drawn(cell, deck, card), probability / size);
+            }
+        } else {
+            add(cell, probability);
+        }
+    }
+
+    /**
+     * State a player on a card cell ends the turn in after drawing a card, see
+     * {@link edu.ncsu.monopoly.GameState#drawCard(int)}.
+     */
+    private int drawn(final int cell, final int deck, final int card) {
+        byte kind = board.getCardKind(deck, card);
+        if (kind == CompiledBoard.CARD_JAIL) {
+            return jail();
+        } else if (kind == CompiledBoard.CARD_MOVE) {
+            int value = board.getCardValue(deck, card);
+            int steps = cell > value ? cellCount + value - cell : value - cell;
+            int destination = (cell + steps) % cellCount;
+            return board.getKind(destination) == CompiledBoard.CELL_GO_TO_JAIL ? jail() : destination;
+        }
+        return cell;
+    }
+
+    private int jail() {
+        if (jailState < 0) {
+            throw new IllegalArgumentException("Board sends players to a Jail it does not have");
+        }
+        return jailState;
+    }
+
+    private void add(final int state, final double probability) {
+        if (row[state] == 0) {
+            touched[touchedCount++] = state;
+        }
+        row[state] += probability;
+    }
+
+    private void endRow(final int source) {
+        if (entryCount + touchedCount > rowSources.length) {
+            int length = Math.max(rowSources.length * 2, entryCount + touchedCount);
+            rowSources = Arrays.copyOf(rowSources, length);
+            rowTargets = Arrays.copyOf(rowTargets, length);
+            rowProbabilities = Arrays.copyOf(rowProbabilities, length);
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            int state = touched[i];
+            rowSources[entryCount] = source;
+            rowTargets[entryCount] = state;
+            rowProbabilities[entryCount] = row[state];
+            entryCount++;
+            row[state] = 0;
+        }
+        touchedCount = 0;
+    }
+
+    int getCellCount() {
+        return cellCount;
+    }
+
+    int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * Number of non zero entries.
+     *
+     * @return size of the matrix in entries
+     */
+    int getEntryCount() {
+        return sources.length;
+    }
+
+    int getColumnStart(final int state) {
+        return columnStarts[state];
+    }
+
+    int getSource(final int entry) {
+        return sources[entry];
+    }
+
+    double getProbability(final int entry) {
+        return probabilities[entry];
+    }
+}
@@ -0,0 +1,143 @@
+package edu.ncsu.monopoly;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import junit.framework.TestCase;
+
+public class BoardDefinitionTest extends TestCase {
+
+	private static final String SMALL = "# Small board\n"
+			+ "board Small\n"
+			+ "railroads 200 50\n"
+			+ "utilities 150\n"
+			+ "bail 40\n"
+			+ "\n"
+			+ "go\n"
+			+ "property \"Blue 1\" blue 100 10 50\n"
+			+ "chance \"Chance 1\"\n"
+			+ "  property \"Blue 2\"   blue 120 12 50   \n"
+			+ "railroad \"Short Line\"\n"
+			+ "jail\n"
+			+ "utility Water\n"
+			+ "community-chest \"Community Chest 1\"\n"
+			+ "free-parking\n"
+			+ "go-to-jail\n"
+			+ "card chance money \"Win $50\" 50\n"
+			+ "card community-chest jail\n"
+			+ "card chance move \"Blue 2\"\n";
+
+	public void testParse() throws IOException {
+		BoardDefinition definition = BoardDefinition.parse(SMALL);
+		assertEquals("Small", definition.getName());
+		assertEquals(10, definition.getCellCount());
+
+		GameBoard board = definition.newGameBoard();
+		assertSame(definition, board.getDefinition());
+		assertEquals(10, board.getCellNumber());
+		assertTrue(board.getCell(0) instanceof GoCell);
+		assertEquals(2, board.getPropertyNumberForColor("blue"));
+		PropertyCell blue2 = board.getPropertiesInMonopoly("blue")[1];
+		assertSame(board.getCell(3), blue2);
+		assertEquals("Blue 2", blue2.getName());
+		assertEquals(120, blue2.getPrice());
+		assertEquals(12, blue2.getBaseRent());
+		assertEquals(50, blue2.getHousePrice());
+		assertEquals(200, board.queryCell("Short Line").getPrice());
+		assertEquals(150, board.queryCell("Water").getPrice());
+		assertEquals(50, board.getRailRoadRent());
+		assertEquals(40, board.getBail());
+		assertEquals(5, board.queryCellIndex("Jail"));
+		assertEquals(Card.TYPE_CHANCE, ((CardCell) board.getCell(2)).getType());
+		assertEquals(Card.TYPE_CC, ((CardCell) board.getCell(7)).getType());
+		assertTrue(board.getCell(8) instanceof FreeParkingCell);
+		assertTrue(board.getCell(9) instanceof GoToJailCell);
+
+		CardDeck chance = board.getDeck(Card.TYPE_CHANCE);
+		assertEquals(2, chance.size());
+		assertEquals(50, ((MoneyCard) chance.get(0)).getAmount());
+		assertEquals("Win $50", chance.get(0).getLabel());
+		assertEquals("Blue 2", ((MovePlayerCard) chance.get(1)).getDestination());
+		assertTrue(board.getDeck(Card.TYPE_CC).get(0) instanceof JailCard);
+	}
+
+	public void testNewBoards() throws IOException {
+		BoardDefinition definition = BoardDefinition.parse(SMALL);
+		GameBoard first = definition.newGameBoard();
+		GameBoard second = definition.newGameBoard();
+		assertNotSame(first.getCell(1), second.getCell(1));
+		assertNotSame(first.getDeck(Card.TYPE_CHANCE).get(0), second.getDeck(Card.TYPE_CHANCE).get(0));
+	}
+
+	public void testShipped() {
+		BoardDefinition full = BoardDefinition.forName("GameBoardFull");
+		assertSame(full, BoardDefinition.forName("GameBoardFull"));
+		assertSame(full, new GameBoardFull().getDefinition());
+		assertEquals(40, full.getCellCount());
+		GameBoard board = full.newGameBoard();
+		assertEquals(8, board.getDeck(Card.TYPE_CC).size());
+		assertEquals(7, board.getDeck(Card.TYPE_CHANCE).size());
+		assertEquals("GameBoardFull", GameSave.getBoardName(board));
+		assertEquals("GameBoardCCGainMoney", new GameBoardCCGainMoney().getDefinition().getName());
+		try {
+			BoardDefinition.forName("NoSuchBoard");
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void testFind() throws IOException {
+		assertSame(BoardDefinition.forName("GameBoard14"), BoardDefinition.find("GameBoard14"));
+		assertSame(BoardDefinition.forName("GameBoard14"), BoardDefinition.find("edu.ncsu.monopoly.GameBoard14"));
+
+		File file = File.createTempFile("board", BoardDefinition.EXTENSION);
+		file.deleteOnExit();
+		try {
+			write(file, SMALL);
+			BoardDefinition definition = BoardDefinition.find(file.getPath());
+			assertEquals("Small", definition.getName());
+			assertSame(definition, BoardDefinition.load(file));
+
+			write(file, SMALL.replace("board Small", "board Smaller"));
+			file.setLastModified(file.lastModified() + 2000);
+			assertEquals("Smaller", BoardDefinition.load(file).getName());
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static void write(File file, String text) throws IOException {
+		Writer writer = new FileWriter(file);
+		try {
+			writer.write(text);
+		} finally {
+			writer.close();
+		}
+	}
+
+	public void testErrors() {
+		assertInvalid("", "Empty");
+		assertInvalid("go\n", "line 1: the first line must be: board NAME");
+		assertInvalid("board A\nboard B\n", "line 2: board is named twice");
+		assertInvalid("board A\n", "no cells");
+		assertInvalid("board A\njail\n", "line 2: the first cell must be go");
+		assertInvalid("board A\ngo\nproperty \"Blue 1\" blue 100 10\n", "line 3: property takes 5 values, not 4");
+		assertInvalid("board A\ngo\nproperty \"Blue 1\" blue 100 ten 50\n", "line 3: not a number: ten");
+		assertInvalid("board A\ngo\nproperty \"Blue 1 blue 100 10 50\n", "line 3: unterminated quote");
+		assertInvalid("board A\ngo\nhotel Ritz\n", "line 3: unknown line hotel");
+		assertInvalid("board A\ngo\ncard bank jail\n", "line 3: unknown deck bank");
+		assertInvalid("board A\ngo\ncard chance move Nowhere\njail\n", "line 3: no cell named Nowhere");
+	}
+
+	private static void assertInvalid(String text, String message) {
+		try {
+			BoardDefinition.parse(text);
+			fail(text);
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().indexOf(message) >= 0);
+		}
+	}
+}
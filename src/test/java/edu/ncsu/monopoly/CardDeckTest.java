@@ -0,0 +1,102 @@
+package edu.ncsu.monopoly;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class CardDeckTest extends TestCase {
+
+	CardDeck deck;
+	Card[] cards;
+
+	protected void setUp() throws Exception {
+		deck = new CardDeck();
+		cards = new Card[5];
+		for (int i = 0; i < cards.length; i++) {
+			cards[i] = new MoneyCard("Win $" + i, i, Card.TYPE_CC);
+			deck.add(cards[i]);
+		}
+	}
+
+	public void testDrawRotates() {
+		assertEquals(5, deck.size());
+		for (int i = 0; i < 12; i++) {
+			assertSame(cards[i % cards.length], deck.draw());
+		}
+		assertSame(cards[2], deck.get(0));
+		assertSame(cards[1], deck.get(4));
+		assertEquals(5, deck.size());
+	}
+
+	public void testAddAfterDraw() {
+		deck.draw();
+		deck.draw();
+		Card card = new JailCard(Card.TYPE_CC);
+		deck.add(card);
+		Card[] order = deck.toArray();
+		assertEquals(6, order.length);
+		assertSame(cards[2], order[0]);
+		assertSame(cards[1], order[4]);
+		assertSame(card, order[5]);
+	}
+
+	public void testEmptyDeck() {
+		deck.clear();
+		assertEquals(0, deck.size());
+		try {
+			deck.draw();
+			fail("Drew from an empty deck");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	public void testSeededShuffle() {
+		CardDeck other = new CardDeck();
+		for (int i = 0; i < cards.length; i++) {
+			other.add(cards[i]);
+		}
+		deck.shuffle(new Random(7));
+		other.shuffle(new Random(7));
+		for (int i = 0; i < cards.length; i++) {
+			assertSame(deck.get(i), other.get(i));
+		}
+		assertEquals(5, deck.size());
+	}
+
+	public void testSnapshot() {
+		deck.draw();
+		CardDeck.Snapshot snapshot = deck.snapshot();
+		assertEquals(1, snapshot.getTop());
+		deck.draw();
+		deck.shuffle(new Random(1));
+		deck.add(new JailCard(Card.TYPE_CC));
+		deck.restore(snapshot);
+		assertEquals(5, deck.size());
+		assertSame(cards[1], deck.draw());
+		assertSame(cards[2], deck.draw());
+	}
+
+	public void testOrder() {
+		deck.shuffle(new Random(3));
+		deck.draw();
+		int[] order = deck.getOrder();
+		CardDeck other = new CardDeck();
+		Card[] otherCards = new Card[cards.length];
+		for (int i = 0; i < cards.length; i++) {
+			otherCards[i] = new MoneyCard("Win $" + i, i, Card.TYPE_CC);
+			other.add(otherCards[i]);
+		}
+		other.setOrder(order);
+		for (int i = 0; i < cards.length; i++) {
+			assertSame(cards[order[i]], deck.get(i));
+			assertSame(otherCards[order[i]], other.get(i));
+		}
+		try {
+			other.setOrder(new int[]{0, 1, 2, 3, 3});
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
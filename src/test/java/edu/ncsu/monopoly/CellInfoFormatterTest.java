@@ -34,4 +34,10 @@ public class CellInfoFormatterTest extends TestCase {
         cell.setNumHouses(numHouses);
         assertEquals(propertyLabel, InfoFormatter.cellInfo(cell));
     }
+
+    public void testSubclassUsesFormatterOfSuperclass() {
+        GoCell cell = new GoCell() {
+        };
+        assertEquals(GoCellInfoFormatter.GO_CELL_LABEL, InfoFormatter.cellInfo(cell));
+    }
 }
@@ -0,0 +1,73 @@
+package edu.ncsu.monopoly;
+
+import junit.framework.TestCase;
+
+public class DieTest extends TestCase {
+
+	public void testRollsInRange() {
+		Die die = new Die();
+		int[] counts = new int[7];
+		for (int i = 0; i < 60000; i++) {
+			counts[die.getRoll()]++;
+		}
+		assertEquals(0, counts[0]);
+		for (int face = 1; face <= 6; face++) {
+			assertTrue(counts[face] > 9000 && counts[face] < 11000);
+		}
+	}
+
+	public void testSeededDiceRepeat() {
+		Die die = new Die(42);
+		int[] rolls = new int[100];
+		for (int i = 0; i < rolls.length; i++) {
+			rolls[i] = die.getRoll();
+		}
+		die.setSeed(42);
+		for (int i = 0; i < rolls.length; i++) {
+			assertEquals(rolls[i], die.getRoll());
+		}
+	}
+
+	public void testBufferedDieRollsSameSequence() {
+		Die die = new Die(7);
+		BufferedDie buffered = new BufferedDie(16);
+		buffered.setSeed(7);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(die.getRoll(), buffered.getRoll());
+		}
+		buffered.setSeed(8);
+		die.setSeed(8);
+		assertEquals(die.getRoll(), buffered.getRoll());
+	}
+
+	public void testStreams() {
+		assertEquals(SplitMix64.stream(1, 5), SplitMix64.stream(1, 5));
+		assertFalse(SplitMix64.stream(1, 5) == SplitMix64.stream(1, 6));
+		assertFalse(SplitMix64.stream(1, 5) == SplitMix64.stream(2, 5));
+		SplitMix64 random = new SplitMix64(3);
+		SplitMix64 split = random.split();
+		assertFalse(random.nextLong() == split.nextLong());
+	}
+
+	public void testSeededGameMaster() {
+		GameMaster first = newSeededGame(5);
+		GameMaster second = newSeededGame(5);
+		for (int i = 0; i < 50; i++) {
+			int[] roll = first.rollDice();
+			int[] replay = second.rollDice();
+			assertEquals(roll[0], replay[0]);
+			assertEquals(roll[1], replay[1]);
+		}
+		for (int i = 0; i < 10; i++) {
+			assertSame(first.drawChanceCard().getClass(), second.drawChanceCard().getClass());
+			assertEquals(first.drawCCCard().getLabel(), second.drawCCCard().getLabel());
+		}
+	}
+
+	private GameMaster newSeededGame(long seed) {
+		GameMaster master = new GameMaster();
+		master.setGameBoard(new GameBoardFull());
+		master.setSeed(seed);
+		return master;
+	}
+}
@@ -0,0 +1,132 @@
+package edu.ncsu.monopoly;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+import edu.ncsu.monopoly.sim.BoardFactory;
+import edu.ncsu.monopoly.sim.SimulatedGame;
+import junit.framework.TestCase;
+
+public class EngineMetricsTest extends TestCase {
+
+	public void testStripedCounterAcrossThreads() throws InterruptedException {
+		final StripedCounter counter = new StripedCounter(4);
+		Thread[] threads = new Thread[8];
+		for(int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					for(int j = 0; j < 10000; j++) {
+						counter.increment();
+					}
+					counter.add(5);
+				}
+			};
+			threads[i].start();
+		}
+		for(int i = 0; i < threads.length; i++) {
+			threads[i].join();
+		}
+		assertEquals(8 * 10005, counter.get());
+	}
+
+	public void testHistogramBuckets() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(0);
+		histogram.record(LatencyHistogram.getUpperBound(0));
+		histogram.record(LatencyHistogram.getUpperBound(0) + 1);
+		histogram.record(Long.MAX_VALUE / 2);
+		assertEquals(2, histogram.getCount(0));
+		assertEquals(1, histogram.getCount(1));
+		assertEquals(1, histogram.getCount(LatencyHistogram.BUCKETS));
+		assertEquals(4, histogram.getCount());
+		assertEquals(2 * LatencyHistogram.getUpperBound(0) + 1 + Long.MAX_VALUE / 2, histogram.getSum());
+	}
+
+	public void testPrometheusText() {
+		EngineMetrics metrics = new EngineMetrics();
+		metrics.turn();
+		metrics.rent(EngineMetrics.RENT_RAILROAD, 25);
+		metrics.rent(EngineMetrics.RENT_RAILROAD, 50);
+		metrics.phase(EngineMetrics.PHASE_ROLL, System.nanoTime());
+		String text = metrics.toPrometheusText();
+		assertTrue(text.contains("# TYPE monopoly_turns_total counter\nmonopoly_turns_total 1\n"));
+		assertTrue(text.contains("monopoly_rent_payments_total{cell_type=\"railroad\"} 2\n"));
+		assertTrue(text.contains("monopoly_rent_due_total{cell_type=\"railroad\"} 75\n"));
+		assertTrue(text.contains("monopoly_rent_due_total{cell_type=\"property\"} 0\n"));
+		assertTrue(text.contains("# TYPE monopoly_turn_phase_seconds histogram\n"));
+		assertTrue(text.contains("monopoly_turn_phase_seconds_bucket{phase=\"roll\",le=\"+Inf\"} 1\n"));
+		assertTrue(text.contains("monopoly_turn_phase_seconds_count{phase=\"trade\"} 0\n"));
+	}
+
+	public void testRentOffOwnedCell() {
+		GameMaster master = new GameMaster();
+		master.setGameBoard(new SimpleGameBoard());
+		master.setNumberOfPlayers(2);
+		master.setGUI(new MockGUI());
+		EngineMetrics metrics = new EngineMetrics();
+		master.setMetrics(metrics);
+		master.getPlayer(0).payRentTo(master.getPlayer(1), 30);
+		assertEquals(1, metrics.getRentPayments(EngineMetrics.RENT_PROPERTY));
+		assertEquals(30, metrics.getRentAmount(EngineMetrics.RENT_PROPERTY));
+	}
+
+	public void testCancelledRollIsTimed() {
+		GameMaster master = new GameMaster();
+		master.setGameBoard(new SimpleGameBoard());
+		master.setNumberOfPlayers(2);
+		master.setGUI(new MockGUI() {
+			public int[] getDiceRoll() {
+				return new int[] {0, 0};
+			}
+		});
+		master.setTestMode(true);
+		EngineMetrics metrics = new EngineMetrics();
+		master.setMetrics(metrics);
+		master.btnRollDiceClicked();
+		assertEquals(0, metrics.getRolls());
+		assertEquals(1, metrics.getPhase(EngineMetrics.PHASE_ROLL).getCount());
+	}
+
+	public void testExport() throws IOException {
+		EngineMetrics metrics = new EngineMetrics();
+		metrics.bankruptcy();
+		File file = File.createTempFile("metrics", ".prom");
+		try {
+			metrics.export(file);
+			metrics.export(file);
+			StringBuilder text = new StringBuilder();
+			BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+			try {
+				for(String line = in.readLine(); line != null; line = in.readLine()) {
+					text.append(line).append('\n');
+				}
+			} finally {
+				in.close();
+			}
+			assertEquals(metrics.toPrometheusText(), text.toString());
+			assertFalse(new File(file.getPath() + ".tmp").exists());
+		} finally {
+			file.delete();
+		}
+	}
+
+	public void testSimulatedGamesCount() {
+		EngineMetrics metrics = new EngineMetrics();
+		SimulatedGame game = new SimulatedGame(BoardFactory.forClass(GameBoardFull.class), 3, 300);
+		game.setMetrics(metrics);
+		for(int i = 0; i < 5; i++) {
+			game.play(i);
+		}
+		assertTrue(metrics.getTurns() > 0);
+		assertTrue(metrics.getRolls() >= metrics.getTurns() / 2);
+		assertTrue(metrics.getRentPayments(EngineMetrics.RENT_PROPERTY) > 0);
+		assertTrue(metrics.getRentAmount(EngineMetrics.RENT_PROPERTY)
+				>= metrics.getRentPayments(EngineMetrics.RENT_PROPERTY));
+		assertTrue(metrics.getPurchases() > 0);
+		assertEquals(metrics.getRolls(), metrics.getPhase(EngineMetrics.PHASE_ROLL).getCount());
+		assertTrue(metrics.getPhase(EngineMetrics.PHASE_END_TURN).getCount() > 0);
+	}
+}
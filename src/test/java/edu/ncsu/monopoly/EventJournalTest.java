@@ -0,0 +1,117 @@
+package edu.ncsu.monopoly;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+public class EventJournalTest extends TestCase {
+
+	private File file;
+
+	protected void setUp() throws Exception {
+		file = File.createTempFile("journal", ".bin");
+		file.deleteOnExit();
+	}
+
+	protected void tearDown() throws Exception {
+		file.delete();
+	}
+
+	public void testRoundTrip() throws IOException {
+		EventJournal journal = new EventJournal(file);
+		int records = EventJournal.REGION_RECORDS * 2 + 5;
+		for(int i = 0; i < records; i++) {
+			journal.record(i % 100 == 0 ? EventJournal.EVENT_TURN : EventJournal.EVENT_MOVE, i % 8, -1, i, -i);
+		}
+		assertEquals(records / 100 + 1, journal.getTurn());
+		journal.close();
+		assertEquals(EventJournal.HEADER_SIZE + (long) records * EventJournal.RECORD_SIZE, file.length());
+
+		EventJournalReader reader = new EventJournalReader(file);
+		assertEquals(records, reader.getCount());
+		assertEquals(records, reader.getFlushedCount());
+		for(int i = 0; i < records; i++) {
+			assertTrue(reader.next());
+			assertEquals(i % 100 == 0 ? EventJournal.EVENT_TURN : EventJournal.EVENT_MOVE, reader.getEvent());
+			assertEquals(i % 8, reader.getPlayer());
+			assertEquals(-1, reader.getOther());
+			assertEquals(i / 100 + 1, reader.getTurn());
+			assertEquals(i, reader.getFirst());
+			assertEquals(-i, reader.getSecond());
+		}
+		assertFalse(reader.next());
+		reader.seek(EventJournal.REGION_RECORDS + 1);
+		assertEquals(EventJournal.REGION_RECORDS + 1, reader.getFirst());
+		reader.close();
+	}
+
+	public void testReadAfterCrash() throws IOException {
+		EventJournal journal = new EventJournal(file);
+		journal.record(EventJournal.EVENT_ROLL, 0, -1, 3, 4);
+		journal.record(EventJournal.EVENT_MOVE, 0, -1, 7, 7);
+		journal.flush();
+		journal.record(EventJournal.EVENT_PURCHASE, 0, -1, 7, 100);
+		// never closed: the file still holds the whole mapped region
+
+		EventJournalReader reader = new EventJournalReader(file);
+		assertEquals(2, reader.getFlushedCount());
+		assertEquals(3, reader.getCount());
+		reader.seek(2);
+		assertEquals(EventJournal.EVENT_PURCHASE, reader.getEvent());
+		assertEquals(100, reader.getSecond());
+		reader.close();
+	}
+
+	public void testNotAJournal() throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(new byte[EventJournal.HEADER_SIZE]);
+		out.close();
+		try {
+			new EventJournalReader(file);
+			fail();
+		} catch(IOException e) {
+			// expected
+		}
+	}
+
+	public void testGameEvents() throws IOException {
+		GameMaster master = new GameMaster();
+		master.setGameBoard(new GameBoardFull());
+		master.setNumberOfPlayers(2);
+		master.setGUI(new MockGUI());
+		EventJournal journal = new EventJournal(file);
+		master.setJournal(journal);
+		master.startGame();
+		master.movePlayer(0, 1);
+		master.btnPurchasePropertyClicked();
+		master.btnEndTurnClicked();
+		master.movePlayer(1, 1);
+		master.btnEndTurnClicked();
+		master.setJournal(null);
+		master.movePlayer(0, 1);
+		journal.close();
+
+		EventJournalReader reader = new EventJournalReader(file);
+		assertEvent(reader, EventJournal.EVENT_MOVE, 0, -1, 0, 1, 1);
+		assertEvent(reader, EventJournal.EVENT_PURCHASE, 0, -1, 0, 1, 60);
+		assertEvent(reader, EventJournal.EVENT_TURN, 1, -1, 1, 0, 0);
+		assertEvent(reader, EventJournal.EVENT_MOVE, 1, -1, 1, 1, 1);
+		assertEvent(reader, EventJournal.EVENT_RENT, 1, 0, 1, 2, 1);
+		assertEvent(reader, EventJournal.EVENT_TURN, 0, -1, 2, 0, 0);
+		assertFalse(reader.next());
+		reader.close();
+	}
+
+	private static void assertEvent(EventJournalReader reader, byte event, int player, int other, int turn,
+			int first, int second) throws IOException {
+		assertTrue(reader.next());
+		assertEquals(event, reader.getEvent());
+		assertEquals(player, reader.getPlayer());
+		assertEquals(other, reader.getOther());
+		assertEquals(turn, reader.getTurn());
+		assertEquals(first, reader.getFirst());
+		assertEquals(second, reader.getSecond());
+	}
+}
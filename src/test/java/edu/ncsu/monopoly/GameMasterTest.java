@@ -62,6 +62,34 @@ public class GameMasterTest extends TestCase {
         assertTrue(player2.checkProperty(deal.getPropertyName()));
     }
 	
+	public void testIndependentGames() {
+		GameMaster other = new GameMaster();
+		other.setGameBoard(new GameBoardFull());
+		other.setNumberOfPlayers(2);
+		other.setGUI(new MockGUI());
+		other.startGame();
+		other.movePlayer(0, 1);
+		other.btnPurchasePropertyClicked();
+		other.btnEndTurnClicked();
+		other.movePlayer(1, 1);
+		other.btnEndTurnClicked();
+		assertEquals(1442, other.getPlayer(0).getMoney());
+		assertEquals(1498, other.getPlayer(1).getMoney());
+		assertEquals(1500, gameMaster.getPlayer(0).getMoney());
+		assertEquals(1500, gameMaster.getPlayer(1).getMoney());
+		assertTrue(((OwnedCell) gameMaster.getGameBoard().getCell(1)).isAvailable());
+	}
+
+	public void testPlayerIndex() {
+		assertEquals(0, gameMaster.getPlayerIndex(gameMaster.getPlayer(0)));
+		assertEquals(1, gameMaster.getPlayerIndex(gameMaster.getPlayer(1)));
+		assertEquals(-1, gameMaster.getPlayerIndex(new Player(gameMaster)));
+		GameMaster other = new GameMaster();
+		other.setGameBoard(new GameBoardFull());
+		other.setNumberOfPlayers(2);
+		assertEquals(-1, gameMaster.getPlayerIndex(other.getPlayer(1)));
+	}
+
 	public void testTurn() {
 		assertEquals(0, gameMaster.getTurn());
 		gameMaster.switchTurn();
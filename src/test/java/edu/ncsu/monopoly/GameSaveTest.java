@@ -0,0 +1,181 @@
+package edu.ncsu.monopoly;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import edu.ncsu.monopoly.sim.BoardFactory;
+import edu.ncsu.monopoly.sim.SimulatedGame;
+import junit.framework.TestCase;
+
+public class GameSaveTest extends TestCase {
+
+	private static final Class[] BOARDS = {
+		GameBoard14.class, GameBoardCC.class, GameBoardCCGainMoney.class, GameBoardCCJail.class,
+		GameBoardCCLoseMoney.class, GameBoardCCMovePlayer.class, GameBoardFreeParking.class, GameBoardFull.class,
+		GameBoardJail.class, GameBoardRailRoad.class, GameBoardUtility.class, SimpleGameBoard.class,
+	};
+
+	private static GameMaster newGame(Class boardClass) throws Exception {
+		GameMaster master = new GameMaster();
+		master.setGameBoard((GameBoard) boardClass.newInstance());
+		master.setNumberOfPlayers(2);
+		master.setGUI(new MockGUI());
+		master.getPlayer(0).setName("Player 1");
+		master.getPlayer(1).setName("Player 2");
+		return master;
+	}
+
+	/**
+	 * Players 0 and 1 buy every other cell that can be owned, player 0 adds houses to its monopolies, both decks
+	 * are drawn from, player 1 is in jail when the board has one, and it is the turn of player 1.
+	 */
+	private static void play(GameMaster master) {
+		GameBoard board = master.getGameBoard();
+		for (int i = 0; i < board.getCellNumber(); i++) {
+			Cell cell = board.getCell(i);
+			if (cell instanceof OwnedCell) {
+				Player player = master.getPlayer(i % 2);
+				player.setPosition(cell);
+				player.purchase();
+			}
+		}
+		Player player = master.getPlayer(0);
+		String[] monopolies = player.getMonopolies();
+		for (int i = 0; i < monopolies.length; i++) {
+			player.purchaseHouse(monopolies[i], i + 1);
+		}
+		if (board.getDeck(Card.TYPE_CC).size() > 0) {
+			board.drawCCCard();
+		}
+		if (board.getDeck(Card.TYPE_CHANCE).size() > 0) {
+			board.drawChanceCard();
+		}
+		master.movePlayer(0, 3);
+		if (board.queryCellIndex("Jail") >= 0) {
+			master.sendToJail(master.getPlayer(1));
+		} else {
+			master.movePlayer(1, 1);
+		}
+		master.switchTurn();
+	}
+
+	public void testRoundTripEveryBoard() throws Exception {
+		for (int b = 0; b < BOARDS.length; b++) {
+			GameMaster master = newGame(BOARDS[b]);
+			play(master);
+			GameSnapshot played = GameSnapshot.capture(master);
+			byte[] save = GameSave.toBytes(master);
+
+			GameMaster loaded = newGame(BOARDS[b]);
+			loaded.setNumberOfPlayers(3);
+			GameSave.load(save, loaded);
+			String board = BOARDS[b].getName();
+			assertNull(board, played.describeDifference(GameSnapshot.capture(loaded)));
+			assertEquals(board, played, GameSnapshot.capture(loaded));
+			assertTrue(board, Arrays.equals(save, GameSave.toBytes(loaded)));
+			assertEquals(board, master.getPlayer(0).canBuyHouse(), loaded.getPlayer(0).canBuyHouse());
+			assertEquals(board, "Player 2", loaded.getPlayer(1).getName());
+			assertEquals(board, 1, loaded.getCurrentPlayerIndex());
+		}
+	}
+
+	public void testFile() throws Exception {
+		GameMaster master = newGame(GameBoardFull.class);
+		play(master);
+		File file = File.createTempFile("save", ".bin");
+		file.deleteOnExit();
+		try {
+			GameSave.save(master, file);
+			assertEquals(GameSave.toBytes(master).length, file.length());
+			GameMaster loaded = newGame(GameBoardFull.class);
+			GameSave.load(file, loaded);
+			assertEquals(GameSnapshot.capture(master), GameSnapshot.capture(loaded));
+		} finally {
+			file.delete();
+		}
+	}
+
+	public void testHeadlessGame() throws Exception {
+		SimulatedGame game = new SimulatedGame(BoardFactory.forClass(GameBoardFull.class), 4, 100);
+		GameMaster master = game.newGame(5);
+		master.movePlayer(2, 12);
+		master.getPlayer(2).purchase();
+		GameMaster loaded = game.newGame(6);
+		GameSave.load(GameSave.toBytes(master), loaded);
+		assertEquals(GameSnapshot.capture(master), GameSnapshot.capture(loaded));
+		assertEquals(master.getGameBoard().drawChanceCard().getLabel(),
+				loaded.getGameBoard().drawChanceCard().getLabel());
+	}
+
+	public void testResumeGame() throws Exception {
+		GameMaster master = newGame(GameBoardFull.class);
+		play(master);
+		GameMaster loaded = newGame(GameBoardFull.class);
+		MockGUI gui = (MockGUI) loaded.getGUI();
+		gui.setTradeEnabled(0, true);
+		GameSave.load(GameSave.toBytes(master), loaded);
+		loaded.resumeGame();
+		assertTrue(loaded.getCurrentPlayer().isInJail());
+		assertTrue(gui.isGetOutOfJailButtonEnabled());
+		assertFalse(gui.isTradeButtonEnabled(0));
+	}
+
+	public void testOtherBoard() throws Exception {
+		byte[] save = GameSave.toBytes(newGame(GameBoardCC.class));
+		try {
+			GameSave.load(save, newGame(GameBoardCCJail.class));
+			fail();
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().indexOf("GameBoardCC ") >= 0);
+		}
+	}
+
+	public void testNotASave() throws Exception {
+		GameMaster master = newGame(SimpleGameBoard.class);
+		byte[] save = GameSave.toBytes(master);
+		byte[] corrupt = save.clone();
+		corrupt[0] = 'X';
+		assertRejected(corrupt, master);
+
+		byte[] newer = save.clone();
+		newer[5] = GameSave.VERSION + 1;
+		assertRejected(newer, master);
+
+		assertRejected(Arrays.copyOf(save, save.length - 1), master);
+		GameSave.read(new ByteArrayInputStream(save), master.getGameBoard());
+	}
+
+	public void testCorruptSaveLeavesGameAlone() throws Exception {
+		GameMaster saved = newGame(GameBoardFull.class);
+		play(saved);
+		saved.getGameBoard().addCard(new MoneyCard("Extra", 10, Card.TYPE_CHANCE));
+		GameMaster master = newGame(GameBoardFull.class);
+		master.getPlayer(0).setMoney(999);
+		assertRejected(GameSave.toBytes(saved), master);
+
+		saved = newGame(GameBoardFull.class);
+		Player owner = saved.getPlayer(0);
+		owner.setPosition(saved.getGameBoard().getCell(1));
+		owner.purchase();
+		byte[] save = GameSave.toBytes(saved);
+		int firstOwned = 4 + 2 + 2 + GameSave.getBoardName(saved.getGameBoard()).length() + 2 + 1 + 1
+				+ 1 + 2 + owner.getName().length() + 4 + 2 + 1 + 2;
+		assertEquals(1, save[firstOwned + 1]);
+		save[firstOwned + 1] = 0;
+		assertRejected(save, master);
+		assertEquals(999, master.getPlayer(0).getMoney());
+	}
+
+	private static void assertRejected(byte[] save, GameMaster master) {
+		GameSnapshot before = GameSnapshot.capture(master);
+		try {
+			GameSave.load(save, master);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+		assertEquals(before, GameSnapshot.capture(master));
+	}
+}
@@ -0,0 +1,99 @@
+package edu.ncsu.monopoly;
+
+import junit.framework.TestCase;
+
+public class GameSnapshotTest extends TestCase {
+
+	GameMaster gameMaster;
+
+	protected void setUp() throws Exception {
+		gameMaster = newGame();
+	}
+
+	private static GameMaster newGame() {
+		GameMaster master = new GameMaster();
+		master.setGameBoard(new GameBoardFull());
+		master.setNumberOfPlayers(2);
+		master.setGUI(new MockGUI());
+		master.getPlayer(0).setName("Player 1");
+		master.getPlayer(1).setName("Player 2");
+		return master;
+	}
+
+	/**
+	 * Player 0 buys the blue group then the green group, player 1 goes to jail; both decks have been drawn from.
+	 */
+	private static void play(GameMaster master) {
+		GameBoard board = master.getGameBoard();
+		Player player = master.getPlayer(0);
+		buy(player, board.getPropertiesInMonopoly("blue"));
+		buy(player, board.getPropertiesInMonopoly("green"));
+		player.purchaseHouse("blue", 2);
+		board.drawCCCard();
+		board.drawChanceCard();
+		board.drawChanceCard();
+		master.switchTurn();
+		master.sendToJail(master.getPlayer(1));
+	}
+
+	private static void buy(Player player, PropertyCell[] cells) {
+		for (int i = cells.length - 1; i >= 0; i--) {
+			player.setPosition(cells[i]);
+			player.purchase();
+		}
+	}
+
+	public void testRestore() {
+		play(gameMaster);
+		GameSnapshot snapshot = GameSnapshot.capture(gameMaster);
+		assertEquals(1, snapshot.getTurn());
+		assertEquals(2, snapshot.getMonopolies(0).length);
+		assertTrue(snapshot.isInJail(1));
+
+		gameMaster.movePlayer(1, 5);
+		gameMaster.getPlayer(1).purchase();
+		gameMaster.getPlayer(0).getOutOfJail();
+		gameMaster.getGameBoard().drawCCCard();
+		gameMaster.switchTurn();
+		assertFalse(snapshot.equals(GameSnapshot.capture(gameMaster)));
+
+		snapshot.restore(gameMaster);
+		assertNull(snapshot.describeDifference(GameSnapshot.capture(gameMaster)));
+		assertEquals(snapshot, GameSnapshot.capture(gameMaster));
+		assertEquals(snapshot.hashCode(), GameSnapshot.capture(gameMaster).hashCode());
+	}
+
+	public void testRestoreIntoOtherGame() {
+		play(gameMaster);
+		GameSnapshot snapshot = GameSnapshot.capture(gameMaster);
+		GameMaster other = newGame();
+		other.setNumberOfPlayers(3);
+		snapshot.restore(other);
+		assertEquals(2, other.getNumberOfPlayers());
+		assertEquals(snapshot, GameSnapshot.capture(other));
+
+		Player player = other.getPlayer(0);
+		Player original = gameMaster.getPlayer(0);
+		assertEquals(original.getMonopolies()[0], player.getMonopolies()[0]);
+		assertEquals(original.getMonopolies()[1], player.getMonopolies()[1]);
+		assertEquals("blue", player.getMonopolies()[0]);
+		assertSame(player, other.getGameBoard().getPropertiesInMonopoly("green")[0].getOwner());
+		assertTrue(player.canBuyHouse());
+		assertEquals(gameMaster.getGameBoard().drawChanceCard().getLabel(),
+				other.getGameBoard().drawChanceCard().getLabel());
+		assertEquals(gameMaster.getGameBoard().drawCCCard().getLabel(), other.getGameBoard().drawCCCard().getLabel());
+	}
+
+	public void testOtherBoard() {
+		GameSnapshot snapshot = GameSnapshot.capture(gameMaster);
+		GameMaster other = new GameMaster();
+		other.setGameBoard(new SimpleGameBoard());
+		other.setNumberOfPlayers(2);
+		try {
+			snapshot.restore(other);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
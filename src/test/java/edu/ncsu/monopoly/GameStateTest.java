@@ -0,0 +1,207 @@
+package edu.ncsu.monopoly;
+
+import junit.framework.TestCase;
+
+public class GameStateTest extends TestCase {
+
+	private static final Die SIX = new Die() {
+		public int getRoll() {
+			return 6;
+		}
+	};
+
+	GameState state;
+	CompiledBoard board;
+
+	protected void setUp() throws Exception {
+		board = new CompiledBoard(new GameBoardFull());
+		state = new GameState(board, 2, 1500);
+	}
+
+	public void testCompiledBoard() {
+		assertEquals(40, board.getCellCount());
+		assertEquals(CompiledBoard.CELL_PROPERTY, board.getKind(1));
+		assertEquals(CompiledBoard.CELL_COMMUNITY_CHEST, board.getKind(2));
+		assertEquals(CompiledBoard.CELL_RAILROAD, board.getKind(5));
+		assertEquals(CompiledBoard.CELL_GO_TO_JAIL, board.getKind(30));
+		assertEquals(10, board.getJailIndex());
+		int group = board.getGroup(1);
+		assertEquals(3, board.getGroupSize(group));
+		assertEquals(1, board.getGroupCell(group, 0));
+		assertEquals(8, board.getDeckSize(CompiledBoard.DECK_COMMUNITY_CHEST));
+	}
+
+	public void testRentTables() {
+		assertEquals(2, board.getRent(1, CompiledBoard.getPropertyColumn(0, false)));
+		assertEquals(4, board.getRent(1, CompiledBoard.getPropertyColumn(0, true)));
+		assertEquals(8, board.getRent(1, CompiledBoard.getPropertyColumn(3, true)));
+		assertEquals(12, board.getRent(1, CompiledBoard.getPropertyColumn(5, true)));
+		assertEquals(4, board.getRailRoadCount());
+		assertEquals(15, board.getRailRoadCell(1));
+		for (int owned = 1; owned <= 4; owned++) {
+			assertEquals(board.getRailRoadRent() << (owned - 1), board.getRent(5, owned - 1));
+		}
+		assertEquals(2, board.getUtilityCount());
+		assertEquals(4, board.getRent(12, 0));
+		assertEquals(10, board.getRent(28, 1));
+		assertEquals(0, board.getRent(0, 0));
+	}
+
+	public void testMoveAndPassGo() {
+		state.move(0, 38);
+		assertEquals(38, state.getPosition(0));
+		assertEquals(1500, state.getMoney(0));
+		state.move(0, 4);
+		assertEquals(2, state.getPosition(0));
+		assertEquals(1700, state.getMoney(0));
+	}
+
+	public void testPurchaseAndRent() {
+		state.move(0, 1);
+		assertTrue(state.canPurchase(0));
+		state.purchase(0);
+		assertEquals(0, state.getOwner(1));
+		assertEquals(1440, state.getMoney(0));
+		assertFalse(state.canPurchase(0));
+		state.move(1, 1);
+		state.playAction(1, SIX, SIX);
+		assertEquals(1498, state.getMoney(1));
+		assertEquals(1442, state.getMoney(0));
+	}
+
+	public void testRentFollowsRailRoadsAndUtilities() {
+		assertEquals(0, state.getRent(5));
+		state.move(0, 5);
+		state.purchase(0);
+		assertEquals(50, state.getRent(5));
+		state.move(0, 10);
+		state.purchase(0);
+		assertEquals(100, state.getRent(5));
+		assertEquals(100, state.getRent(15));
+		assertEquals(0, state.getRent(25));
+
+		state.move(1, 12);
+		state.purchase(1);
+		assertEquals(4, state.getRent(12));
+		state.move(1, 16);
+		state.purchase(1);
+		assertEquals(10, state.getRent(12));
+		assertEquals(10, state.getRent(28));
+		state.trade(0, 1, 28, 0);
+		assertEquals(4, state.getRent(12));
+		assertEquals(4, state.getRent(28));
+	}
+
+	public void testMonopolyAndHouses() {
+		int group = board.getGroup(1);
+		for (int i = 0; i < board.getGroupSize(group); i++) {
+			state.move(0, board.getGroupCell(group, i) - state.getPosition(0));
+			state.purchase(0);
+		}
+		assertTrue(state.isMonopoly(0, group));
+		assertTrue(state.canBuyHouse(0));
+		assertEquals(group, state.getMonopoly(0, 0));
+		assertEquals(4, state.getRent(1));
+		state.purchaseHouse(0, group, 2);
+		assertEquals(2, state.getHouses(1));
+		assertEquals(6, state.getRent(1));
+	}
+
+	public void testTradeCompletesMonopoly() {
+		int group = board.getGroup(1);
+		int last = board.getGroupSize(group) - 1;
+		for (int i = 0; i < last; i++) {
+			state.move(0, board.getGroupCell(group, i) - state.getPosition(0));
+			state.purchase(0);
+		}
+		int cell = board.getGroupCell(group, last);
+		state.move(1, cell);
+		state.purchase(1);
+		int buyerMoney = state.getMoney(0);
+		int sellerMoney = state.getMoney(1);
+
+		state.trade(0, 1, cell, 100);
+		assertEquals(0, state.getOwner(cell));
+		assertTrue(state.isMonopoly(0, group));
+		assertEquals(group, state.getMonopoly(0, 0));
+		assertEquals(buyerMoney - 100, state.getMoney(0));
+		assertEquals(sellerMoney + 100, state.getMoney(1));
+		assertEquals(sellerMoney + 100, state.getNetWorth(1));
+	}
+
+	public void testBankruptcyHandsOverProperties() {
+		state = new GameState(board, 2, 300);
+		state.move(0, 1);
+		state.purchase(0);
+		state.move(0, 2);
+		state.purchase(0);
+		state.move(1, 5);
+		state.purchase(1);
+		state.move(0, 2);
+		state.playAction(0, SIX, SIX);
+		assertEquals(130, state.getMoney(0));
+		assertEquals(150, state.getMoney(1));
+		state.getOutOfJail(0);
+		state.getOutOfJail(0);
+		state.playAction(0, SIX, SIX);
+		assertTrue(state.isBankrupt(0));
+		assertEquals(0, state.getMoney(0));
+		assertEquals(180, state.getMoney(1));
+		assertEquals(1, state.getOwner(1));
+		assertEquals(1, state.getOwner(3));
+
+		state.purchaseHouse(1, board.getGroup(1), 1);
+		assertEquals(1, state.getHouses(1));
+		for (int i = 0; i < 3; i++) {
+			state.getOutOfJail(1);
+		}
+		assertTrue(state.isBankrupt(1));
+		assertEquals(GameState.BANK, state.getOwner(1));
+		assertEquals(0, state.getHouses(1));
+		assertEquals(1, state.getOwner(5));
+	}
+
+	public void testGoToJail() {
+		state.move(0, 30);
+		state.playAction(0, SIX, SIX);
+		assertTrue(state.isInJail(0));
+		assertEquals(10, state.getPosition(0));
+		state.getOutOfJail(0);
+		assertFalse(state.isInJail(0));
+		assertEquals(1450, state.getMoney(0));
+	}
+
+	public void testCardsRotate() {
+		int deck = CompiledBoard.DECK_COMMUNITY_CHEST;
+		int deckSize = board.getDeckSize(deck);
+		for (int i = 0; i <= deckSize; i++) {
+			state.move(0, (42 - state.getPosition(0)) % 40);
+			assertTrue(state.canDrawCard(0));
+			assertEquals(board.getCardKind(deck, i % deckSize), state.drawCard(0));
+		}
+		assertEquals(CompiledBoard.CARD_MOVE, board.getCardKind(deck, deckSize - 1));
+		assertEquals(39, board.getCardValue(deck, deckSize - 1));
+	}
+
+	public void testShuffleMatchesGameBoard() {
+		GameBoard gameBoard = new GameBoardFull();
+		gameBoard.shuffleCards(11);
+		state.shuffleCards(11);
+		int deck = CompiledBoard.DECK_CHANCE;
+		for (int i = 0; i < board.getDeckSize(deck) + 2; i++) {
+			state.move(0, (47 - state.getPosition(0)) % 40);
+			assertEquals(7, state.getPosition(0));
+			Card card = gameBoard.drawChanceCard();
+			int money = state.getMoney(0);
+			byte kind = state.drawCard(0);
+			if (card instanceof MoneyCard) {
+				assertEquals(CompiledBoard.CARD_MONEY, kind);
+				assertEquals(((MoneyCard) card).getAmount(), state.getMoney(0) - money);
+			} else if (card instanceof JailCard) {
+				assertEquals(CompiledBoard.CARD_JAIL, kind);
+			} else {
+				assertEquals(CompiledBoard.CARD_MOVE, kind);
+			}
+		}
+	}
+}
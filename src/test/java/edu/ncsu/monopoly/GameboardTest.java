@@ -56,5 +56,45 @@ public class GameboardTest extends TestCase {
 		gameBoard.addCell(cell);
 		assertEquals(0,gameBoard.queryCellIndex("Go"));
 		assertEquals(1,gameBoard.queryCellIndex("TempCell"));
+		assertEquals(-1,gameBoard.queryCellIndex("Missing"));
+	}
+
+	public void testQueryCellIndexByCell() {
+		PropertyCell duplicate = new PropertyCell();
+		duplicate.setName("TempCell");
+		duplicate.setColorGroup("blue");
+		gameBoard.addCell(cell);
+		gameBoard.addCell(duplicate);
+		assertEquals(1,gameBoard.queryCellIndex(cell));
+		assertEquals(2,gameBoard.queryCellIndex(duplicate));
+		assertEquals(-1,gameBoard.queryCellIndex(new PropertyCell()));
+		assertSame(cell,gameBoard.queryCell("TempCell"));
+	}
+
+	public void testPricesOfEachBoard() {
+		GameBoard full = new GameBoardFull();
+		GameBoard railRoads = new GameBoardRailRoad();
+		GameBoard utilities = new GameBoardUtility();
+		assertEquals(50, full.getRailRoadRent());
+		assertEquals(25, railRoads.getRailRoadRent());
+		assertEquals(150, full.queryCell("Electric Company").getPrice());
+		assertEquals(200, railRoads.queryCell("Railroad A").getPrice());
+		assertEquals(150, utilities.queryCell("Utility 1").getPrice());
+		assertEquals(GameBoard.DEFAULT_BAIL, full.getBail());
+
+		railRoads.setRailRoadPrice(180);
+		railRoads.setBail(10);
+		assertEquals(180, railRoads.queryCell("Railroad B").getPrice());
+		assertEquals(200, full.queryCell("Short Line").getPrice());
+		assertEquals(200, utilities.queryCell("Railroad A").getPrice());
+		assertEquals(GameBoard.DEFAULT_BAIL, full.getBail());
+		assertEquals(0, gameBoard.getRailRoadPrice());
+
+		GameMaster master = new GameMaster();
+		master.setGameBoard(railRoads);
+		master.setNumberOfPlayers(1);
+		master.setGUI(new MockGUI());
+		master.getPlayer(0).getOutOfJail();
+		assertEquals(1490, master.getPlayer(0).getMoney());
 	}
 }
@@ -35,6 +35,34 @@ public class PlayerTest extends TestCase {
 		assertSame(go, player2.getPosition());
 	}
 	
+	public void testIdentity() {
+		gameMaster.setNumberOfPlayers(2);
+		Player player1 = gameMaster.getPlayer(0);
+		Player player2 = gameMaster.getPlayer(1);
+		assertEquals(0, player1.getId());
+		assertEquals(1, player2.getId());
+		assertFalse(player1.equals(player2));
+		int hash = player1.hashCode();
+		gameMaster.movePlayer(0, 1);
+		player1.purchase();
+		assertEquals(hash, player1.hashCode());
+		assertEquals(player1, gameMaster.getPlayer(0));
+	}
+
+	public void testPositionIndex() {
+		gameMaster.setNumberOfPlayers(1);
+		Player player = gameMaster.getPlayer(0);
+		assertEquals(0, player.getPositionIndex());
+		gameMaster.movePlayer(0, 4);
+		assertEquals(4, player.getPositionIndex());
+		assertSame(gameMaster.getGameBoard().queryCell("Green 1"), player.getPosition());
+		gameMaster.movePlayer(0, 3);
+		assertEquals(1, player.getPositionIndex());
+		assertEquals(1700, player.getMoney());
+		player.setPosition(gameMaster.getGameBoard().queryCell("Green 2"));
+		assertEquals(5, player.getPositionIndex());
+	}
+
 	public void testPayRentTo() {
 		gameMaster.setNumberOfPlayers(2);
 		gameMaster.movePlayer(0,4);
@@ -57,6 +85,21 @@ public class PlayerTest extends TestCase {
 		assertEquals(1,gameMaster.getPlayer(1).getPropertyNumber());
 		assertEquals(0,gameMaster.getPlayer(0).getPropertyNumber());
 	}
+
+	public void testExchangeAllProperties() {
+		gameMaster.setNumberOfPlayers(2);
+		GameBoard board = gameMaster.getGameBoard();
+		Player player1 = gameMaster.getPlayer(0);
+		Player player2 = gameMaster.getPlayer(1);
+		player1.buyProperty((PropertyCell) board.queryCell("Blue 1"), 0);
+		player1.buyProperty((PropertyCell) board.queryCell("Blue 2"), 0);
+		player1.buyProperty((PropertyCell) board.queryCell("Blue 3"), 0);
+		player1.exchangeProperty(player2);
+		assertEquals(0, player1.getPropertyNumber());
+		assertEquals(3, player2.getPropertyNumber());
+		assertSame(player2, ((PropertyCell) board.queryCell("Blue 2")).getOwner());
+		assertTrue(player2.isMonopoly("blue"));
+	}
 	
 	public void testPurchaseHouse() {
 		gameMaster.setNumberOfPlayers(1);
@@ -78,6 +121,26 @@ public class PlayerTest extends TestCase {
         assertTrue(gameMaster.getCurrentPlayer().getMonopolies().length == 0);
 	}
 
+	public void testMonopolyTracking() {
+		gameMaster.setNumberOfPlayers(2);
+		GameBoard board = gameMaster.getGameBoard();
+		Player player = gameMaster.getPlayer(0);
+		PropertyCell blue1 = (PropertyCell) board.queryCell("Blue 1");
+		player.buyProperty(blue1, 0);
+		player.buyProperty((PropertyCell) board.queryCell("Blue 2"), 0);
+		assertFalse(player.isMonopoly("blue"));
+		assertEquals(10, blue1.getRent());
+		player.buyProperty((PropertyCell) board.queryCell("Blue 3"), 0);
+		assertTrue(player.isMonopoly("blue"));
+		assertTrue(player.canBuyHouse());
+		assertEquals(20, blue1.getRent());
+		player.sellProperty(blue1, 0);
+		assertFalse(player.isMonopoly("blue"));
+		assertFalse(player.canBuyHouse());
+		gameMaster.getPlayer(1).buyProperty(blue1, 0);
+		assertFalse(gameMaster.getPlayer(1).isMonopoly("blue"));
+	}
+
 	public void testResetProperty() {
 		gameMaster.setNumberOfPlayers(1);
 		gameMaster.movePlayer(0,1);
@@ -31,4 +31,21 @@ public class PropertyCellTest extends TestCase {
 				1380 + cell.getRent(),
 				gameMaster.getPlayer(0).getMoney());
 	}
+
+	public void testVersionFollowsWhatTheCellShows() {
+		GameBoard board = gameMaster.getGameBoard();
+		PropertyCell cell = (PropertyCell) board.queryCell("Blue 3");
+		int version = cell.getVersion();
+		int boardVersion = board.getVersion();
+		gameMaster.movePlayer(0, board.queryCellIndex("Blue 3"));
+		assertEquals(version, cell.getVersion());
+		gameMaster.getPlayer(0).purchase();
+		assertEquals(version + 2, cell.getVersion());
+		assertEquals(boardVersion + 2, board.getVersion());
+		cell.setNumHouses(1);
+		cell.setNumHouses(1);
+		cell.setOwner(gameMaster.getPlayer(0));
+		assertEquals(version + 3, cell.getVersion());
+		assertEquals(boardVersion + 3, board.getVersion());
+	}
 }
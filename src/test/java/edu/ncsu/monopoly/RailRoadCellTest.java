@@ -55,4 +55,16 @@ public class RailRoadCellTest extends TestCase {
 		assertEquals(50, rr1.getRent());
 		assertEquals(50, rr2.getRent());
 	}
+
+	public void testPriceBeforeAddedToBoard() {
+		assertEquals(gameMaster.getGameBoard().getRailRoadPrice(), new RailRoadCell().getPrice());
+	}
+
+	public void testRentStopsAtLargestInt() {
+		assertEquals(25, RailRoadCell.getRent(25, 1));
+		assertEquals(1 << 30, RailRoadCell.getRent(1, 31));
+		assertEquals(Integer.MAX_VALUE, RailRoadCell.getRent(25, 28));
+		assertEquals(Integer.MAX_VALUE, RailRoadCell.getRent(25, 32));
+		assertEquals(Integer.MAX_VALUE, RailRoadCell.getRent(25, 40));
+	}
 }
@@ -41,6 +41,10 @@ public class UtilityCellTest extends TestCase {
 				gameMaster.getPlayer(0).getMoney());
 	}
 
+	public void testPriceBeforeAddedToBoard() {
+		assertEquals(gameMaster.getGameBoard().getUtilityPrice(), new UtilityCell().getPrice());
+	}
+
 	public void testPurchaseUtility() {
 		assertEquals(0, gameMaster.getPlayer(0).numberOfUtil());
 		int cellIndex = gameMaster.getGameBoard().queryCellIndex("Utility 1");
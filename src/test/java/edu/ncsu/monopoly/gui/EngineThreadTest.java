@@ -0,0 +1,74 @@
+package edu.ncsu.monopoly.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class EngineThreadTest extends TestCase {
+
+    private EngineThread engine;
+
+    protected void setUp() {
+        engine = new EngineThread();
+        engine.start();
+    }
+
+    protected void tearDown() {
+        engine.stop();
+    }
+
+    public void testCommandsRunInOrderOnOneThread() throws InterruptedException {
+        final List<Integer> order = new ArrayList<Integer>();
+        final List<Thread> threads = new ArrayList<Thread>();
+        final CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 100; i++) {
+            final int command = i;
+            engine.post(new Runnable() {
+                public void run() {
+                    order.add(command);
+                    threads.add(Thread.currentThread());
+                }
+            });
+        }
+        engine.post(new Runnable() {
+            public void run() {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i).intValue());
+            assertSame(threads.get(0), threads.get(i));
+        }
+        assertNotSame(Thread.currentThread(), threads.get(0));
+    }
+
+    public void testFailedCommandDoesNotStopTheEngine() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+        final Throwable[] reported = new Throwable[1];
+        engine.post(new Runnable() {
+            public void run() {
+                Thread.currentThread().setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+                    public void uncaughtException(final Thread t, final Throwable e) {
+                        reported[0] = e;
+                    }
+                });
+            }
+        });
+        engine.post(new Runnable() {
+            public void run() {
+                throw new IllegalStateException("failed");
+            }
+        });
+        engine.post(new Runnable() {
+            public void run() {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals("failed", reported[0].getMessage());
+    }
+}
@@ -0,0 +1,334 @@
+package edu.ncsu.monopoly.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+
+public class GameServerTest extends TestCase {
+
+    private GameServer server;
+    private Thread thread;
+    private InetSocketAddress address;
+
+    /**
+     * Server under test.
+     *
+     * @param address address to listen on
+     */
+    protected GameServer newServer(InetSocketAddress address) throws IOException {
+        return new GameServer(address, 42);
+    }
+
+    protected void setUp() throws IOException {
+        server = newServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        thread = new Thread(server, "game-server");
+        thread.start();
+    }
+
+    protected void tearDown() throws InterruptedException {
+        server.close();
+        thread.join(10000);
+        assertFalse(thread.isAlive());
+    }
+
+    /**
+     * Client counting the changes of its buttons, so a test can wait for the answer to a command.
+     */
+    private static class TestClient extends GameClient {
+        private int changes;
+        private int traded = -1;
+        private int errors;
+
+        TestClient(InetSocketAddress address) throws IOException {
+            super(GameClient.connect(address).getChannel());
+        }
+
+        protected void onButtons(int buttons) {
+            changes++;
+        }
+
+        protected void onTraded(boolean accepted) {
+            traded = accepted ? 1 : 0;
+        }
+
+        protected void onError(String error) {
+            errors++;
+        }
+
+        void readMore() throws IOException {
+            assertTrue(read() >= 0);
+        }
+
+        void awaitStart() throws IOException {
+            while (!isPlaying()) {
+                readMore();
+            }
+        }
+
+        void awaitTurn() throws IOException {
+            while (getButtons() == 0) {
+                readMore();
+            }
+        }
+
+        /**
+         * Wait for the refusal of the command just sent.
+         */
+        String awaitError() throws IOException {
+            int before = errors;
+            while (errors == before) {
+                readMore();
+            }
+            return getLastError();
+        }
+
+        void awaitOver() throws IOException {
+            while (isPlaying()) {
+                readMore();
+            }
+        }
+
+        /**
+         * Click the buttons of a turn in the order of the scripted players of {@link LoadGenerator}.
+         */
+        void playTurn() throws IOException {
+            while (isPlaying() && getButtons() != 0) {
+                int before = changes;
+                if (isEnabled(Protocol.BUTTON_GET_OUT_OF_JAIL)) {
+                    getOutOfJail();
+                } else if (isEnabled(Protocol.BUTTON_DRAW_CARD)) {
+                    drawCard();
+                } else if (isEnabled(Protocol.BUTTON_PURCHASE)) {
+                    purchase();
+                } else if (isEnabled(Protocol.BUTTON_ROLL)) {
+                    roll();
+                } else {
+                    assertTrue(isEnabled(Protocol.BUTTON_END_TURN));
+                    endTurn();
+                }
+                while (changes == before && isPlaying()) {
+                    readMore();
+                }
+            }
+        }
+    }
+
+    private TestClient[] startGame(int players) throws IOException {
+        TestClient[] clients = new TestClient[players];
+        for (int i = 0; i < players; i++) {
+            clients[i] = new TestClient(address);
+            clients[i].join("GameBoardFull", players, "Player " + (i + 1));
+            if (i < players - 1) {
+                // take the seats in order
+                clients[i].roll();
+                assertEquals("Not in a game", clients[i].awaitError());
+            }
+        }
+        for (int i = 0; i < players; i++) {
+            clients[i].awaitStart();
+            assertEquals(i, clients[i].getSeat());
+            assertEquals(players, clients[i].getNumberOfPlayers());
+            assertEquals("Player 1", clients[i].getName(0));
+        }
+        return clients;
+    }
+
+    private static void close(TestClient[] clients) throws IOException {
+        for (int i = 0; i < clients.length; i++) {
+            clients[i].close();
+        }
+    }
+
+    public void testStart() throws IOException {
+        TestClient[] clients = startGame(2);
+        try {
+            clients[0].awaitTurn();
+            assertTrue(clients[0].isEnabled(Protocol.BUTTON_ROLL));
+            assertTrue(clients[0].isEnabled(Protocol.BUTTON_TRADE));
+            assertEquals(0, clients[1].getButtons());
+            assertEquals(clients[0].getGame(), clients[1].getGame());
+            assertEquals(1, server.getGameCount());
+        } finally {
+            close(clients);
+        }
+    }
+
+    public void testTrade() throws IOException {
+        TestClient[] clients = startGame(2);
+        try {
+            TestClient buyer = clients[0];
+            TestClient seller = clients[1];
+            int cell = -1;
+            for (int turn = 0; cell < 0; turn++) {
+                assertTrue(turn < 100);
+                buyer.awaitTurn();
+                for (int i = 0; i < 40 && cell < 0; i++) {
+                    if (buyer.getOwner(i) == 1) {
+                        cell = i;
+                    }
+                }
+                if (cell < 0) {
+                    buyer.playTurn();
+                    seller.awaitTurn();
+                    seller.playTurn();
+                }
+            }
+            assertTrue(buyer.isEnabled(Protocol.BUTTON_TRADE));
+            int buyerMoney = buyer.getMoney(0);
+            int sellerMoney = buyer.getMoney(1);
+
+            buyer.trade(1, cell, 10);
+            while (seller.getOfferBuyer() < 0) {
+                seller.readMore();
+            }
+            assertEquals(0, seller.getOfferBuyer());
+            assertEquals(cell, seller.getOfferCell());
+            assertEquals(10, seller.getOfferAmount());
+
+            buyer.roll();
+            assertEquals("Waiting for the answer to the trade", buyer.awaitError());
+
+            seller.respond(true);
+            while (buyer.getOwner(cell) != 0) {
+                buyer.readMore();
+            }
+            assertEquals(1, buyer.traded);
+            assertEquals(buyerMoney - 10, buyer.getMoney(0));
+            assertEquals(sellerMoney + 10, buyer.getMoney(1));
+        } finally {
+            close(clients);
+        }
+    }
+
+    public void testRefusedCommands() throws IOException {
+        TestClient[] clients = startGame(2);
+        try {
+            clients[1].roll();
+            assertEquals("Not now", clients[1].awaitError());
+
+            clients[0].trade(1, 1, 10);
+            assertEquals("Cell 1 is not owned by Player 2", clients[0].awaitError());
+
+            clients[1].respond(true);
+            assertEquals("No offer to answer", clients[1].awaitError());
+
+            clients[0].join("GameBoardFull", 2, "Again");
+            assertEquals("Already joined", clients[0].awaitError());
+        } finally {
+            close(clients);
+        }
+    }
+
+    public void testJoinErrors() throws IOException {
+        TestClient client = new TestClient(address);
+        try {
+            client.roll();
+            assertEquals("Not in a game", client.awaitError());
+
+            client.join("NoSuchBoard", 2, "Player 1");
+            assertTrue(client.awaitError().startsWith("No board"));
+            client.join("GameBoardFull", 1, "Player 1");
+            assertTrue(client.awaitError().startsWith("Games take"));
+            client.join("GameBoardFull", 2, " ");
+            assertTrue(client.awaitError().startsWith("Names take"));
+        } finally {
+            client.close();
+        }
+    }
+
+    public void testLeaveTable() throws IOException {
+        TestClient leaving = new TestClient(address);
+        try {
+            leaving.join("GameBoardFull", 3, "Leaving");
+            leaving.leave();
+            leaving.roll();
+            assertEquals("Not in a game", leaving.awaitError());
+            TestClient[] clients = startGame(3);
+            close(clients);
+            assertFalse(leaving.isPlaying());
+        } finally {
+            leaving.close();
+        }
+    }
+
+    public void testResignAndDisconnect() throws IOException {
+        TestClient[] clients = startGame(2);
+        try {
+            clients[1].leave();
+            clients[0].awaitOver();
+            assertEquals(1, clients[0].getLastOver());
+            clients[1].awaitOver();
+
+            clients[0].join("GameBoardFull", 2, "Player 1");
+            clients[0].roll();
+            assertEquals("Not in a game", clients[0].awaitError());
+            clients[1].join("GameBoardFull", 2, "Player 2");
+            clients[0].awaitStart();
+            clients[1].awaitStart();
+            clients[0].close();
+            clients[1].awaitOver();
+            assertEquals(0, clients[1].getLastOver());
+            assertEquals(2, server.getGamesPlayed());
+            assertEquals(0, server.getGameCount());
+        } finally {
+            close(clients);
+        }
+    }
+
+    public void testMalformedFrame() throws IOException {
+        TestClient client = new TestClient(address);
+        try {
+            ByteBuffer frame = ByteBuffer.allocate(2);
+            client.getChannel().write(frame);
+            assertEquals(-1, client.read());
+        } finally {
+            client.close();
+        }
+    }
+
+    public void testMalformedCommandEndsOnlyItsGame() throws IOException {
+        TestClient[] clients = startGame(2);
+        TestClient[] others = startGame(2);
+        try {
+            clients[0].awaitTurn();
+            ByteBuffer frame = ByteBuffer.allocate(3);
+            frame.putShort((short) 1).put(Protocol.BUY_HOUSE).flip();
+            clients[0].getChannel().write(frame);
+            clients[1].awaitOver();
+            assertEquals(0, clients[1].getLastOver());
+            assertEquals(1, server.getGamesPlayed());
+
+            others[0].awaitTurn();
+            others[0].roll();
+            others[0].playTurn();
+            assertTrue(others[1].isPlaying());
+            assertEquals(1, server.getGameCount());
+        } finally {
+            close(clients);
+            close(others);
+        }
+    }
+
+    public void testLoadGenerator() throws IOException {
+        LoadGenerator generator = new LoadGenerator(address, "GameBoardFull", 2, 8, 20, 3, 30);
+        LoadGenerator.Result result = generator.run(60000);
+        assertEquals(12, result.getGames());
+        assertEquals(0, result.getErrors());
+        assertTrue(result.getCommands() > 0);
+        assertTrue(result.getMessages() > result.getCommands());
+        assertEquals(12, server.getGamesPlayed());
+    }
+
+    public void testUnevenTables() {
+        try {
+            new LoadGenerator(address, "GameBoardFull", 3, 8, 0, 1, 10);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package edu.ncsu.monopoly.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * The tests of {@link GameServerTest} with every game on a platform thread of its own.
+ */
+public class ThreadedGameServerTest extends GameServerTest {
+
+    protected GameServer newServer(InetSocketAddress address) throws IOException {
+        return new GameServer(address, 42, Execution.PLATFORM_POOL, 8);
+    }
+
+    public void testSmallPool() throws Exception {
+        GameServer pool = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 7,
+                Execution.PLATFORM_POOL, 1);
+        Thread thread = new Thread(pool, "small-pool");
+        thread.start();
+        try {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), pool.getPort());
+            LoadGenerator.Result result = new LoadGenerator(address, "GameBoardFull", 2, 8, 0, 2, 20).run(60000);
+            assertEquals(8, result.getGames());
+            assertEquals(0, result.getErrors());
+        } finally {
+            pool.close();
+            thread.join(10000);
+        }
+    }
+
+    public void testVirtualThreads() throws Exception {
+        InetSocketAddress any = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        if (!Execution.isVirtualThreadsSupported()) {
+            try {
+                new GameServer(any, 7, Execution.VIRTUAL_THREADS, 0);
+                fail();
+            } catch (UnsupportedOperationException e) {
+                // expected before Java 21
+            }
+            return;
+        }
+        GameServer virtual = new GameServer(any, 7, Execution.VIRTUAL_THREADS, 0);
+        Thread thread = new Thread(virtual, "virtual");
+        thread.start();
+        try {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), virtual.getPort());
+            LoadGenerator.Result result = new LoadGenerator(address, "GameBoardFull", 2, 40, 0, 2, 20).run(60000);
+            assertEquals(40, result.getGames());
+            assertEquals(0, result.getErrors());
+        } finally {
+            virtual.close();
+            thread.join(10000);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.EventJournal;
+import edu.ncsu.monopoly.EventJournalReader;
+import edu.ncsu.monopoly.GameBoardFull;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.GameSnapshot;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+
+public class GameReplayTest extends TestCase {
+    private static final long SEED = 11;
+
+    private File file;
+    private SimulatedGame game;
+    private GameResult result;
+    private EventJournalReader reader;
+
+    protected void setUp() throws Exception {
+        file = File.createTempFile("replay", ".bin");
+        file.deleteOnExit();
+        game = new SimulatedGame(BoardFactory.forClass(GameBoardFull.class), 3, 600);
+        EventJournal journal = new EventJournal(file);
+        result = game.play(SEED, journal);
+        journal.close();
+        reader = new EventJournalReader(file);
+    }
+
+    protected void tearDown() throws Exception {
+        reader.close();
+        file.delete();
+    }
+
+    public void testReplayToEnd() throws IOException {
+        GameReplay replay = new GameReplay(game.newGame(SEED), reader, 50);
+        replay.seekEnd();
+        GameMaster master = replay.getGameMaster();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(result.getNetWorth(i), SimulatedGame.netWorth(master.getPlayer(i)));
+        }
+        assertEquals(replay.getLastTurn() / 50 + 1, replay.getCheckpointCount());
+        assertEquals(reader.getCount(), replay.getAppliedCount());
+    }
+
+    public void testSeekFromCheckpoint() throws IOException {
+        GameReplay replay = new GameReplay(game.newGame(SEED), reader, 50);
+        int last = replay.getLastTurn();
+        assertTrue(last > 200);
+        replay.seek(120);
+        GameSnapshot at120 = GameSnapshot.capture(replay.getGameMaster());
+        replay.seekEnd();
+
+        long applied = replay.getAppliedCount();
+        replay.seek(120);
+        assertEquals(120, replay.getTurn());
+        assertEquals(at120, GameSnapshot.capture(replay.getGameMaster()));
+        long fromCheckpoint = replay.getAppliedCount() - applied;
+        assertTrue(fromCheckpoint + " records", fromCheckpoint < applied / 5);
+
+        GameReplay fresh = new GameReplay(game.newGame(SEED), reader, 1000);
+        fresh.seek(120);
+        assertEquals(at120, GameSnapshot.capture(fresh.getGameMaster()));
+        fresh.seek(0);
+        assertEquals(GameSnapshot.capture(game.newGame(SEED)), GameSnapshot.capture(fresh.getGameMaster()));
+    }
+
+    public void testWrongGame() throws IOException {
+        GameReplay replay = new GameReplay(game.newGame(SEED + 1), reader, 50);
+        try {
+            replay.seekEnd();
+            fail();
+        } catch (IllegalStateException e) {
+            // expected: the decks are in another order
+        }
+    }
+
+    public void testNoSuchTurn() throws IOException {
+        GameReplay replay = new GameReplay(game.newGame(SEED), reader, 50);
+        try {
+            replay.seek(replay.getLastTurn() + 1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.Card;
+import edu.ncsu.monopoly.CardCell;
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.Die;
+import edu.ncsu.monopoly.FreeParkingCell;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameBoardFull;
+import edu.ncsu.monopoly.GameState;
+import edu.ncsu.monopoly.GoToJailCell;
+import edu.ncsu.monopoly.JailCard;
+import edu.ncsu.monopoly.JailCell;
+import edu.ncsu.monopoly.MoneyCard;
+import edu.ncsu.monopoly.MovePlayerCard;
+import edu.ncsu.monopoly.SimpleGameBoard;
+import junit.framework.TestCase;
+
+public class LandingProbabilitiesTest extends TestCase {
+
+    protected void setUp() throws Exception {
+        LandingProbabilities.clearCache();
+    }
+
+    public void testUniformWithoutJailOrCards() {
+        LandingProbabilities probabilities =
+                LandingProbabilities.forBoard(new SimpleGameBoard(), LandingProbabilities.JailPolicy.PAY);
+        assertEquals(6, probabilities.getCellCount());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(1 / 6.0, probabilities.getProbability(i), 1e-9);
+        }
+        assertEquals(0.0, probabilities.getInJailProbability());
+    }
+
+    public void testSteadyState() {
+        for (LandingProbabilities.JailPolicy policy : LandingProbabilities.JailPolicy.values()) {
+            CompiledBoard board = new CompiledBoard(new GameBoardFull());
+            TransitionMatrix matrix = new TransitionMatrix(board, policy);
+            LandingProbabilities probabilities = LandingProbabilities.forBoard(board, policy);
+            assertStationary(matrix, probabilities);
+            assertEquals(CompiledBoard.CELL_GO_TO_JAIL, board.getKind(30));
+            assertEquals(0.0, probabilities.getProbability(30));
+            assertTrue(probabilities.getProbability(board.getJailIndex()) > 2.0 / 40);
+        }
+    }
+
+    public void testStayingInJail() {
+        GameBoard board = new GameBoardFull();
+        int jail = board.queryCellIndex("Jail");
+        LandingProbabilities pay = LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.PAY);
+        LandingProbabilities stay = LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.STAY);
+        assertTrue(stay.getInJailProbability() > 0);
+        assertTrue(stay.getInJailProbability() < stay.getProbability(jail));
+        assertTrue(stay.getProbability(jail) > pay.getProbability(jail));
+    }
+
+    public void testSameAsSimulation() {
+        CompiledBoard board = new CompiledBoard(new GameBoardFull());
+        LandingProbabilities probabilities =
+                LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.PAY);
+        GameState state = new GameState(board, 1, Integer.MAX_VALUE / 2);
+        state.shuffleCards(7);
+        Die first = new Die(1);
+        Die second = new Die(2);
+        int turns = 400000;
+        int[] landings = new int[board.getCellCount()];
+        for (int turn = 0; turn < turns; turn++) {
+            if (state.isInJail(0)) {
+                state.getOutOfJail(0);
+            }
+            state.move(0, first.getRoll() + second.getRoll());
+            if (state.canDrawCard(0)) {
+                state.drawCard(0);
+            }
+            state.playAction(0, first, second);
+            landings[state.getPosition(0)]++;
+        }
+        for (int i = 0; i < landings.length; i++) {
+            assertEquals(board.getName(i), probabilities.getProbability(i), landings[i] / (double) turns, 0.002);
+        }
+    }
+
+    public void testLargeBoard() {
+        GameBoard board = generate(5000);
+        long start = System.nanoTime();
+        LandingProbabilities probabilities = LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.STAY);
+        long millis = (System.nanoTime() - start) / 1000000;
+        assertTrue(probabilities.getSweeps() + " sweeps", probabilities.getSweeps() < 200);
+        assertTrue(millis + " ms", millis < 2000);
+        assertStationary(new TransitionMatrix(new CompiledBoard(board), LandingProbabilities.JailPolicy.STAY),
+                probabilities);
+    }
+
+    public void testCachedByStructure() {
+        GameBoard board = new GameBoardFull();
+        LandingProbabilities probabilities = LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.PAY);
+        GameBoard shuffled = new GameBoardFull();
+        shuffled.shuffleCards(3);
+        assertSame(probabilities, LandingProbabilities.forBoard(shuffled, LandingProbabilities.JailPolicy.PAY));
+        assertNotSame(probabilities, LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.STAY));
+        assertNotSame(probabilities, LandingProbabilities.forBoard(generate(40),
+                LandingProbabilities.JailPolicy.PAY));
+        assertEquals(3, LandingProbabilities.getCacheSize());
+    }
+
+    public void testCacheKeepsRecentStructures() {
+        LandingProbabilities first = LandingProbabilities.forBoard(new GameBoardFull(),
+                LandingProbabilities.JailPolicy.PAY);
+        for (int i = 0; i < LandingProbabilities.CACHE_SIZE + 4; i++) {
+            LandingProbabilities.forBoard(generate(40 + i), LandingProbabilities.JailPolicy.PAY);
+            assertSame(first, LandingProbabilities.forBoard(new GameBoardFull(), LandingProbabilities.JailPolicy.PAY));
+        }
+        assertEquals(LandingProbabilities.CACHE_SIZE, LandingProbabilities.getCacheSize());
+        LandingProbabilities.forBoard(generate(40), LandingProbabilities.JailPolicy.PAY);
+        assertEquals(LandingProbabilities.CACHE_SIZE, LandingProbabilities.getCacheSize());
+    }
+
+    public void testNoJail() {
+        GameBoard board = new GameBoard();
+        board.addCell(new FreeParkingCell());
+        board.addCell(new GoToJailCell());
+        try {
+            LandingProbabilities.forBoard(board, LandingProbabilities.JailPolicy.PAY);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Board of <code>size</code> cells with a jail and a go to jail cell every 500 cells and a card cell every 7.
+     */
+    private static GameBoard generate(final int size) {
+        GameBoard board = new GameBoard();
+        for (int i = 1; i < size; i++) {
+            if (i % 500 == 10) {
+                board.addCell(new JailCell());
+            } else if (i % 500 == 30) {
+                board.addCell(new GoToJailCell());
+            } else if (i % 7 == 0) {
+                board.addCell(new CardCell(i % 14 == 0 ? Card.TYPE_CC : Card.TYPE_CHANCE, "Card " + i));
+            } else {
+                board.addCell(new FreeParkingCell());
+            }
+        }
+        board.addCard(new MoneyCard("Win $50", 50, Card.TYPE_CC));
+        board.addCard(new JailCard(Card.TYPE_CC));
+        board.addCard(new MovePlayerCard("Go", Card.TYPE_CC));
+        board.addCard(new MoneyCard("Lose $50", -50, Card.TYPE_CHANCE));
+        board.addCard(new MovePlayerCard("Card 21", Card.TYPE_CHANCE));
+        board.addCard(new MovePlayerCard("Go to Jail", Card.TYPE_CHANCE));
+        return board;
+    }
+
+    private static void assertStationary(final TransitionMatrix matrix, final LandingProbabilities probabilities) {
+        double total = 0;
+        for (int i = 0; i < probabilities.getCellCount(); i++) {
+            total += probabilities.getProbability(i);
+        }
+        assertEquals(1.0, total, 1e-9);
+        double residual = 0;
+        for (int j = 0; j < matrix.getStateCount(); j++) {
+            double in = 0;
+            for (int k = matrix.getColumnStart(j); k < matrix.getColumnStart(j + 1); k++) {
+                in += probabilities.getStateProbability(matrix.getSource(k)) * matrix.getProbability(k);
+            }
+            residual += Math.abs(in - probabilities.getStateProbability(j));
+        }
+        assertEquals(0.0, residual, 1e-9);
+    }
+}
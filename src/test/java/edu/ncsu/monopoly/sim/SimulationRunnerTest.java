@@ -0,0 +1,54 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.GameBoardFull;
+import edu.ncsu.monopoly.GameMaster;
+import edu.ncsu.monopoly.SimpleGameBoard;
+import junit.framework.TestCase;
+
+public class SimulationRunnerTest extends TestCase {
+
+    public void testGameEndsOnBankruptcyOrTurnLimit() {
+        SimulatedGame game = new SimulatedGame(BoardFactory.forClass(GameBoardFull.class), 2, 500);
+        for (int i = 0; i < 20; i++) {
+            GameResult result = game.play();
+            assertTrue(result.getTurns() <= 500);
+            if (result.isBankruptcy()) {
+                assertTrue(result.getWinner() != result.getBankruptSeat());
+            } else {
+                assertEquals(500, result.getTurns());
+            }
+        }
+    }
+
+    public void testGameDoesNotTouchSharedInstance() {
+        GameMaster shared = GameMaster.instance();
+        new SimulatedGame(BoardFactory.forClass(SimpleGameBoard.class), 3, 50).play();
+        assertSame(shared, GameMaster.instance());
+    }
+
+    public void testRunAcrossThreads() {
+        SimulationRunner runner = new SimulationRunner(BoardFactory.forClass(GameBoardFull.class), 4, 300, 3);
+        SimulationStats stats = runner.run(100);
+        assertEquals(100, stats.getGames());
+        long wins = 0;
+        for (int i = 0; i < 4; i++) {
+            wins += stats.getWins(i);
+        }
+        assertEquals(100, wins);
+        assertTrue(stats.getAverageTurns() > 0);
+        assertTrue(stats.getMaxTurns() <= 300);
+        assertTrue(stats.getGamesPerSecond() > 0);
+    }
+
+    public void testRunDoesNotDependOnThreadCount() {
+        BoardFactory boardFactory = BoardFactory.forClass(GameBoardFull.class);
+        SimulationStats one = new SimulationRunner(Engine.GAME_MASTER, boardFactory, 3, 300, 1, 99).run(60);
+        SimulationStats three = new SimulationRunner(Engine.GAME_STATE, boardFactory, 3, 300, 3, 99).run(60);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(one.getWins(i), three.getWins(i));
+        }
+        assertEquals(one.getAverageTurns(), three.getAverageTurns());
+        assertEquals(one.getBankruptcies(), three.getBankruptcies());
+        assertEquals(one.getMaxTurns(), three.getMaxTurns());
+    }
+}
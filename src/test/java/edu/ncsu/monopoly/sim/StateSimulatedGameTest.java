@@ -0,0 +1,104 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameBoard;
+import edu.ncsu.monopoly.GameBoard14;
+import edu.ncsu.monopoly.GameBoardFull;
+import edu.ncsu.monopoly.GameView;
+import edu.ncsu.monopoly.SimpleGameBoard;
+import junit.framework.TestCase;
+
+public class StateSimulatedGameTest extends TestCase {
+
+    public void testSameOutcomeAsGameMasterFull() {
+        assertSameOutcomes(GameBoardFull.class, 4, 1000);
+    }
+
+    public void testSameOutcomeAsGameMaster14() {
+        assertSameOutcomes(GameBoard14.class, 3, 300);
+    }
+
+    public void testSameOutcomeAsGameMasterSimple() {
+        assertSameOutcomes(SimpleGameBoard.class, 2, 200);
+    }
+
+    public void testSameOutcomeWithStrategies() {
+        final int[] trades = new int[1];
+        final Strategy trader = new TraderStrategy(200);
+        Strategy counting = new Strategy() {
+            public boolean payBail(GameView game, int player, int turnsInJail) {
+                return trader.payBail(game, player, turnsInJail);
+            }
+
+            public boolean purchase(GameView game, int player, int cell) {
+                return trader.purchase(game, player, cell);
+            }
+
+            public int buyHouses(GameView game, int player, int group) {
+                return trader.buyHouses(game, player, group);
+            }
+
+            public int chooseTrade(GameView game, int player) {
+                return trader.chooseTrade(game, player);
+            }
+
+            public int offer(GameView game, int player, int cell) {
+                return trader.offer(game, player, cell);
+            }
+
+            public boolean acceptTrade(GameView game, int player, int buyer, int cell, int amount) {
+                boolean accepted = trader.acceptTrade(game, player, buyer, cell, amount);
+                if (accepted) {
+                    trades[0]++;
+                }
+                return accepted;
+            }
+        };
+        Strategy[] strategies = {trader, counting, new CautiousStrategy(300), new ScriptedStrategy()};
+        BoardFactory boardFactory = BoardFactory.forClass(GameBoardFull.class);
+        assertSameOutcomes(new SimulatedGame(boardFactory, strategies, 1000),
+                new StateSimulatedGame(new CompiledBoard(boardFactory.newGameBoard()), strategies, 1000), 4);
+        assertTrue(trades[0] > 0);
+        assertEquals(0, trades[0] % 2);
+    }
+
+    public void testReplayFromSeed() {
+        StateSimulatedGame game = new StateSimulatedGame(new CompiledBoard(new GameBoardFull()), 3, 500);
+        GameResult result = game.play();
+        game.play();
+        GameResult replay = game.play(result.getSeed());
+        assertEquals(result.getTurns(), replay.getTurns());
+        assertEquals(result.getWinner(), replay.getWinner());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(result.getNetWorth(i), replay.getNetWorth(i));
+        }
+    }
+
+    public void testRunAcrossThreads() {
+        SimulationRunner runner = new SimulationRunner(Engine.GAME_STATE,
+                BoardFactory.forClass(GameBoardFull.class), 2, 300, 2);
+        SimulationStats stats = runner.run(100);
+        assertEquals(100, stats.getGames());
+        assertEquals(100, stats.getWins(0) + stats.getWins(1));
+    }
+
+    private void assertSameOutcomes(final Class<? extends GameBoard> boardClass, final int players,
+                                    final int maxTurns) {
+        BoardFactory boardFactory = BoardFactory.forClass(boardClass);
+        assertSameOutcomes(new SimulatedGame(boardFactory, players, maxTurns),
+                new StateSimulatedGame(new CompiledBoard(boardFactory.newGameBoard()), players, maxTurns), players);
+    }
+
+    private void assertSameOutcomes(final SimulatedGame master, final StateSimulatedGame state, final int players) {
+        for (long seed = 0; seed < 50; seed++) {
+            GameResult expected = master.play(seed);
+            GameResult actual = state.play(seed);
+            assertEquals("winner, seed " + seed, expected.getWinner(), actual.getWinner());
+            assertEquals("turns, seed " + seed, expected.getTurns(), actual.getTurns());
+            assertEquals("bankrupt, seed " + seed, expected.getBankruptSeat(), actual.getBankruptSeat());
+            for (int i = 0; i < players; i++) {
+                assertEquals("net worth, seed " + seed, expected.getNetWorth(i), actual.getNetWorth(i));
+            }
+        }
+    }
+}
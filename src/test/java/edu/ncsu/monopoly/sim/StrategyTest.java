@@ -0,0 +1,107 @@
+package edu.ncsu.monopoly.sim;
+
+import java.lang.management.ManagementFactory;
+
+import edu.ncsu.monopoly.CompiledBoard;
+import edu.ncsu.monopoly.GameBoardFull;
+import edu.ncsu.monopoly.GameState;
+import junit.framework.TestCase;
+
+public class StrategyTest extends TestCase {
+
+    private CompiledBoard board;
+    private GameState state;
+    private int group;
+    private int last;
+
+    protected void setUp() {
+        board = new CompiledBoard(new GameBoardFull());
+        state = new GameState(board, 3, 1500);
+        group = board.getGroup(1);
+        for (int i = 0; i < board.getGroupSize(group) - 1; i++) {
+            buy(0, board.getGroupCell(group, i));
+        }
+        last = board.getGroupCell(group, board.getGroupSize(group) - 1);
+        buy(1, last);
+    }
+
+    private void buy(int player, int cell) {
+        state.move(player, (cell - state.getPosition(player) + 40) % 40);
+        state.purchase(player);
+    }
+
+    public void testScripted() {
+        Strategy scripted = new ScriptedStrategy();
+        assertTrue(scripted.payBail(state, 0, 0));
+        assertTrue(scripted.purchase(state, 2, 5));
+        assertEquals(-1, scripted.chooseTrade(state, 0));
+        assertFalse(scripted.acceptTrade(state, 1, 0, last, 10000));
+    }
+
+    public void testTraderCompletesMonopoly() {
+        Strategy trader = new TraderStrategy(200);
+        assertEquals(last, trader.chooseTrade(state, 0));
+        int amount = trader.offer(state, 0, last);
+        assertEquals(TraderStrategy.PREMIUM * board.getPrice(last), amount);
+        assertTrue(trader.acceptTrade(state, 1, 0, last, amount));
+        assertFalse(trader.acceptTrade(state, 1, 0, last, amount - 1));
+        assertEquals(-1, trader.chooseTrade(state, 1));
+
+        state.trade(0, 1, last, amount);
+        assertEquals(-1, trader.chooseTrade(state, 0));
+        int houses = trader.buyHouses(state, 0, group);
+        assertTrue(houses > 1);
+        state.purchaseHouse(0, group, houses);
+        assertTrue(state.getMoney(0) >= 200);
+    }
+
+    public void testTraderKeepsReserve() {
+        Strategy trader = new TraderStrategy(state.getMoney(0));
+        assertEquals(-1, trader.offer(state, 0, last));
+        assertEquals(-1, trader.chooseTrade(state, 0));
+    }
+
+    public void testCautious() {
+        Strategy cautious = new CautiousStrategy(1400);
+        assertFalse(cautious.purchase(state, 2, 5));
+        assertTrue(new CautiousStrategy(0).purchase(state, 2, 5));
+        int price = board.getPrice(last);
+        assertFalse(cautious.acceptTrade(state, 1, 0, last, 10 * price));
+        assertTrue(cautious.acceptTrade(state, 1, 2, last, 2 * price));
+        assertFalse(cautious.acceptTrade(state, 1, 2, last, 2 * price - 1));
+
+        assertTrue(cautious.payBail(state, 2, 0));
+        state.trade(0, 1, last, 0);
+        state.purchaseHouse(0, group, 1);
+        assertFalse(cautious.payBail(state, 2, 0));
+        assertTrue(cautious.payBail(state, 0, 0));
+    }
+
+    public void testNegativeReserve() {
+        try {
+            new CautiousStrategy(-1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testGamesAllocateOnlyResults() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        StateSimulatedGame game = new StateSimulatedGame(board, new Strategy[]{new TraderStrategy(200),
+                new CautiousStrategy(300), new ScriptedStrategy()}, 1000);
+        for (long seed = 0; seed < 100; seed++) {
+            game.play(seed);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (long seed = 0; seed < 100; seed++) {
+            game.play(seed);
+        }
+        long perGame = (threads.getThreadAllocatedBytes(threadId) - before) / 100;
+        assertTrue(perGame + " bytes per game", perGame < 256);
+    }
+}
@@ -0,0 +1,81 @@
+package edu.ncsu.monopoly.sim;
+
+import edu.ncsu.monopoly.GameBoardFull;
+import junit.framework.TestCase;
+
+public class TournamentTest extends TestCase {
+
+    private static Tournament newTournament(Engine engine, int threads, int entrants) {
+        Tournament tournament = new Tournament(engine, BoardFactory.forClass(GameBoardFull.class), 300, threads, 7);
+        Strategy[] strategies = {new ScriptedStrategy(), new TraderStrategy(200), new CautiousStrategy(300),
+                new TraderStrategy(500), new CautiousStrategy(100)};
+        for (int i = 0; i < entrants; i++) {
+            tournament.addEntrant("entrant " + i, strategies[i]);
+        }
+        return tournament;
+    }
+
+    public void testRoundRobin() {
+        TournamentResult result = newTournament(Engine.GAME_STATE, 2, 3).roundRobin(40);
+        long wins = 0;
+        double points = 0;
+        for (int i = 0; i < 3; i++) {
+            EntrantStats stats = result.getStats(i);
+            assertEquals(80, stats.getGames());
+            assertEquals(2, stats.getMatches());
+            wins += stats.getWins();
+            points += stats.getPoints();
+            assertTrue(stats.getWinRateLow() <= stats.getWinRate());
+            assertTrue(stats.getWinRateHigh() >= stats.getWinRate());
+            assertTrue(stats.getWinRateLow() >= 0 && stats.getWinRateHigh() <= 1);
+            assertTrue(stats.getAverageNetWorth() > 0);
+            assertTrue(stats.getNetWorthMargin() > 0);
+        }
+        assertEquals(120, wins);
+        assertEquals(3.0, points);
+        assertEquals(40, result.getWins(0, 1) + result.getWins(1, 0));
+        int[] ranking = result.getRanking();
+        assertTrue(result.getStats(ranking[0]).getPoints() >= result.getStats(ranking[2]).getPoints());
+        assertTrue(result.report().contains("entrant 2"));
+    }
+
+    public void testResultDoesNotDependOnThreadCount() {
+        TournamentResult one = newTournament(Engine.GAME_MASTER, 1, 3).roundRobin(600);
+        TournamentResult four = newTournament(Engine.GAME_STATE, 4, 3).roundRobin(600);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(one.getStats(i).getWins(), four.getStats(i).getWins());
+            assertEquals(one.getStats(i).getAverageNetWorth(), four.getStats(i).getAverageNetWorth());
+            assertEquals(one.getStats(i).getNetWorthMargin(), four.getStats(i).getNetWorthMargin());
+            assertEquals(one.getStats(i).getPoints(), four.getStats(i).getPoints());
+        }
+    }
+
+    public void testSwiss() {
+        TournamentResult result = newTournament(Engine.GAME_STATE, 3, 5).swiss(3, 20);
+        int matches = 0;
+        for (int i = 0; i < 5; i++) {
+            // two matches each round, and a bye
+            assertEquals(3, result.getStats(i).getMatches());
+            matches += result.getStats(i).getMatches();
+            for (int j = 0; j < 5; j++) {
+                assertTrue(i == j || result.getWins(i, j) + result.getWins(j, i) <= 20);
+            }
+        }
+        assertEquals(15, matches);
+
+        TournamentResult again = newTournament(Engine.GAME_STATE, 1, 5).swiss(3, 20);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(result.getStats(i).getWins(), again.getStats(i).getWins());
+            assertEquals(result.getStats(i).getPoints(), again.getStats(i).getPoints());
+        }
+    }
+
+    public void testNeedsTwoEntrants() {
+        try {
+            newTournament(Engine.GAME_STATE, 1, 1).roundRobin(10);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+}